@@ -0,0 +1,46 @@
+package com.kh.magamGG.domain.agency.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 에이전시 월별 마감 준수 집계 (마감 월 기준 KANBAN_CARD 수)
+ * 카드 상태/마감일 변경 시 증분 갱신, 야간 백필로 재계산
+ */
+@Entity
+@Table(name = "AGENCY_COMPLIANCE_MONTHLY",
+        uniqueConstraints = @UniqueConstraint(name = "UK_AGENCY_COMPLIANCE_MONTHLY", columnNames = {"AGENCY_NO", "ROLLUP_MONTH"}))
+@Getter
+@NoArgsConstructor
+public class AgencyComplianceMonthly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "AGENCY_COMPLIANCE_MONTHLY_NO")
+    private Long agencyComplianceMonthlyNo;
+
+    @Column(name = "AGENCY_NO", nullable = false)
+    private Long agencyNo;
+
+    /** 마감 월 (yyyy-MM) */
+    @Column(name = "ROLLUP_MONTH", nullable = false, length = 7)
+    private String rollupMonth;
+
+    /** 해당 월 마감 카드 전체 수 */
+    @Column(name = "TOTAL_COUNT", nullable = false)
+    private Long totalCount;
+
+    /** 완료(Y) 카드 수 */
+    @Column(name = "COMPLETED_COUNT", nullable = false)
+    private Long completedCount;
+
+    /** 미완료(N/D) 카드 수 — 마감일이 지난 달이면 지연 건수 */
+    @Column(name = "LATE_COUNT", nullable = false)
+    private Long lateCount;
+
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+}
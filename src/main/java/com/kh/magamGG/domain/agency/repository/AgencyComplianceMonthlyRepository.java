@@ -0,0 +1,79 @@
+package com.kh.magamGG.domain.agency.repository;
+
+import com.kh.magamGG.domain.agency.entity.AgencyComplianceMonthly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface AgencyComplianceMonthlyRepository extends JpaRepository<AgencyComplianceMonthly, Long> {
+
+    /** 에이전시 월별 집계 조회 (fromMonth ~ toMonth, yyyy-MM 문자열 비교) */
+    List<AgencyComplianceMonthly> findByAgencyNoAndRollupMonthBetweenOrderByRollupMonthAsc(
+            Long agencyNo, String fromMonth, String toMonth);
+
+    /**
+     * 월별 집계 증분 반영 (없으면 생성, 있으면 누적). delta는 음수 가능.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO agency_compliance_monthly " +
+           "(agency_no, rollup_month, total_count, completed_count, late_count, updated_at) " +
+           "VALUES (:agencyNo, :rollupMonth, :totalDelta, :completedDelta, :lateDelta, NOW()) " +
+           "ON DUPLICATE KEY UPDATE " +
+           "total_count = total_count + VALUES(total_count), " +
+           "completed_count = completed_count + VALUES(completed_count), " +
+           "late_count = late_count + VALUES(late_count), " +
+           "updated_at = NOW()", nativeQuery = true)
+    int upsertDelta(@Param("agencyNo") Long agencyNo,
+                    @Param("rollupMonth") String rollupMonth,
+                    @Param("totalDelta") long totalDelta,
+                    @Param("completedDelta") long completedDelta,
+                    @Param("lateDelta") long lateDelta);
+
+    /**
+     * KANBAN_CARD 전체로부터 에이전시 월별 집계 재계산 (백필).
+     * 프로젝트 참여 회원의 소속 에이전시 기준. 키(에이전시, 월)별로 절대값을 덮어쓰므로
+     * 전체 삭제 없이 행 단위 잠금만 잡음 (증분 반영과 동시에 실행돼도 교착·유실 범위가 행 하나로 제한)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO agency_compliance_monthly " +
+           "(agency_no, rollup_month, total_count, completed_count, late_count, updated_at) " +
+           "SELECT pa.agency_no, DATE_FORMAT(kc.kanban_card_ended_at, '%Y-%m'), COUNT(*), " +
+           "SUM(CASE WHEN kc.kanban_card_status = 'Y' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN kc.kanban_card_status = 'Y' THEN 0 ELSE 1 END), NOW() " +
+           "FROM kanban_card kc " +
+           "JOIN kanban_board kb ON kb.kanban_board_no = kc.board_no " +
+           "JOIN (SELECT DISTINCT pm.project_no, m.agency_no FROM project_member pm " +
+           "      JOIN member m ON m.member_no = pm.member_no WHERE m.agency_no IS NOT NULL) pa " +
+           "ON pa.project_no = kb.project_no " +
+           "WHERE kc.kanban_card_ended_at IS NOT NULL " +
+           "GROUP BY pa.agency_no, DATE_FORMAT(kc.kanban_card_ended_at, '%Y-%m') " +
+           "ON DUPLICATE KEY UPDATE " +
+           "total_count = VALUES(total_count), " +
+           "completed_count = VALUES(completed_count), " +
+           "late_count = VALUES(late_count), " +
+           "updated_at = NOW()", nativeQuery = true)
+    int upsertRollupFromKanbanCards();
+
+    /**
+     * 원본 카드가 더 이상 없는 (에이전시, 월) 집계를 0으로 (백필에서 덮어쓰지 못한 키 정리).
+     * 행을 지우지 않으므로 같은 키에 대한 증분 반영과 충돌해도 행이 사라지지 않음
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE agency_compliance_monthly acm " +
+           "SET acm.total_count = 0, acm.completed_count = 0, acm.late_count = 0, acm.updated_at = NOW() " +
+           "WHERE (acm.total_count <> 0 OR acm.completed_count <> 0 OR acm.late_count <> 0) " +
+           "AND NOT EXISTS (SELECT 1 FROM kanban_card kc " +
+           "  JOIN kanban_board kb ON kb.kanban_board_no = kc.board_no " +
+           "  JOIN project_member pm ON pm.project_no = kb.project_no " +
+           "  JOIN member m ON m.member_no = pm.member_no " +
+           "  WHERE m.agency_no = acm.agency_no " +
+           "  AND kc.kanban_card_ended_at IS NOT NULL " +
+           "  AND DATE_FORMAT(kc.kanban_card_ended_at, '%Y-%m') = acm.rollup_month)", nativeQuery = true)
+    int zeroOrphanedRollups();
+}
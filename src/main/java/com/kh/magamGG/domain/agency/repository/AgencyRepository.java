@@ -2,11 +2,16 @@ package com.kh.magamGG.domain.agency.repository;
 
 import com.kh.magamGG.domain.agency.entity.Agency;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface AgencyRepository extends JpaRepository<Agency, Long> {
     Optional<Agency> findByAgencyCode(String agencyCode);
     boolean existsByAgencyCode(String agencyCode);
     boolean existsByAgencyName(String agencyName);
+
+    @Query("SELECT a.agencyNo FROM Agency a ORDER BY a.agencyNo")
+    List<Long> findAllAgencyNos();
 }
@@ -0,0 +1,85 @@
+package com.kh.magamGG.domain.agency.service;
+
+import com.kh.magamGG.domain.project.repository.KanbanCardRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 에이전시 대시보드 집계 엔진
+ * 프로젝트별 카드 목록을 순회하지 않고, 에이전시 단위 GROUP BY 조회(상태별·마감 월별) 몇 번으로 마감 준수율 수치를 계산한다.
+ * 프로젝트 수가 늘어나도 쿼리 수는 일정하다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AgencyDashboardAggregator {
+
+    private final KanbanCardRepository kanbanCardRepository;
+
+    /**
+     * 마감 준수율 집계 (전체 누적 + 이번달/전월)
+     * @param agencyNo 에이전시 번호
+     * @param today 기준일 (마감일 <= today 인 카드만 집계)
+     */
+    public ComplianceSummary aggregateCompliance(Long agencyNo, LocalDate today) {
+        long totalPastDeadline = 0;
+        long completedOnTime = 0;
+        for (Object[] row : kanbanCardRepository.countPastDeadlineCardsByAgencyNoGroupByStatus(agencyNo, today)) {
+            long count = toLong(row[1]);
+            totalPastDeadline += count;
+            if ("Y".equals(row[0])) {
+                completedOnTime += count;
+            }
+        }
+
+        YearMonth thisMonth = YearMonth.from(today);
+        YearMonth lastMonth = thisMonth.minusMonths(1);
+        Map<YearMonth, long[]> monthly = aggregateMonthly(agencyNo, lastMonth, today);
+        long[] thisMonthStats = monthly.getOrDefault(thisMonth, new long[]{0, 0});
+        long[] lastMonthStats = monthly.getOrDefault(lastMonth, new long[]{0, 0});
+
+        return new ComplianceSummary(totalPastDeadline, completedOnTime,
+                thisMonthStats[0], thisMonthStats[1],
+                lastMonthStats[0], lastMonthStats[1]);
+    }
+
+    /**
+     * 마감 월별 카드 수 집계 [전체, 완료(Y)] — fromMonth 1일 ~ today 범위
+     */
+    public Map<YearMonth, long[]> aggregateMonthly(Long agencyNo, YearMonth fromMonth, LocalDate today) {
+        List<Object[]> rows = kanbanCardRepository.countPastDeadlineCardsByAgencyNoGroupByMonth(
+                agencyNo, fromMonth.atDay(1), today);
+        Map<YearMonth, long[]> result = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            YearMonth month = YearMonth.of((int) toLong(row[0]), (int) toLong(row[1]));
+            result.put(month, new long[]{toLong(row[2]), toLong(row[3])});
+        }
+        return result;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+
+    /**
+     * 마감 준수율 집계 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class ComplianceSummary {
+        private final long totalPastDeadline;
+        private final long completedOnTime;
+        private final long thisMonthTotal;
+        private final long thisMonthCompleted;
+        private final long lastMonthTotal;
+        private final long lastMonthCompleted;
+    }
+}
@@ -14,12 +14,10 @@ import com.kh.magamGG.domain.agency.dto.response.HealthMonitoringDetailResponse;
 import com.kh.magamGG.domain.agency.dto.response.JoinRequestResponse;
 import com.kh.magamGG.domain.agency.entity.Agency;
 import com.kh.magamGG.domain.agency.repository.AgencyRepository;
-import com.kh.magamGG.domain.attendance.entity.Attendance;
-import com.kh.magamGG.domain.attendance.entity.AttendanceRequest;
 import com.kh.magamGG.domain.attendance.entity.LeaveBalance;
-import com.kh.magamGG.domain.attendance.repository.AttendanceRepository;
-import com.kh.magamGG.domain.attendance.repository.AttendanceRequestRepository;
 import com.kh.magamGG.domain.attendance.repository.LeaveBalanceRepository;
+import com.kh.magamGG.domain.attendance.service.AttendancePresenceBoard;
+import com.kh.magamGG.domain.attendance.service.LeaveLedgerService;
 import com.kh.magamGG.domain.member.entity.Manager;
 import com.kh.magamGG.domain.member.repository.ArtistAssignmentRepository;
 import com.kh.magamGG.domain.member.repository.ManagerRepository;
@@ -76,14 +74,16 @@ public class AgencyServiceImpl implements AgencyService {
     private final ManagerRepository managerRepository;
     private final ArtistAssignmentRepository artistAssignmentRepository;
     private final LeaveBalanceRepository leaveBalanceRepository;
+    private final LeaveLedgerService leaveLedgerService;
     private final ProjectRepository projectRepository;
     private final KanbanCardRepository kanbanCardRepository;
     private final ProjectMemberRepository projectMemberRepository;
-    private final AttendanceRepository attendanceRepository;
-    private final AttendanceRequestRepository attendanceRequestRepository;
+    private final AttendancePresenceBoard attendancePresenceBoard;
     private final HealthSurveyResponseItemRepository healthSurveyResponseItemRepository;
     private final HealthSurveyService healthSurveyService;
     private final HealthSurveyRepository healthSurveyRepository;
+    private final AgencyDashboardAggregator agencyDashboardAggregator;
+    private final ComplianceRollupService complianceRollupService;
 
     @Override
     @Transactional
@@ -249,6 +249,7 @@ public class AgencyServiceImpl implements AgencyService {
             leaveBalance.setLeaveBalanceRemainDays((double) totalDays);
             leaveBalance.setLeaveBalanceUpdatedAt(LocalDateTime.now());
             leaveBalanceRepository.save(leaveBalance);
+            leaveLedgerService.applyBalance(memberNo, leaveBalance);
             log.info("LEAVE_BALANCE 덮어쓰기 완료: 회원번호 {}, 총연차일 {}, 연도 {}", memberNo, totalDays, currentYear);
         } else {
             leaveBalance = new LeaveBalance();
@@ -260,6 +261,7 @@ public class AgencyServiceImpl implements AgencyService {
             leaveBalance.setLeaveBalanceYear(currentYear);
             leaveBalance.setLeaveBalanceUpdatedAt(LocalDateTime.now());
             leaveBalanceRepository.save(leaveBalance);
+            leaveLedgerService.applyBalance(memberNo, leaveBalance);
             log.info("LEAVE_BALANCE 초기 데이터 생성 완료: 회원번호 {}, 총연차일 {}, 연도 {}", memberNo, totalDays, currentYear);
         }
 
@@ -391,6 +393,7 @@ public class AgencyServiceImpl implements AgencyService {
                 balance.setLeaveBalanceRemainDays(newRemain >= 0 ? newRemain : 0.0);
                 balance.setLeaveBalanceUpdatedAt(LocalDateTime.now());
                 leaveBalanceRepository.save(balance);
+                leaveLedgerService.applyBalance(member.getMemberNo(), balance);
                 log.info("LeaveBalance 갱신: 회원번호={}, totalDays={}, remainDays={}", member.getMemberNo(), agencyLeave, balance.getLeaveBalanceRemainDays());
             });
         }
@@ -404,42 +407,22 @@ public class AgencyServiceImpl implements AgencyService {
         long activeArtistCount = memberRepository.countArtistsAndAssistantsByAgencyNo(agencyNo);
 
         // 진행 프로젝트: 에이전시 소속 회원이 참여한 연재 중 프로젝트
-        long activeProjectCount = projectRepository.findActiveProjectsByAgencyNo(agencyNo).size();
-
-        // 평균 마감 준수율: 에이전시 프로젝트의 KANBAN_CARD 기준 (전체 누적)
-        List<com.kh.magamGG.domain.project.entity.Project> allAgencyProjects =
-                projectRepository.findAllProjectsByAgencyNo(agencyNo);
+        long activeProjectCount = projectRepository.countActiveProjectsByAgencyNo(agencyNo);
 
+        // 평균 마감 준수율: 에이전시 프로젝트의 KANBAN_CARD 기준 (전체 누적) — 상태별/월별 GROUP BY 집계
         LocalDate today = LocalDate.now();
         YearMonth thisMonth = YearMonth.from(today);
         YearMonth lastMonth = thisMonth.minusMonths(1);
 
-        long totalPastDeadline = 0;
-        long completedOnTime = 0;
-        long thisMonthTotal = 0;
-        long thisMonthCompleted = 0;
-        long lastMonthTotal = 0;
-        long lastMonthCompleted = 0;
+        AgencyDashboardAggregator.ComplianceSummary summary =
+                agencyDashboardAggregator.aggregateCompliance(agencyNo, today);
+        long totalPastDeadline = summary.getTotalPastDeadline();
+        long completedOnTime = summary.getCompletedOnTime();
+        long thisMonthTotal = summary.getThisMonthTotal();
+        long thisMonthCompleted = summary.getThisMonthCompleted();
+        long lastMonthTotal = summary.getLastMonthTotal();
+        long lastMonthCompleted = summary.getLastMonthCompleted();
 
-        for (var project : allAgencyProjects) {
-            List<KanbanCard> cards = kanbanCardRepository.findByProjectNo(project.getProjectNo());
-            for (KanbanCard card : cards) {
-                if (card.getKanbanCardEndedAt() == null) continue;
-                if (card.getKanbanCardEndedAt().isAfter(today)) continue;
-                totalPastDeadline++;
-                if ("Y".equals(card.getKanbanCardStatus())) {
-                    completedOnTime++;
-                }
-                YearMonth cardMonth = YearMonth.from(card.getKanbanCardEndedAt());
-                if (cardMonth.equals(thisMonth)) {
-                    thisMonthTotal++;
-                    if ("Y".equals(card.getKanbanCardStatus())) thisMonthCompleted++;
-                } else if (cardMonth.equals(lastMonth)) {
-                    lastMonthTotal++;
-                    if ("Y".equals(card.getKanbanCardStatus())) lastMonthCompleted++;
-                }
-            }
-        }
         double complianceRate = totalPastDeadline > 0
                 ? (completedOnTime * 100.0 / totalPastDeadline)
                 : 100.0;
@@ -509,9 +492,6 @@ public class AgencyServiceImpl implements AgencyService {
     public ComplianceTrendResponse getComplianceTrend(Long agencyNo) {
         findAgencyOrThrow(agencyNo);
 
-        List<com.kh.magamGG.domain.project.entity.Project> projects =
-                projectRepository.findAllProjectsByAgencyNo(agencyNo);
-
         LocalDate today = LocalDate.now();
         YearMonth now = YearMonth.from(today);
         int monthsCount = 6;
@@ -521,21 +501,12 @@ public class AgencyServiceImpl implements AgencyService {
             monthStats.put(now.minusMonths(i), new long[]{0, 0});
         }
 
-        for (var project : projects) {
-            List<KanbanCard> cards = kanbanCardRepository.findByProjectNo(project.getProjectNo());
-            for (KanbanCard card : cards) {
-                if (card.getKanbanCardEndedAt() == null) continue;
-                YearMonth cardMonth = YearMonth.from(card.getKanbanCardEndedAt());
-                if (!monthStats.containsKey(cardMonth)) continue;
-                if (card.getKanbanCardEndedAt().isAfter(today)) continue;
-
-                long[] stats = monthStats.get(cardMonth);
-                stats[0]++;
-                if ("Y".equals(card.getKanbanCardStatus())) {
-                    stats[1]++;
-                }
-            }
-        }
+        // 지난 달들: 월별 집계 테이블(AGENCY_COMPLIANCE_MONTHLY)에서 한 번에 조회
+        monthStats.putAll(complianceRollupService.getMonthlyStats(
+                agencyNo, now.minusMonths(monthsCount - 1), now.minusMonths(1)));
+        // 이번 달: 오늘까지 마감된 카드만 대상이므로 실시간 집계
+        monthStats.put(now, agencyDashboardAggregator.aggregateMonthly(agencyNo, now, today)
+                .getOrDefault(now, new long[]{0, 0}));
 
         List<ComplianceTrendResponse.ComplianceMonthItem> trend = new ArrayList<>();
         Double monthOverMonthChange = null;
@@ -607,18 +578,6 @@ public class AgencyServiceImpl implements AgencyService {
                 .build();
     }
 
-    /** 근태 신청 타입 → 금일 출석 분포 표시용 (휴가/재택근무/워케이션만, 그 외 null) */
-    private static String requestTypeToDisplay(String requestType) {
-        if (requestType == null) return null;
-        String t = requestType.trim();
-        if ("연차".equals(t) || "반차".equals(t) || "반반차".equals(t) || "병가".equals(t) || "휴재".equals(t) || "휴가".equals(t)) {
-            return "휴가";
-        }
-        if ("재택근무".equals(t) || "재택".equals(t)) return "재택근무";
-        if ("워케이션".equals(t)) return "워케이션";
-        return null;
-    }
-
     /** 금일 출석 분포에서 제외할 역할 (에이전시 관리자·관리자는 직원 현황에 포함하지 않음) */
     private static final List<String> EXCLUDED_ROLES_FOR_ATTENDANCE = List.of("에이전시 관리자", "관리자");
     /** 건강 인원 분포에서 제외할 역할 (에이전시 관리자만 제외) */
@@ -632,83 +591,29 @@ public class AgencyServiceImpl implements AgencyService {
                 .filter(m -> m.getMemberRole() == null || !EXCLUDED_ROLES_FOR_ATTENDANCE.contains(m.getMemberRole().trim()))
                 .collect(Collectors.toList());
         int totalMembers = members.size();
-        LocalDate today = LocalDate.now();
-        LocalDateTime todayStart = today.atStartOfDay();
-        LocalDateTime todayEnd = today.atTime(LocalTime.MAX);
 
-        // 1) 오늘 포함된 승인된 근태 신청 → 휴가/재택근무/워케이션
-        List<AttendanceRequest> approvedToday;
-        try {
-            approvedToday = attendanceRequestRepository.findApprovedByAgencyNoAndDateBetween(agencyNo, todayStart, todayEnd);
-        } catch (Exception e) {
-            log.warn("금일 승인 근태 신청 조회 중 오류: {}", e.getMessage());
-            approvedToday = Collections.emptyList();
-        }
-        Map<Long, String> memberStatusFromRequest = new LinkedHashMap<>();
-        for (AttendanceRequest ar : approvedToday) {
-            String displayType = requestTypeToDisplay(ar.getAttendanceRequestType());
-            if (displayType == null) continue;
-            Long memberNo = ar.getMember().getMemberNo();
-            if ("휴가".equals(displayType)) {
-                memberStatusFromRequest.put(memberNo, displayType);
-            }
-        }
-        for (AttendanceRequest ar : approvedToday) {
-            String displayType = requestTypeToDisplay(ar.getAttendanceRequestType());
-            if ("재택근무".equals(displayType)) {
-                Long memberNo = ar.getMember().getMemberNo();
-                if (!memberStatusFromRequest.containsKey(memberNo)) {
-                    memberStatusFromRequest.put(memberNo, displayType);
-                }
-            }
-        }
-        for (AttendanceRequest ar : approvedToday) {
-            String displayType = requestTypeToDisplay(ar.getAttendanceRequestType());
-            if ("워케이션".equals(displayType)) {
-                Long memberNo = ar.getMember().getMemberNo();
-                if (!memberStatusFromRequest.containsKey(memberNo)) {
-                    memberStatusFromRequest.put(memberNo, displayType);
-                }
-            }
-        }
-
-        // 2) 금일 출근/퇴근 기록(Attendance) 있는 회원 → 출근
-        List<Attendance> todayRecords;
-        try {
-            todayRecords = attendanceRepository.findByAgency_AgencyNoAndDate(agencyNo, today);
-        } catch (Exception e) {
-            log.warn("금일 출석 조회 중 오류: {}", e.getMessage());
-            todayRecords = Collections.emptyList();
-        }
-        Map<Long, Boolean> hasAttendanceToday = new LinkedHashMap<>();
-        for (Attendance a : todayRecords) {
-            hasAttendanceToday.putIfAbsent(a.getMember().getMemberNo(), Boolean.TRUE);
-        }
-
-        Set<Long> employeeMemberNos = members.stream().map(Member::getMemberNo).collect(Collectors.toSet());
-        int countLeave = (int) memberStatusFromRequest.entrySet().stream()
-                .filter(e -> "휴가".equals(e.getValue()) && employeeMemberNos.contains(e.getKey()))
-                .count();
-        int countRemote = (int) memberStatusFromRequest.entrySet().stream()
-                .filter(e -> "재택근무".equals(e.getValue()) && employeeMemberNos.contains(e.getKey()))
-                .count();
-        int countWorkation = (int) memberStatusFromRequest.entrySet().stream()
-                .filter(e -> "워케이션".equals(e.getValue()) && employeeMemberNos.contains(e.getKey()))
-                .count();
+        // 금일 근태 현황판(메모리)에서 회원별 상태 판정: 승인 신청(휴가 > 재택근무 > 워케이션) 우선, 그 외 출근/퇴근 기록 있으면 출근
+        AttendancePresenceBoard.Board board = attendancePresenceBoard.today(agencyNo);
+        int countLeave = 0;
+        int countRemote = 0;
+        int countWorkation = 0;
         int countOffice = 0;
-        for (Long memberNo : hasAttendanceToday.keySet()) {
-            if (employeeMemberNos.contains(memberNo) && !memberStatusFromRequest.containsKey(memberNo)) {
-                countOffice++;
-            }
-        }
         // 미출석 = 직원 중 휴가·재택·워케이션·출근이 아닌 인원만 (에이전시 관리자 제외, 휴가 중인 인원은 미출석에서 제외)
         int absent = 0;
         for (Member m : members) {
             Long memberNo = m.getMemberNo();
-            if (memberStatusFromRequest.containsKey(memberNo) || hasAttendanceToday.containsKey(memberNo)) {
-                continue; // 휴가/재택/워케이션/출근 중 하나에 해당 → 미출석 아님
+            String requestStatus = board.getRequestStatus(memberNo);
+            if ("휴가".equals(requestStatus)) {
+                countLeave++;
+            } else if ("재택근무".equals(requestStatus)) {
+                countRemote++;
+            } else if ("워케이션".equals(requestStatus)) {
+                countWorkation++;
+            } else if (board.hasAttendance(memberNo)) {
+                countOffice++;
+            } else {
+                absent++;
             }
-            absent++;
         }
 
         Map<String, String> displayColors = new LinkedHashMap<>();
@@ -0,0 +1,104 @@
+package com.kh.magamGG.domain.agency.service;
+
+import com.kh.magamGG.domain.agency.entity.AgencyComplianceMonthly;
+import com.kh.magamGG.domain.agency.repository.AgencyComplianceMonthlyRepository;
+import com.kh.magamGG.domain.project.repository.ProjectMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 에이전시 월별 마감 준수 집계(AGENCY_COMPLIANCE_MONTHLY) 관리
+ * - 카드 생성/상태·마감일 변경 시 증분 반영 (이전 버킷 -1, 새 버킷 +1)
+ * - 프로젝트 멤버 변동 등으로 생긴 오차는 야간 백필로 재계산
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ComplianceRollupService {
+
+    private final AgencyComplianceMonthlyRepository agencyComplianceMonthlyRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+
+    /**
+     * 카드 변경분 반영. 마감일이 없는 카드는 집계 대상이 아니므로 무시.
+     * @param projectNo 카드가 속한 프로젝트
+     * @param oldStatus 변경 전 상태 (신규 카드면 null)
+     * @param oldEndedAt 변경 전 마감일 (신규 카드면 null)
+     * @param newStatus 변경 후 상태
+     * @param newEndedAt 변경 후 마감일
+     */
+    @Transactional
+    public void applyCardChange(Long projectNo, String oldStatus, LocalDate oldEndedAt,
+                                String newStatus, LocalDate newEndedAt) {
+        boolean oldCompleted = "Y".equals(oldStatus);
+        boolean newCompleted = "Y".equals(newStatus);
+        YearMonth oldMonth = oldEndedAt != null ? YearMonth.from(oldEndedAt) : null;
+        YearMonth newMonth = newEndedAt != null ? YearMonth.from(newEndedAt) : null;
+        if (oldMonth == null && newMonth == null) return;
+        if (oldMonth != null && oldMonth.equals(newMonth) && oldCompleted == newCompleted) return;
+
+        List<Long> agencyNos = projectMemberRepository.findDistinctAgencyNosByProjectNo(projectNo);
+        for (Long agencyNo : agencyNos) {
+            if (oldMonth != null) {
+                agencyComplianceMonthlyRepository.upsertDelta(agencyNo, oldMonth.toString(),
+                        -1, oldCompleted ? -1 : 0, oldCompleted ? 0 : -1);
+            }
+            if (newMonth != null) {
+                agencyComplianceMonthlyRepository.upsertDelta(agencyNo, newMonth.toString(),
+                        1, newCompleted ? 1 : 0, newCompleted ? 0 : 1);
+            }
+        }
+    }
+
+    /**
+     * 에이전시 월별 집계 조회 [전체, 완료(Y)]
+     */
+    @Transactional(readOnly = true)
+    public Map<YearMonth, long[]> getMonthlyStats(Long agencyNo, YearMonth fromMonth, YearMonth toMonth) {
+        Map<YearMonth, long[]> result = new LinkedHashMap<>();
+        for (AgencyComplianceMonthly row : agencyComplianceMonthlyRepository
+                .findByAgencyNoAndRollupMonthBetweenOrderByRollupMonthAsc(agencyNo, fromMonth.toString(), toMonth.toString())) {
+            result.put(YearMonth.parse(row.getRollupMonth()),
+                    new long[]{row.getTotalCount(), row.getCompletedCount()});
+        }
+        return result;
+    }
+
+    /**
+     * 전체 에이전시 집계 재계산 (매일 04:00, 증분 반영 누락·멤버 변동 보정)
+     * 전체 삭제 후 재삽입 대신 키별 절대값 upsert → 원본이 없어진 키만 0으로.
+     * 두 문장은 각각 커밋되어 증분 반영(upsertDelta)과 잠금을 오래 겹치지 않음
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void backfillAll() {
+        int upserted = agencyComplianceMonthlyRepository.upsertRollupFromKanbanCards();
+        int zeroed = agencyComplianceMonthlyRepository.zeroOrphanedRollups();
+        log.info("마감 준수 월별 집계 전체 백필 완료: upserted={}, zeroed={}", upserted, zeroed);
+    }
+
+    /**
+     * 기동 시 집계 테이블이 비어 있으면 과거 이력 백필 (실패해도 기동은 계속, 야간 백필에서 재시도)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (agencyComplianceMonthlyRepository.count() == 0) {
+                int upserted = agencyComplianceMonthlyRepository.upsertRollupFromKanbanCards();
+                log.info("마감 준수 월별 집계 초기 백필 완료: rows={}", upserted);
+            }
+        } catch (Exception e) {
+            log.warn("마감 준수 월별 집계 초기 백필 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.kh.magamGG.domain.ai.context;
+
+/**
+ * 요청 단위로 AI 호출 정보(엔드포인트, 요청 회원)를 전달하기 위한 컨텍스트.
+ * Controller에서 설정하고, Service의 answer/stream에서 응답 캐시 키로 사용.
+ */
+public final class AiRequestContext {
+
+    private static final ThreadLocal<String> ENDPOINT = new ThreadLocal<>();
+    private static final ThreadLocal<Long> MEMBER_NO = new ThreadLocal<>();
+
+    public static void set(String endpoint, Long memberNo) {
+        ENDPOINT.set(endpoint);
+        MEMBER_NO.set(memberNo);
+    }
+
+    public static String getEndpoint() {
+        return ENDPOINT.get();
+    }
+
+    public static Long getMemberNo() {
+        return MEMBER_NO.get();
+    }
+
+    public static void clear() {
+        ENDPOINT.remove();
+        MEMBER_NO.remove();
+    }
+
+    private AiRequestContext() {}
+}
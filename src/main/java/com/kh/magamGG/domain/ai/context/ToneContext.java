@@ -2,7 +2,7 @@ package com.kh.magamGG.domain.ai.context;
 
 /**
  * 요청 단위로 챗봇 말투(tone)를 전달하기 위한 컨텍스트.
- * Controller에서 쿼리 파라미터 tone을 설정하고, Service의 callAi에서 읽어 사용.
+ * Controller에서 쿼리 파라미터 tone을 설정하고, Service의 answer/stream에서 읽어 사용.
  */
 public final class ToneContext {
 
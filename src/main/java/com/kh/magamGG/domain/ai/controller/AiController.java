@@ -1,206 +1,238 @@
 package com.kh.magamGG.domain.ai.controller;
 
+import com.kh.magamGG.domain.ai.context.AiRequestContext;
 import com.kh.magamGG.domain.ai.context.ToneContext;
+import com.kh.magamGG.domain.ai.entity.AgencyAiInsight;
+import com.kh.magamGG.domain.ai.service.AgencyAiInsightService;
+import com.kh.magamGG.domain.ai.service.AiPrompt;
 import com.kh.magamGG.domain.ai.service.MagamjigiAiService;
+import com.kh.magamGG.global.exception.LlmBusyException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/v1/ai")
 @RequiredArgsConstructor
+@Slf4j
 public class AiController {
 
+    private static final long STREAM_TIMEOUT_MS = 2 * 60 * 1000L; // 2분
+
     private final MagamjigiAiService magamjigiAiService;
+    private final AgencyAiInsightService agencyAiInsightService;
 
     @GetMapping("/artist/health-feedback")
     public ResponseEntity<String> getArtistHealthFeedback(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getArtistHealthFeedback(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+        return respond(authentication, tone, "artist/health-feedback", magamjigiAiService::prepareArtistHealthFeedback);
     }
 
     @GetMapping("/manager/artist-health-summary")
     public ResponseEntity<String> getManagerArtistHealthSummary(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getManagerArtistHealthSummary(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+        return respond(authentication, tone, "manager/artist-health-summary", magamjigiAiService::prepareManagerArtistHealthSummary);
     }
 
     @GetMapping("/agency/health-overview")
-    public ResponseEntity<String> getAgencyHealthOverview(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getAgencyHealthOverview(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+    public ResponseEntity<String> getAgencyHealthOverview(Authentication authentication, @RequestParam(required = false) String tone,
+                                                          @RequestParam(defaultValue = "false") boolean refresh) {
+        return respondInsight(authentication, tone, refresh, "agency/health-overview", magamjigiAiService::prepareAgencyHealthOverview);
     }
 
     @GetMapping("/agency/risk-summary")
-    public ResponseEntity<String> getAgencyRiskSummary(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getAgencyRiskSummary(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+    public ResponseEntity<String> getAgencyRiskSummary(Authentication authentication, @RequestParam(required = false) String tone,
+                                                       @RequestParam(defaultValue = "false") boolean refresh) {
+        return respondInsight(authentication, tone, refresh, "agency/risk-summary", magamjigiAiService::prepareAgencyRiskSummary);
     }
 
     @GetMapping("/agency/leave-overlap-alert")
-    public ResponseEntity<String> getAgencyLeaveOverlapAlert(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getAgencyLeaveOverlapAlert(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+    public ResponseEntity<String> getAgencyLeaveOverlapAlert(Authentication authentication, @RequestParam(required = false) String tone,
+                                                             @RequestParam(defaultValue = "false") boolean refresh) {
+        return respondInsight(authentication, tone, refresh, "agency/leave-overlap-alert", magamjigiAiService::prepareAgencyLeaveOverlapAlert);
     }
 
     @GetMapping("/agency/artist-assignment-balance")
-    public ResponseEntity<String> getAgencyArtistAssignmentBalance(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getAgencyArtistAssignmentBalance(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+    public ResponseEntity<String> getAgencyArtistAssignmentBalance(Authentication authentication, @RequestParam(required = false) String tone,
+                                                                   @RequestParam(defaultValue = "false") boolean refresh) {
+        return respondInsight(authentication, tone, refresh, "agency/artist-assignment-balance", magamjigiAiService::prepareAgencyArtistAssignmentBalance);
     }
 
     @GetMapping("/agency/rejected-then-reapplied-alert")
     public ResponseEntity<String> getAgencyRejectedThenReappliedAlert(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getAgencyRejectedThenReappliedAlert(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+        return respond(authentication, tone, "agency/rejected-then-reapplied-alert", magamjigiAiService::prepareAgencyRejectedThenReappliedAlert);
     }
 
     @GetMapping("/artist/workload-summary")
     public ResponseEntity<String> getArtistWorkloadSummary(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getArtistWorkloadSummary(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+        return respond(authentication, tone, "artist/workload-summary", magamjigiAiService::prepareArtistWorkloadSummary);
     }
 
     @GetMapping("/artist/project-priority-advice")
     public ResponseEntity<String> getArtistProjectPriorityAdvice(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getArtistProjectPriorityAdvice(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+        return respond(authentication, tone, "artist/project-priority-advice", magamjigiAiService::prepareArtistProjectPriorityAdvice);
     }
 
     @GetMapping("/artist/workation-recommendation")
     public ResponseEntity<String> getArtistWorkationRecommendation(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getArtistWorkationRecommendation(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+        return respond(authentication, tone, "artist/workation-recommendation", magamjigiAiService::prepareArtistWorkationRecommendation);
     }
 
     @GetMapping("/artist/leave-recommendation")
     public ResponseEntity<String> getArtistLeaveRecommendation(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getArtistLeaveRecommendation(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+        return respond(authentication, tone, "artist/leave-recommendation", magamjigiAiService::prepareArtistLeaveRecommendation);
     }
 
     @GetMapping("/manager/leave-recommendation")
     public ResponseEntity<String> getManagerLeaveRecommendation(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getManagerLeaveRecommendation(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+        return respond(authentication, tone, "manager/leave-recommendation", magamjigiAiService::prepareManagerLeaveRecommendation);
     }
 
     @GetMapping("/manager/artist-workload-balance")
     public ResponseEntity<String> getManagerArtistWorkloadBalance(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getManagerArtistWorkloadBalance(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+        return respond(authentication, tone, "manager/artist-workload-balance", magamjigiAiService::prepareManagerArtistWorkloadBalance);
     }
 
     @GetMapping("/manager/my-health-feedback")
     public ResponseEntity<String> getManagerMyHealthFeedback(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getManagerMyHealthFeedback(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+        return respond(authentication, tone, "manager/my-health-feedback", magamjigiAiService::prepareManagerMyHealthFeedback);
     }
 
     @GetMapping("/manager/workation-recommendation")
     public ResponseEntity<String> getManagerWorkationRecommendation(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getManagerWorkationRecommendation(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+        return respond(authentication, tone, "manager/workation-recommendation", magamjigiAiService::prepareManagerWorkationRecommendation);
     }
 
     @GetMapping("/manager/nudge-message-recommendation")
     public ResponseEntity<String> getManagerNudgeMessageRecommendation(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getManagerNudgeMessageRecommendation(memberNo));
-        } finally {
-            ToneContext.clear();
-        }
+        return respond(authentication, tone, "manager/nudge-message-recommendation", magamjigiAiService::prepareManagerNudgeMessageRecommendation);
     }
 
     @GetMapping("/manager/artist-daily-health-summary")
     public ResponseEntity<String> getManagerArtistDailyHealthSummary(Authentication authentication, @RequestParam(required = false) String tone) {
-        Long memberNo = extractMemberNo(authentication);
-        ToneContext.set(tone);
-        try {
-            return ResponseEntity.ok(magamjigiAiService.getManagerArtistDailyHealthSummary(memberNo));
-        } finally {
-            ToneContext.clear();
+        return respond(authentication, tone, "manager/artist-daily-health-summary", magamjigiAiService::prepareManagerArtistDailyHealthSummary);
+    }
+
+    /**
+     * 스트리밍 버전 (SSE). 위 엔드포인트와 같은 경로를 /stream/ 뒤에 붙여 호출
+     * GET /api/v1/ai/stream/{role}/{name}?tone=...&token=...
+     * 이벤트: token(응답 조각) 반복 → done, 실패 시 error.
+     * 모델 응답을 기다리는 동안 서블릿 스레드를 점유하지 않음.
+     */
+    @GetMapping(value = "/stream/{role}/{name}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAi(Authentication authentication,
+                               @PathVariable String role,
+                               @PathVariable String name,
+                               @RequestParam(required = false) String tone) {
+        String endpoint = role + "/" + name;
+        Function<Long, AiPrompt> preparer = preparerOf(endpoint);
+        if (preparer == null) {
+            throw new IllegalArgumentException("지원하지 않는 AI 항목입니다: " + endpoint);
+        }
+
+        Long memberNo = extractMemberNo(authentication);
+        Flux<String> tokens;
+        ToneContext.set(tone);
+        AiRequestContext.set(endpoint, memberNo);
+        try {
+            // 프롬프트 데이터 조회·캐시 확인은 요청 스레드에서, 모델 응답은 비동기 스트림으로
+            tokens = magamjigiAiService.stream(preparer.apply(memberNo));
+        } finally {
+            ToneContext.clear();
+            AiRequestContext.clear();
+        }
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        Disposable subscription = tokens.subscribe(
+            chunk -> sendEvent(emitter, "token", chunk),
+            error -> {
+                log.warn("AI 스트리밍 실패: endpoint={}, memberNo={}, error={}", endpoint, memberNo, error.getMessage());
+                sendEvent(emitter, "error", error instanceof LlmBusyException
+                    ? error.getMessage() : "AI 응답 생성 중 오류가 발생했습니다.");
+                emitter.complete();
+            },
+            () -> {
+                sendEvent(emitter, "done", "");
+                emitter.complete();
+            });
+        // 클라이언트 종료·타임아웃 시 모델 스트림 구독 해제
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(e -> subscription.dispose());
+        emitter.onCompletion(subscription::dispose);
+        return emitter;
+    }
+
+    /**
+     * 공통 처리: 말투·요청 정보(엔드포인트, 회원) 컨텍스트 설정 후 서비스 호출
+     */
+    private ResponseEntity<String> respond(Authentication authentication, String tone, String endpoint,
+                                           Function<Long, AiPrompt> preparer) {
+        Long memberNo = extractMemberNo(authentication);
+        ToneContext.set(tone);
+        AiRequestContext.set(endpoint, memberNo);
+        try {
+            return ResponseEntity.ok(magamjigiAiService.answer(preparer.apply(memberNo)));
+        } finally {
+            ToneContext.clear();
+            AiRequestContext.clear();
+        }
+    }
+
+    /**
+     * 에이전시 대시보드 인사이트: 기본 말투면 야간 사전 계산 결과 반환 (refresh=true면 즉시 재생성).
+     * 생성 시각은 X-Insight-Generated-At 헤더로 전달. 다른 말투는 조회 시 생성
+     */
+    private ResponseEntity<String> respondInsight(Authentication authentication, String tone, boolean refresh,
+                                                  String endpoint, Function<Long, AiPrompt> preparer) {
+        if (tone != null && !tone.isBlank() && !"standard".equals(tone)) {
+            return respond(authentication, tone, endpoint, preparer);
+        }
+        AgencyAiInsight insight = agencyAiInsightService.getInsight(extractMemberNo(authentication), endpoint, refresh);
+        return ResponseEntity.ok()
+            .header("X-Insight-Generated-At", insight.getGeneratedAt().toString())
+            .body(insight.getInsightText());
+    }
+
+    private Function<Long, AiPrompt> preparerOf(String endpoint) {
+        return switch (endpoint) {
+            case "artist/health-feedback" -> magamjigiAiService::prepareArtistHealthFeedback;
+            case "manager/artist-health-summary" -> magamjigiAiService::prepareManagerArtistHealthSummary;
+            case "agency/health-overview" -> magamjigiAiService::prepareAgencyHealthOverview;
+            case "agency/risk-summary" -> magamjigiAiService::prepareAgencyRiskSummary;
+            case "agency/leave-overlap-alert" -> magamjigiAiService::prepareAgencyLeaveOverlapAlert;
+            case "agency/artist-assignment-balance" -> magamjigiAiService::prepareAgencyArtistAssignmentBalance;
+            case "agency/rejected-then-reapplied-alert" -> magamjigiAiService::prepareAgencyRejectedThenReappliedAlert;
+            case "artist/workload-summary" -> magamjigiAiService::prepareArtistWorkloadSummary;
+            case "artist/project-priority-advice" -> magamjigiAiService::prepareArtistProjectPriorityAdvice;
+            case "artist/workation-recommendation" -> magamjigiAiService::prepareArtistWorkationRecommendation;
+            case "artist/leave-recommendation" -> magamjigiAiService::prepareArtistLeaveRecommendation;
+            case "manager/leave-recommendation" -> magamjigiAiService::prepareManagerLeaveRecommendation;
+            case "manager/artist-workload-balance" -> magamjigiAiService::prepareManagerArtistWorkloadBalance;
+            case "manager/my-health-feedback" -> magamjigiAiService::prepareManagerMyHealthFeedback;
+            case "manager/workation-recommendation" -> magamjigiAiService::prepareManagerWorkationRecommendation;
+            case "manager/nudge-message-recommendation" -> magamjigiAiService::prepareManagerNudgeMessageRecommendation;
+            case "manager/artist-daily-health-summary" -> magamjigiAiService::prepareManagerArtistDailyHealthSummary;
+            default -> null;
+        };
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, String data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            emitter.completeWithError(e);
         }
     }
 
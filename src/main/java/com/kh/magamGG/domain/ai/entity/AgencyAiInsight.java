@@ -0,0 +1,37 @@
+package com.kh.magamGG.domain.ai.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 에이전시 관리자 대시보드 AI 인사이트 사전 계산 결과 (에이전시·항목별 1건)
+ * 야간 배치로 갱신, 관리자가 새로고침하면 즉시 재생성
+ */
+@Entity
+@Table(name = "AGENCY_AI_INSIGHT",
+        uniqueConstraints = @UniqueConstraint(name = "UK_AGENCY_AI_INSIGHT", columnNames = {"AGENCY_NO", "INSIGHT_TYPE"}))
+@Getter
+@NoArgsConstructor
+public class AgencyAiInsight {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "AGENCY_AI_INSIGHT_NO")
+    private Long agencyAiInsightNo;
+
+    @Column(name = "AGENCY_NO", nullable = false)
+    private Long agencyNo;
+
+    /** 인사이트 항목 (AI API 경로, 예: agency/health-overview) */
+    @Column(name = "INSIGHT_TYPE", nullable = false, length = 50)
+    private String insightType;
+
+    @Column(name = "INSIGHT_TEXT", nullable = false, columnDefinition = "TEXT")
+    private String insightText;
+
+    @Column(name = "GENERATED_AT", nullable = false)
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,31 @@
+package com.kh.magamGG.domain.ai.repository;
+
+import com.kh.magamGG.domain.ai.entity.AgencyAiInsight;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface AgencyAiInsightRepository extends JpaRepository<AgencyAiInsight, Long> {
+
+    Optional<AgencyAiInsight> findByAgencyNoAndInsightType(Long agencyNo, String insightType);
+
+    /**
+     * 인사이트 저장 (없으면 생성, 있으면 내용·생성 시각 교체)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO agency_ai_insight (agency_no, insight_type, insight_text, generated_at) " +
+           "VALUES (:agencyNo, :insightType, :insightText, :generatedAt) " +
+           "ON DUPLICATE KEY UPDATE " +
+           "insight_text = VALUES(insight_text), " +
+           "generated_at = VALUES(generated_at)", nativeQuery = true)
+    int upsert(@Param("agencyNo") Long agencyNo,
+               @Param("insightType") String insightType,
+               @Param("insightText") String insightText,
+               @Param("generatedAt") LocalDateTime generatedAt);
+}
@@ -0,0 +1,183 @@
+package com.kh.magamGG.domain.ai.service;
+
+import com.kh.magamGG.domain.agency.repository.AgencyRepository;
+import com.kh.magamGG.domain.ai.context.AiRequestContext;
+import com.kh.magamGG.domain.ai.entity.AgencyAiInsight;
+import com.kh.magamGG.domain.ai.repository.AgencyAiInsightRepository;
+import com.kh.magamGG.global.llm.LlmPriority;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 에이전시 관리자 대시보드 AI 인사이트 사전 계산
+ * - 건강 현황·리스크 요약·휴가 겹침·배정 균형은 에이전시 전체를 훑어야 해서 조회 시 계산하면 느림
+ * - 매일 새벽 전체 에이전시를 병렬도 제한(ai.agency-insight.parallelism)으로 미리 생성해 AGENCY_AI_INSIGHT에 저장
+ *   (생성은 전용 작업 스레드에서 실행, 스케줄러 스레드는 작업만 넘기고 바로 반환)
+ * - 조회는 저장된 결과를 바로 반환, 관리자가 새로고침(refresh)했거나 아직 없을 때만 즉시 생성
+ * - 기본 말투 기준으로만 저장 (다른 말투 요청은 기존처럼 조회 시 생성)
+ */
+@Service
+@Slf4j
+public class AgencyAiInsightService {
+
+    /** 사전 계산 대상 항목 (AI API 경로) */
+    public static final List<String> INSIGHT_TYPES = List.of(
+        "agency/health-overview",
+        "agency/risk-summary",
+        "agency/leave-overlap-alert",
+        "agency/artist-assignment-balance"
+    );
+
+    private final MagamjigiAiService magamjigiAiService;
+    private final AgencyAiInsightRepository agencyAiInsightRepository;
+    private final AgencyRepository agencyRepository;
+    private final ThreadPoolExecutor executor;
+    /** 이전 사전 계산이 아직 끝나지 않았으면 이번 실행은 건너뜀 */
+    private final AtomicBoolean precomputing = new AtomicBoolean();
+
+    public AgencyAiInsightService(MagamjigiAiService magamjigiAiService,
+                                  AgencyAiInsightRepository agencyAiInsightRepository,
+                                  AgencyRepository agencyRepository,
+                                  @Value("${ai.agency-insight.parallelism:2}") int parallelism) {
+        this.magamjigiAiService = magamjigiAiService;
+        this.agencyAiInsightRepository = agencyAiInsightRepository;
+        this.agencyRepository = agencyRepository;
+
+        int threads = Math.max(1, parallelism);
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "agency-insight-" + threadNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 관리자 조회: 저장된 인사이트 반환. 없거나 refresh면 지금 생성 후 저장
+     */
+    public AgencyAiInsight getInsight(Long memberNo, String insightType, boolean refresh) {
+        Long agencyNo = magamjigiAiService.findAdminAgencyNo(memberNo);
+        if (!refresh) {
+            Optional<AgencyAiInsight> stored = agencyAiInsightRepository.findByAgencyNoAndInsightType(agencyNo, insightType);
+            if (stored.isPresent()) {
+                return stored.get();
+            }
+        }
+        return generate(agencyNo, insightType, LlmPriority.INTERACTIVE);
+    }
+
+    /**
+     * 전체 에이전시 인사이트 재생성 (매일 03:30). 에이전시별 작업을 전용 스레드에 넘기고 바로 반환.
+     * LLM 호출은 BATCH 레인이라 화면 요청이 먼저 처리됨
+     */
+    @Scheduled(cron = "${ai.agency-insight.cron:0 30 3 * * *}")
+    public void precomputeAll() {
+        if (!precomputing.compareAndSet(false, true)) {
+            log.warn("에이전시 AI 인사이트 사전 계산이 아직 진행 중이라 이번 실행은 건너뜀");
+            return;
+        }
+        List<Long> agencyNos;
+        try {
+            agencyNos = agencyRepository.findAllAgencyNos();
+        } catch (RuntimeException e) {
+            precomputing.set(false);
+            throw e;
+        }
+        if (agencyNos.isEmpty()) {
+            precomputing.set(false);
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(agencyNos.size());
+        Runnable finishOne = () -> {
+            if (remaining.decrementAndGet() == 0) {
+                precomputing.set(false);
+                log.info("에이전시 AI 인사이트 사전 계산 완료: agencies={}, 성공={}, 실패={}, {}ms",
+                    agencyNos.size(), succeeded.get(), failed.get(), System.currentTimeMillis() - startedAt);
+            }
+        };
+        int submitted = 0;
+        try {
+            for (Long agencyNo : agencyNos) {
+                executor.execute(() -> {
+                    try {
+                        precomputeAgency(agencyNo, succeeded, failed);
+                    } finally {
+                        finishOne.run();
+                    }
+                });
+                submitted++;
+            }
+        } catch (RuntimeException e) {
+            // 종료 중(RejectedExecutionException) 등으로 일부만 등록된 경우: 등록 못 한 몫을 빼서 플래그가 남지 않도록
+            int unsubmitted = agencyNos.size() - submitted;
+            log.warn("에이전시 AI 인사이트 사전 계산 등록 실패: 등록={}, 미등록={}, error={}", submitted, unsubmitted, e.getMessage());
+            if (remaining.addAndGet(-unsubmitted) == 0) {
+                precomputing.set(false);
+            }
+            return;
+        }
+        log.info("에이전시 AI 인사이트 사전 계산 등록: agencies={}", agencyNos.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void precomputeAgency(Long agencyNo, AtomicInteger succeeded, AtomicInteger failed) {
+        for (String insightType : INSIGHT_TYPES) {
+            try {
+                generate(agencyNo, insightType, LlmPriority.BATCH);
+                succeeded.incrementAndGet();
+            } catch (Exception e) {
+                // 실패 항목은 이전 결과 유지 (조회 시 새로고침으로 재생성 가능)
+                failed.incrementAndGet();
+                log.warn("에이전시 AI 인사이트 생성 실패: agencyNo={}, type={}, error={}", agencyNo, insightType, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 인사이트 생성·저장. 응답 캐시를 건너뛰어 generated_at이 실제 생성 시각과 일치하도록 함
+     */
+    private AgencyAiInsight generate(Long agencyNo, String insightType, LlmPriority priority) {
+        String text;
+        AiRequestContext.set(insightType, null);
+        try {
+            text = magamjigiAiService.answer(prepare(insightType, agencyNo), priority, false);
+        } finally {
+            AiRequestContext.clear();
+        }
+        agencyAiInsightRepository.upsert(agencyNo, insightType, text, LocalDateTime.now());
+        return agencyAiInsightRepository.findByAgencyNoAndInsightType(agencyNo, insightType)
+            .orElseThrow(() -> new IllegalStateException("AI 인사이트 저장에 실패했습니다."));
+    }
+
+    private AiPrompt prepare(String insightType, Long agencyNo) {
+        return switch (insightType) {
+            case "agency/health-overview" -> magamjigiAiService.prepareAgencyHealthOverviewForAgency(agencyNo);
+            case "agency/risk-summary" -> magamjigiAiService.prepareAgencyRiskSummaryForAgency(agencyNo);
+            case "agency/leave-overlap-alert" -> magamjigiAiService.prepareAgencyLeaveOverlapAlertForAgency(agencyNo);
+            case "agency/artist-assignment-balance" -> magamjigiAiService.prepareAgencyArtistAssignmentBalanceForAgency(agencyNo);
+            default -> throw new IllegalArgumentException("사전 계산 대상이 아닌 AI 항목입니다: " + insightType);
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.kh.magamGG.domain.ai.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * AI 호출 준비 결과
+ * - 프롬프트 템플릿 + 변수 (ChatModel 호출 필요)
+ * - 또는 데이터가 없어 AI 호출 없이 바로 돌려줄 고정 안내 문구
+ * 같은 준비 결과로 일반 응답(answer)과 스트리밍 응답(stream)을 모두 처리하기 위함.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class AiPrompt {
+
+    private final String templateText;
+    private final Map<String, Object> variables;
+    private final String fixedAnswer;
+
+    public static AiPrompt of(String templateText, Map<String, Object> variables) {
+        return new AiPrompt(templateText, variables, null);
+    }
+
+    public static AiPrompt fixed(String answer) {
+        return new AiPrompt(null, null, answer);
+    }
+
+    public boolean isFixed() {
+        return fixedAnswer != null;
+    }
+}
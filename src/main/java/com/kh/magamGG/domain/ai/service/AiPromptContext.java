@@ -0,0 +1,74 @@
+package com.kh.magamGG.domain.ai.service;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * AI 프롬프트 조립용 회원별 지표 스냅샷 (AiPromptContextLoader가 일괄 조회로 생성)
+ * 프롬프트 조립 중에는 추가 DB 조회 없이 메모리에서만 읽는다.
+ */
+public class AiPromptContext {
+
+    private final Map<Long, MemberStats> statsByMember;
+
+    AiPromptContext(Map<Long, MemberStats> statsByMember) {
+        this.statsByMember = statsByMember;
+    }
+
+    /** 회원 지표 (조회 결과가 없으면 점수 미완료·업무 0건) */
+    public MemberStats of(Long memberNo) {
+        return statsByMember.getOrDefault(memberNo, MemberStats.EMPTY);
+    }
+
+    /**
+     * 회원별 지표
+     */
+    @Getter
+    public static class MemberStats {
+
+        static final MemberStats EMPTY = new MemberStats();
+
+        /** 최신 우울 지수(PHQ-9), 미완료면 null */
+        private Integer phq9;
+        /** 최신 불안 지수(GAD), 미완료면 null */
+        private Integer gad;
+        /** 최신 손목/어깨 통증 지수(QuickDASH), 미완료면 null */
+        private Integer dash;
+
+        /** 마감 지난 카드 중 완료(Y) */
+        private long pastDueCompleted;
+        /** 마감 지난 카드 중 미완료(N) */
+        private long pastDueIncomplete;
+        /** 미완료(N) 카드 */
+        private long incomplete;
+        /** 미완료 중 7일 내 마감 */
+        private long dueIn7Days;
+        /** 완료(Y) 누적 */
+        private long completed;
+
+        void setScores(Integer phq9, Integer gad, Integer dash) {
+            this.phq9 = phq9;
+            this.gad = gad;
+            this.dash = dash;
+        }
+
+        void setWorkload(long pastDueCompleted, long pastDueIncomplete, long incomplete, long dueIn7Days, long completed) {
+            this.pastDueCompleted = pastDueCompleted;
+            this.pastDueIncomplete = pastDueIncomplete;
+            this.incomplete = incomplete;
+            this.dueIn7Days = dueIn7Days;
+            this.completed = completed;
+        }
+
+        public long getPastDueTotal() {
+            return pastDueCompleted + pastDueIncomplete;
+        }
+
+        /** 마감 준수율(%) — 마감 지난 카드가 없으면 100 */
+        public double getCompliance() {
+            long total = getPastDueTotal();
+            return total > 0 ? pastDueCompleted * 100.0 / total : 100.0;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.kh.magamGG.domain.ai.service;
+
+import com.kh.magamGG.domain.health.repository.HealthSurveyResponseItemRepository;
+import com.kh.magamGG.domain.project.repository.KanbanCardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * AI 프롬프트 데이터 일괄 로더
+ * 회원마다 점수 3회·카드 건수 4~5회씩 조회하던 것을, 회원 목록 단위 GROUP BY/IN 조회 몇 번으로 묶어
+ * 메모리 스냅샷(AiPromptContext)으로 넘긴다. 회원 수가 늘어도 쿼리 수는 일정하다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AiPromptContextLoader {
+
+    static final String MENTAL_SURVEY_TYPE = "월간 정신";
+    static final String PHYSICAL_SURVEY_TYPE = "월간 신체";
+
+    private final HealthSurveyResponseItemRepository healthSurveyResponseItemRepository;
+    private final KanbanCardRepository kanbanCardRepository;
+
+    /**
+     * 건강 점수 + 업무 지표 스냅샷
+     * @param today 기준일 (마감 지난 카드: 마감일 <= today, 7일 내 마감: today ~ today+7)
+     */
+    public AiPromptContext load(Collection<Long> memberNos, LocalDate today) {
+        Map<Long, AiPromptContext.MemberStats> stats = new HashMap<>();
+        if (memberNos == null || memberNos.isEmpty()) {
+            return new AiPromptContext(stats);
+        }
+        loadScores(memberNos, stats);
+        loadWorkload(memberNos, today, stats);
+        return new AiPromptContext(stats);
+    }
+
+    /**
+     * 건강 점수만 필요한 경우 (업무 지표 조회 생략)
+     */
+    public AiPromptContext loadScores(Collection<Long> memberNos) {
+        Map<Long, AiPromptContext.MemberStats> stats = new HashMap<>();
+        if (memberNos != null && !memberNos.isEmpty()) {
+            loadScores(memberNos, stats);
+        }
+        return new AiPromptContext(stats);
+    }
+
+    /**
+     * 프로젝트별 마감 지난 카드 수 [완료(Y), 미완료(N)]
+     */
+    public Map<Long, long[]> loadProjectPastDue(Collection<Long> projectNos, LocalDate today) {
+        Map<Long, long[]> result = new HashMap<>();
+        if (projectNos == null || projectNos.isEmpty()) {
+            return result;
+        }
+        for (Object[] row : kanbanCardRepository.countPastDeadlineCardsByProjectNos(projectNos, today)) {
+            result.put((Long) row[0], new long[]{toLong(row[1]), toLong(row[2])});
+        }
+        return result;
+    }
+
+    private void loadScores(Collection<Long> memberNos, Map<Long, AiPromptContext.MemberStats> stats) {
+        Map<Long, List<Object[]>> rowsByMember = new HashMap<>();
+        for (Object[] row : healthSurveyResponseItemRepository.findScoreRowsByMemberNos(
+                memberNos, List.of(MENTAL_SURVEY_TYPE, PHYSICAL_SURVEY_TYPE))) {
+            rowsByMember.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add(row);
+        }
+        rowsByMember.forEach((memberNo, rows) -> {
+            // 기존 getLatestScoreByOrderRange / getLatestTotalScore 와 같은 기준: 해당 문항 범위의 최신 응답 시각 점수 합
+            // (쿼리가 유형별 최신 응답만 돌려주므로 회원당 행 수는 설문 1회분으로 고정)
+            Integer phq9 = sumLatest(rows, r -> MENTAL_SURVEY_TYPE.equals(r[1]) && orderBetween(r, 1, 9));
+            Integer gad = sumLatest(rows, r -> MENTAL_SURVEY_TYPE.equals(r[1]) && orderBetween(r, 10, 19));
+            Integer dash = sumLatest(rows, r -> PHYSICAL_SURVEY_TYPE.equals(r[1]));
+            stats.computeIfAbsent(memberNo, k -> new AiPromptContext.MemberStats()).setScores(phq9, gad, dash);
+        });
+    }
+
+    private void loadWorkload(Collection<Long> memberNos, LocalDate today, Map<Long, AiPromptContext.MemberStats> stats) {
+        for (Object[] row : kanbanCardRepository.countWorkloadStatsByMemberNos(memberNos, today, today.plusDays(7))) {
+            stats.computeIfAbsent((Long) row[0], k -> new AiPromptContext.MemberStats())
+                .setWorkload(toLong(row[1]), toLong(row[2]), toLong(row[3]), toLong(row[4]), toLong(row[5]));
+        }
+    }
+
+    private static boolean orderBetween(Object[] row, int min, int max) {
+        if (!(row[2] instanceof Number)) return false;
+        int order = ((Number) row[2]).intValue();
+        return order >= min && order <= max;
+    }
+
+    private static Integer sumLatest(List<Object[]> rows, Predicate<Object[]> filter) {
+        LocalDateTime latest = null;
+        for (Object[] row : rows) {
+            if (row[4] != null && filter.test(row)) {
+                LocalDateTime createdAt = (LocalDateTime) row[4];
+                if (latest == null || createdAt.isAfter(latest)) latest = createdAt;
+            }
+        }
+        if (latest == null) return null;
+
+        int sum = 0;
+        for (Object[] row : rows) {
+            if (latest.equals(row[4]) && filter.test(row)) {
+                sum += row[3] instanceof Number ? ((Number) row[3]).intValue() : 0;
+            }
+        }
+        return sum;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+}
@@ -0,0 +1,102 @@
+package com.kh.magamGG.domain.ai.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 응답 캐시 (LRU + TTL)
+ * - 키: 엔드포인트 + 회원번호 + 말투 + 프롬프트 입력 데이터 지문(SHA-256)
+ * - 건강 점수·칸반 카드·휴가 등 프롬프트에 들어가는 데이터가 바뀌면 지문이 달라져 자동으로 새로 호출
+ *   (쓰기 경로마다 무효화 호출을 두지 않아도 갱신 누락이 없음). 이전 항목은 TTL/LRU로 정리
+ * - 데이터가 같은 반복 조회(대시보드 재진입 등)는 ChatModel 호출 없이 반환
+ */
+@Component
+@Slf4j
+public class AiResponseCache {
+
+    private final long ttlMillis;
+    private final Map<String, CachedAnswer> cache;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private record CachedAnswer(String answer, long expiresAt) {
+    }
+
+    public AiResponseCache(@Value("${ai.response-cache.ttl-minutes:30}") long ttlMinutes,
+                           @Value("${ai.response-cache.max-size:2000}") int maxSize) {
+        this.ttlMillis = ttlMinutes * 60_000L;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedAnswer> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시 키 생성
+     * @param templateText 말투 지시까지 반영된 프롬프트 템플릿
+     * @param variables 템플릿 변수 (프롬프트 입력 데이터)
+     */
+    public String keyOf(String endpoint, Long memberNo, String tone, String templateText, Map<String, Object> variables) {
+        StringBuilder input = new StringBuilder(templateText);
+        // 변수 순서와 무관하게 같은 지문이 나오도록 정렬
+        new TreeMap<>(variables).forEach((name, value) ->
+                input.append('\u0000').append(name).append('=').append(value));
+        return endpoint + "|" + memberNo + "|" + (tone != null ? tone : "standard") + "|" + sha256(input.toString());
+    }
+
+    /** 유효한 캐시 응답 (없거나 만료면 null) */
+    public String get(String key) {
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            CachedAnswer cached = cache.get(key);
+            if (cached != null) {
+                if (cached.expiresAt() > now) {
+                    hitCount.incrementAndGet();
+                    return cached.answer();
+                }
+                cache.remove(key);
+            }
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    public void put(String key, String answer) {
+        if (answer == null || answer.isBlank()) {
+            return;
+        }
+        synchronized (cache) {
+            cache.put(key, new CachedAnswer(answer, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private static String sha256(String input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(input.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("AI 캐시 키 생성 실패", e);
+        }
+    }
+}
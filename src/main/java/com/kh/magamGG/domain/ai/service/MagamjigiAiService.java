@@ -1,12 +1,12 @@
 package com.kh.magamGG.domain.ai.service;
 
+import com.kh.magamGG.domain.ai.context.AiRequestContext;
 import com.kh.magamGG.domain.ai.context.ToneContext;
 import com.kh.magamGG.domain.attendance.entity.AttendanceRequest;
 import com.kh.magamGG.domain.attendance.entity.LeaveBalance;
 import com.kh.magamGG.domain.attendance.repository.AttendanceRequestRepository;
 import com.kh.magamGG.domain.attendance.repository.LeaveBalanceRepository;
 import com.kh.magamGG.domain.health.entity.DailyHealthCheck;
-import com.kh.magamGG.domain.health.entity.HealthSurveyResponseItem;
 import com.kh.magamGG.domain.health.repository.DailyHealthCheckRepository;
 import com.kh.magamGG.domain.health.repository.HealthSurveyResponseItemRepository;
 import com.kh.magamGG.domain.member.entity.ArtistAssignment;
@@ -19,6 +19,8 @@ import com.kh.magamGG.domain.project.entity.KanbanCard;
 import com.kh.magamGG.domain.project.entity.Project;
 import com.kh.magamGG.domain.project.repository.KanbanCardRepository;
 import com.kh.magamGG.domain.project.repository.ProjectRepository;
+import com.kh.magamGG.global.llm.LlmExecutor;
+import com.kh.magamGG.global.llm.LlmPriority;
 import lombok.RequiredArgsConstructor;
 
 import java.time.DayOfWeek;
@@ -27,6 +29,7 @@ import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -51,19 +54,23 @@ public class MagamjigiAiService {
     private final DailyHealthCheckRepository dailyHealthCheckRepository;
     private final ProjectRepository projectRepository;
     private final AttendanceRequestRepository attendanceRequestRepository;
+    private final AiResponseCache aiResponseCache;
+    private final AiPromptContextLoader aiPromptContextLoader;
+    private final LlmExecutor llmExecutor;
 
     private static final List<String> ARTIST_KEYWORDS = List.of("작가", "어시스트");
 
-    public String getArtistHealthFeedback(Long memberNo) {
+    public AiPrompt prepareArtistHealthFeedback(Long memberNo) {
         validateArtistRole(memberNo);
 
-        Integer phq9 = getLatestScoreByOrderRange(memberNo, "월간 정신", 1, 9);
-        Integer gad = getLatestScoreByOrderRange(memberNo, "월간 정신", 10, 19);
-        Integer dash = getLatestTotalScore(memberNo, "월간 신체");
+        AiPromptContext.MemberStats stats = aiPromptContextLoader.loadScores(List.of(memberNo)).of(memberNo);
+        Integer phq9 = stats.getPhq9();
+        Integer gad = stats.getGad();
+        Integer dash = stats.getDash();
 
         // 설문 데이터가 모두 없을 때 처리
         if (phq9 == null && gad == null && dash == null) {
-            return "아직 건강 설문을 완료하지 않으셨네요. 건강 관리를 위해 설문을 완료해주시면 더 정확한 건강 조언을 드릴 수 있어요.";
+            return AiPrompt.fixed("아직 건강 설문을 완료하지 않으셨네요. 건강 관리를 위해 설문을 완료해주시면 더 정확한 건강 조언을 드릴 수 있어요.");
         }
 
         String phq9Text = phq9 != null ? phq9 + "점" : "미완료";
@@ -83,10 +90,10 @@ public class MagamjigiAiService {
             "미완료된 검사가 있으면 건강 관리를 위해 설문 완료를 권유해 줘. " +
             "각 검사별 1~2문장, 총 5문장 이내로 작성해.";
 
-        return callAi(templateText, Map.of("phq9", phq9Text, "gad", gadText, "dash", dashText));
+        return AiPrompt.of(templateText, Map.of("phq9", phq9Text, "gad", gadText, "dash", dashText));
     }
 
-    public String getManagerArtistHealthSummary(Long memberNo) {
+    public AiPrompt prepareManagerArtistHealthSummary(Long memberNo) {
         validateExactRole(memberNo, "담당자");
 
         Manager manager = managerRepository.findByMember_MemberNo(memberNo)
@@ -94,16 +101,17 @@ public class MagamjigiAiService {
         List<ArtistAssignment> assignments = artistAssignmentRepository.findByManagerNo(manager.getManagerNo());
 
         if (assignments.isEmpty()) {
-            return "현재 배정된 작가가 없습니다.";
+            return AiPrompt.fixed("현재 배정된 작가가 없습니다.");
         }
 
+        AiPromptContext context = aiPromptContextLoader.loadScores(artistNosOf(assignments));
         StringBuilder artistData = new StringBuilder();
         for (ArtistAssignment assignment : assignments) {
             Member artist = assignment.getArtist();
-            Long mNo = artist.getMemberNo();
-            Integer phq9 = getLatestScoreByOrderRange(mNo, "월간 정신", 1, 9);
-            Integer gad = getLatestScoreByOrderRange(mNo, "월간 정신", 10, 19);
-            Integer dash = getLatestTotalScore(mNo, "월간 신체");
+            AiPromptContext.MemberStats stats = context.of(artist.getMemberNo());
+            Integer phq9 = stats.getPhq9();
+            Integer gad = stats.getGad();
+            Integer dash = stats.getDash();
             
             String phq9Text = phq9 != null ? String.format("%d점(%s)", phq9, evaluateRiskPhq9(phq9)) : "미완료";
             String gadText = gad != null ? String.format("%d점(%s)", gad, evaluateRiskGad(gad)) : "미완료";
@@ -122,35 +130,30 @@ public class MagamjigiAiService {
             "업무 배분 조정이나 휴식 권유 등 관리 차원의 조언을 3~5문장으로 해 줘. " +
             "의학적 진단은 절대 배제해.";
 
-        return callAi(templateText, Map.of(
+        return AiPrompt.of(templateText, Map.of(
             "count", assignments.size(),
             "artistData", artistData.toString()
         ));
     }
 
-    public String getAgencyHealthOverview(Long memberNo) {
-        validateExactRole(memberNo, "에이전시 관리자");
-
-        Member admin = memberRepository.findById(memberNo)
-            .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
-        Long agencyNo = admin.getAgency().getAgencyNo();
-
-        List<HealthSurveyResponseItem> allItems =
-            healthSurveyResponseItemRepository.findByAgencyNoWithSurvey(agencyNo);
+    public AiPrompt prepareAgencyHealthOverview(Long memberNo) {
+        return prepareAgencyHealthOverviewForAgency(findAdminAgencyNo(memberNo));
+    }
 
-        Map<Long, List<HealthSurveyResponseItem>> byMember = allItems.stream()
-            .collect(Collectors.groupingBy(i -> i.getMember().getMemberNo()));
+    public AiPrompt prepareAgencyHealthOverviewForAgency(Long agencyNo) {
+        List<Long> surveyedMemberNos = healthSurveyResponseItemRepository.findDistinctMemberNosByAgencyNo(agencyNo);
+        AiPromptContext context = aiPromptContextLoader.loadScores(surveyedMemberNos);
 
-        int totalMembers = byMember.size();
+        int totalMembers = surveyedMemberNos.size();
         int phq9Caution = 0, phq9Warning = 0, phq9Danger = 0;
         int gadCaution = 0, gadWarning = 0, gadDanger = 0;
         int dashCaution = 0, dashWarning = 0, dashDanger = 0;
 
-        for (Map.Entry<Long, List<HealthSurveyResponseItem>> entry : byMember.entrySet()) {
-            Long mNo = entry.getKey();
-            Integer phq9 = getLatestScoreByOrderRange(mNo, "월간 정신", 1, 9);
-            Integer gad = getLatestScoreByOrderRange(mNo, "월간 정신", 10, 19);
-            Integer dash = getLatestTotalScore(mNo, "월간 신체");
+        for (Long mNo : surveyedMemberNos) {
+            AiPromptContext.MemberStats stats = context.of(mNo);
+            Integer phq9 = stats.getPhq9();
+            Integer gad = stats.getGad();
+            Integer dash = stats.getDash();
 
             // 설문 데이터가 있을 때만 위험도 평가
             if (phq9 != null) {
@@ -186,7 +189,7 @@ public class MagamjigiAiService {
             "조직 운영 차원의 제안을 3~5문장으로 해 줘. " +
             "의학적 진단은 절대 배제하고, 긍정적이고 건설적인 톤으로 작성해.";
 
-        return callAi(templateText, Map.of(
+        return AiPrompt.of(templateText, Map.of(
             "total", totalMembers,
             "pc1", phq9Caution, "pw1", phq9Warning, "pd1", phq9Danger,
             "gc1", gadCaution, "gw1", gadWarning, "gd1", gadDanger,
@@ -198,24 +201,20 @@ public class MagamjigiAiService {
      * 에이전시 관리자: 프로젝트·작가 리스크 종합 — 마감 준수율 낮은 프로젝트/작가, 건강 위험/경고 인원 요약 후
      * "지금 가장 손봐야 할 프로젝트/팀 1~2개와 이유"를 짧게 제안 (우선순위용).
      */
-    public String getAgencyRiskSummary(Long memberNo) {
-        validateExactRole(memberNo, "에이전시 관리자");
+    public AiPrompt prepareAgencyRiskSummary(Long memberNo) {
+        return prepareAgencyRiskSummaryForAgency(findAdminAgencyNo(memberNo));
+    }
 
-        Member admin = memberRepository.findById(memberNo)
-            .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
-        Long agencyNo = admin.getAgency().getAgencyNo();
+    public AiPrompt prepareAgencyRiskSummaryForAgency(Long agencyNo) {
         LocalDate today = LocalDate.now();
 
         List<Project> projects = projectRepository.findAllProjectsByAgencyNo(agencyNo);
+        Map<Long, long[]> projectPastDue = aiPromptContextLoader.loadProjectPastDue(
+            projects.stream().map(Project::getProjectNo).toList(), today);
         List<String> lowComplianceProjects = new ArrayList<>();
         for (Project project : projects) {
-            List<KanbanCard> cards = kanbanCardRepository.findByProjectNo(project.getProjectNo());
-            long pastDueY = 0, pastDueN = 0;
-            for (KanbanCard c : cards) {
-                if (c.getKanbanCardEndedAt() == null || c.getKanbanCardEndedAt().isAfter(today)) continue;
-                if ("Y".equals(c.getKanbanCardStatus())) pastDueY++;
-                else if ("N".equals(c.getKanbanCardStatus())) pastDueN++;
-            }
+            long[] pastDue = projectPastDue.getOrDefault(project.getProjectNo(), new long[]{0, 0});
+            long pastDueY = pastDue[0], pastDueN = pastDue[1];
             long total = pastDueY + pastDueN;
             if (total >= 1) {
                 double compliance = pastDueY * 100.0 / total;
@@ -226,12 +225,13 @@ public class MagamjigiAiService {
         }
 
         List<Member> artists = memberRepository.findArtistsByAgencyNo(agencyNo);
+        AiPromptContext artistContext = aiPromptContextLoader.load(
+            artists.stream().map(Member::getMemberNo).toList(), today);
         List<String> lowComplianceArtists = new ArrayList<>();
         for (Member artist : artists) {
-            long pastDueY = kanbanCardRepository.countByProjectMember_Member_MemberNoAndKanbanCardEndedAtBeforeAndKanbanCardStatus(
-                artist.getMemberNo(), today, "Y");
-            long pastDueN = kanbanCardRepository.countByProjectMember_Member_MemberNoAndKanbanCardEndedAtBeforeAndKanbanCardStatus(
-                artist.getMemberNo(), today, "N");
+            AiPromptContext.MemberStats stats = artistContext.of(artist.getMemberNo());
+            long pastDueY = stats.getPastDueCompleted();
+            long pastDueN = stats.getPastDueIncomplete();
             long total = pastDueY + pastDueN;
             if (total >= 1) {
                 double compliance = pastDueY * 100.0 / total;
@@ -241,14 +241,14 @@ public class MagamjigiAiService {
             }
         }
 
-        List<HealthSurveyResponseItem> allItems = healthSurveyResponseItemRepository.findByAgencyNoWithSurvey(agencyNo);
-        Map<Long, List<HealthSurveyResponseItem>> byMember = allItems.stream()
-            .collect(Collectors.groupingBy(i -> i.getMember().getMemberNo()));
+        List<Long> surveyedMemberNos = healthSurveyResponseItemRepository.findDistinctMemberNosByAgencyNo(agencyNo);
+        AiPromptContext healthContext = aiPromptContextLoader.loadScores(surveyedMemberNos);
         int phq9Risk = 0, gadRisk = 0, dashRisk = 0;
-        for (Map.Entry<Long, List<HealthSurveyResponseItem>> entry : byMember.entrySet()) {
-            Integer phq9 = getLatestScoreByOrderRange(entry.getKey(), "월간 정신", 1, 9);
-            Integer gad = getLatestScoreByOrderRange(entry.getKey(), "월간 정신", 10, 19);
-            Integer dash = getLatestTotalScore(entry.getKey(), "월간 신체");
+        for (Long mNo : surveyedMemberNos) {
+            AiPromptContext.MemberStats stats = healthContext.of(mNo);
+            Integer phq9 = stats.getPhq9();
+            Integer gad = stats.getGad();
+            Integer dash = stats.getDash();
             
             // 설문 데이터가 있을 때만 위험도 평가
             if (phq9 != null && ("경고".equals(evaluateRiskPhq9(phq9)) || "위험".equals(evaluateRiskPhq9(phq9)))) {
@@ -274,7 +274,7 @@ public class MagamjigiAiService {
             "[건강 현황]\n{healthSummary}\n\n" +
             "위를 종합해서, 지금 가장 손봐야 할 프로젝트 또는 팀 1~2개와 그 이유를 짧게(3~5문장) 제안해 줘.";
 
-        return callAi(templateText, Map.of(
+        return AiPrompt.of(templateText, Map.of(
             "lowProjects", projectLines,
             "lowArtists", artistLines,
             "healthSummary", healthSummary
@@ -284,27 +284,23 @@ public class MagamjigiAiService {
     /**
      * 에이전시 관리자: 업무 마감률·연차·병가·건강 현황을 바탕으로 프로젝트 진행 리스크를 종합 분석.
      */
-    public String getAgencyLeaveOverlapAlert(Long memberNo) {
-        validateExactRole(memberNo, "에이전시 관리자");
+    public AiPrompt prepareAgencyLeaveOverlapAlert(Long memberNo) {
+        return prepareAgencyLeaveOverlapAlertForAgency(findAdminAgencyNo(memberNo));
+    }
 
-        Member admin = memberRepository.findById(memberNo)
-            .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
-        Long agencyNo = admin.getAgency().getAgencyNo();
+    public AiPrompt prepareAgencyLeaveOverlapAlertForAgency(Long agencyNo) {
         LocalDate today = LocalDate.now();
         LocalDate from = today;
         LocalDate to = from.plusDays(60);
 
         // 1) 마감 준수율: 낮은 프로젝트·작가
         List<Project> projects = projectRepository.findAllProjectsByAgencyNo(agencyNo);
+        Map<Long, long[]> projectPastDue = aiPromptContextLoader.loadProjectPastDue(
+            projects.stream().map(Project::getProjectNo).toList(), today);
         List<String> lowComplianceProjects = new ArrayList<>();
         for (Project project : projects) {
-            List<KanbanCard> cards = kanbanCardRepository.findByProjectNo(project.getProjectNo());
-            long pastDueY = 0, pastDueN = 0;
-            for (KanbanCard c : cards) {
-                if (c.getKanbanCardEndedAt() == null || c.getKanbanCardEndedAt().isAfter(today)) continue;
-                if ("Y".equals(c.getKanbanCardStatus())) pastDueY++;
-                else if ("N".equals(c.getKanbanCardStatus())) pastDueN++;
-            }
+            long[] pastDue = projectPastDue.getOrDefault(project.getProjectNo(), new long[]{0, 0});
+            long pastDueY = pastDue[0], pastDueN = pastDue[1];
             long total = pastDueY + pastDueN;
             if (total >= 1) {
                 double compliance = pastDueY * 100.0 / total;
@@ -314,12 +310,13 @@ public class MagamjigiAiService {
             }
         }
         List<Member> artists = memberRepository.findArtistsByAgencyNo(agencyNo);
+        AiPromptContext artistContext = aiPromptContextLoader.load(
+            artists.stream().map(Member::getMemberNo).toList(), today);
         List<String> lowComplianceArtists = new ArrayList<>();
         for (Member artist : artists) {
-            long pastDueY = kanbanCardRepository.countByProjectMember_Member_MemberNoAndKanbanCardEndedAtBeforeAndKanbanCardStatus(
-                artist.getMemberNo(), today, "Y");
-            long pastDueN = kanbanCardRepository.countByProjectMember_Member_MemberNoAndKanbanCardEndedAtBeforeAndKanbanCardStatus(
-                artist.getMemberNo(), today, "N");
+            AiPromptContext.MemberStats stats = artistContext.of(artist.getMemberNo());
+            long pastDueY = stats.getPastDueCompleted();
+            long pastDueN = stats.getPastDueIncomplete();
             long total = pastDueY + pastDueN;
             if (total >= 1) {
                 double compliance = pastDueY * 100.0 / total;
@@ -370,14 +367,14 @@ public class MagamjigiAiService {
             (sickLeaveLines.isEmpty() ? "없음" : String.join("\n", sickLeaveLines));
 
         // 4) 건강: 경고/위험 인원 수
-        List<HealthSurveyResponseItem> allItems = healthSurveyResponseItemRepository.findByAgencyNoWithSurvey(agencyNo);
-        Map<Long, List<HealthSurveyResponseItem>> byMember = allItems.stream()
-            .collect(Collectors.groupingBy(i -> i.getMember().getMemberNo()));
+        List<Long> surveyedMemberNos = healthSurveyResponseItemRepository.findDistinctMemberNosByAgencyNo(agencyNo);
+        AiPromptContext healthContext = aiPromptContextLoader.loadScores(surveyedMemberNos);
         int phq9Risk = 0, gadRisk = 0, dashRisk = 0;
-        for (Map.Entry<Long, List<HealthSurveyResponseItem>> entry : byMember.entrySet()) {
-            Integer phq9 = getLatestScoreByOrderRange(entry.getKey(), "월간 정신", 1, 9);
-            Integer gad = getLatestScoreByOrderRange(entry.getKey(), "월간 정신", 10, 19);
-            Integer dash = getLatestTotalScore(entry.getKey(), "월간 신체");
+        for (Long mNo : surveyedMemberNos) {
+            AiPromptContext.MemberStats stats = healthContext.of(mNo);
+            Integer phq9 = stats.getPhq9();
+            Integer gad = stats.getGad();
+            Integer dash = stats.getDash();
             
             // 설문 데이터가 있을 때만 위험도 평가
             if (phq9 != null && ("경고".equals(evaluateRiskPhq9(phq9)) || "위험".equals(evaluateRiskPhq9(phq9)))) {
@@ -400,7 +397,7 @@ public class MagamjigiAiService {
             "우선순위가 높은 리스크와 대응 방향을 4~6문장으로 제안해 줘. " +
             "데이터가 없거나 양호한 항목도 있으면 그대로 언급한 뒤, 있는 항목만 강조해도 돼.";
 
-        return callAi(templateText, Map.of(
+        return AiPrompt.of(templateText, Map.of(
             "complianceSection", complianceSection,
             "leaveSection", leaveSection,
             "sickSection", sickSection,
@@ -411,16 +408,14 @@ public class MagamjigiAiService {
     /**
      * 에이전시 관리자: 담당자별 작가 배정 현황 — 특정 담당자에게 작가가 몰려 있는지 분석.
      */
-    public String getAgencyArtistAssignmentBalance(Long memberNo) {
-        validateExactRole(memberNo, "에이전시 관리자");
-
-        Member admin = memberRepository.findById(memberNo)
-            .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
-        Long agencyNo = admin.getAgency().getAgencyNo();
+    public AiPrompt prepareAgencyArtistAssignmentBalance(Long memberNo) {
+        return prepareAgencyArtistAssignmentBalanceForAgency(findAdminAgencyNo(memberNo));
+    }
 
+    public AiPrompt prepareAgencyArtistAssignmentBalanceForAgency(Long agencyNo) {
         List<Manager> managers = managerRepository.findByAgencyNo(agencyNo);
         if (managers.isEmpty()) {
-            return "해당 에이전시에 담당자가 없습니다.";
+            return AiPrompt.fixed("해당 에이전시에 담당자가 없습니다.");
         }
 
         List<String> lines = new ArrayList<>();
@@ -440,13 +435,13 @@ public class MagamjigiAiService {
             "특정 담당자에게 작가가 몰려 있는지, 배정이 고르지 않은 담당자가 있는지 분석해 줘. " +
             "균형 조정이 필요하면 2~4문장으로 제안해 줘. 고르게 배정되어 있으면 그렇게 요약해 줘.";
 
-        return callAi(templateText, Map.of("assignmentText", assignmentText));
+        return AiPrompt.of(templateText, Map.of("assignmentText", assignmentText));
     }
 
     /**
      * 에이전시 관리자: 휴가·근태 신청이 반려된 뒤 다시 신청한 직원이 있는지 분석.
      */
-    public String getAgencyRejectedThenReappliedAlert(Long memberNo) {
+    public AiPrompt prepareAgencyRejectedThenReappliedAlert(Long memberNo) {
         validateExactRole(memberNo, "에이전시 관리자");
 
         Member admin = memberRepository.findById(memberNo)
@@ -494,17 +489,17 @@ public class MagamjigiAiService {
             "이 정보를 바탕으로, 해당 직원들이 재신청 중이거나 반려 사유를 수정해 다시 신청했을 수 있음을 짧게 안내해 줘. " +
             "검토·배려가 필요할 수 있다는 점을 2~4문장으로 요약해 줘. 해당 직원이 없으면 그대로 '해당 직원 없음'이라고 요약해 줘.";
 
-        return callAi(templateText, Map.of("listText", listText));
+        return AiPrompt.of(templateText, Map.of("listText", listText));
     }
 
-    public String getArtistLeaveRecommendation(Long memberNo) {
+    public AiPrompt prepareArtistLeaveRecommendation(Long memberNo) {
         validateArtistRole(memberNo);
 
         LeaveBalance balance = leaveBalanceRepository
             .findByMember_MemberNoAndLeaveBalanceYear(memberNo, String.valueOf(LocalDate.now().getYear()))
             .orElse(null);
         if (balance == null) {
-            return "올해 연차 정보가 아직 등록되지 않았습니다. 에이전시 관리자에게 문의해 주세요.";
+            return AiPrompt.fixed("올해 연차 정보가 아직 등록되지 않았습니다. 에이전시 관리자에게 문의해 주세요.");
         }
 
         int total = balance.getLeaveBalanceTotalDays();
@@ -549,7 +544,7 @@ public class MagamjigiAiService {
             "3) 번아웃 예방 관점에서 조언을 덧붙여 줘\n\n" +
             "친근하고 부드러운 말투로 5~7문장 이내로 작성해. 의학적 진단은 배제해.";
 
-        return callAi(templateText, Map.of(
+        return AiPrompt.of(templateText, Map.of(
             "total", total,
             "used", String.format("%.1f", used),
             "remain", String.format("%.1f", remain),
@@ -561,7 +556,7 @@ public class MagamjigiAiService {
         ));
     }
 
-    public String getManagerLeaveRecommendation(Long memberNo) {
+    public AiPrompt prepareManagerLeaveRecommendation(Long memberNo) {
         validateExactRole(memberNo, "담당자");
 
         Manager manager = managerRepository.findByMember_MemberNo(memberNo)
@@ -569,7 +564,7 @@ public class MagamjigiAiService {
         List<ArtistAssignment> assignments = artistAssignmentRepository.findByManagerNo(manager.getManagerNo());
 
         if (assignments.isEmpty()) {
-            return "현재 배정된 작가가 없습니다.";
+            return AiPrompt.fixed("현재 배정된 작가가 없습니다.");
         }
 
         int currentMonth = LocalDate.now().getMonthValue();
@@ -617,7 +612,7 @@ public class MagamjigiAiService {
             "3) 조직 차원에서 번아웃 예방을 위한 팁을 덧붙여 줘\n\n" +
             "3~5문장으로 작성해. 의학적 진단은 배제해.";
 
-        return callAi(templateText, Map.of(
+        return AiPrompt.of(templateText, Map.of(
             "month", currentMonth,
             "expectedRate", expectedRate,
             "count", assignments.size(),
@@ -626,7 +621,7 @@ public class MagamjigiAiService {
         ));
     }
 
-    public String getManagerArtistWorkloadBalance(Long memberNo) {
+    public AiPrompt prepareManagerArtistWorkloadBalance(Long memberNo) {
         validateExactRole(memberNo, "담당자");
 
         Manager manager = managerRepository.findByMember_MemberNo(memberNo)
@@ -634,30 +629,21 @@ public class MagamjigiAiService {
         List<ArtistAssignment> assignments = artistAssignmentRepository.findByManagerNo(manager.getManagerNo());
 
         if (assignments.isEmpty()) {
-            return "현재 배정된 작가가 없습니다.";
+            return AiPrompt.fixed("현재 배정된 작가가 없습니다.");
         }
 
         LocalDate today = LocalDate.now();
-        LocalDate in7 = today.plusDays(7);
+        AiPromptContext context = aiPromptContextLoader.load(artistNosOf(assignments), today);
         StringBuilder artistData = new StringBuilder();
 
         for (ArtistAssignment assignment : assignments) {
             Member artist = assignment.getArtist();
-            Long mNo = artist.getMemberNo();
+            AiPromptContext.MemberStats stats = context.of(artist.getMemberNo());
 
-            long pastDueY = kanbanCardRepository.countByProjectMember_Member_MemberNoAndKanbanCardEndedAtBeforeAndKanbanCardStatus(mNo, today, "Y");
-            long pastDueN = kanbanCardRepository.countByProjectMember_Member_MemberNoAndKanbanCardEndedAtBeforeAndKanbanCardStatus(mNo, today, "N");
-            long pastDueTotal = pastDueY + pastDueN;
-            double compliance = pastDueTotal > 0 ? (pastDueY * 100.0 / pastDueTotal) : 100.0;
-
-            long incomplete = kanbanCardRepository.countByProjectMember_Member_MemberNo(mNo);
-            List<KanbanCard> incompleteList =
-                kanbanCardRepository.findByProjectMember_Member_MemberNoAndKanbanCardStatusOrderByKanbanCardEndedAtAsc(mNo, "N");
-            long in7Days = incompleteList.stream()
-                .filter(c -> c.getKanbanCardEndedAt() != null && !c.getKanbanCardEndedAt().isBefore(today) && !c.getKanbanCardEndedAt().isAfter(in7))
-                .count();
-
-            long completed = kanbanCardRepository.countByProjectMember_Member_MemberNoAndKanbanCardStatus(mNo, "Y");
+            double compliance = stats.getCompliance();
+            long incomplete = stats.getIncomplete();
+            long in7Days = stats.getDueIn7Days();
+            long completed = stats.getCompleted();
 
             artistData.append(String.format("- %s(%s): 마감 준수율 %.0f%%, 미완료 %d건, 7일 내 마감 %d건, 완료 누적 %d건\n",
                 artist.getMemberName(), artist.getMemberRole(), compliance, incomplete, in7Days, completed));
@@ -669,19 +655,20 @@ public class MagamjigiAiService {
             "위를 바탕으로 '누가 상대적으로 과부하인지', '업무 분배를 조정할 여지가 있는지'를 " +
             "2~3문장으로 요약해 줘. 친근한 말투로.";
 
-        return callAi(templateText, Map.of("artistData", artistData.toString()));
+        return AiPrompt.of(templateText, Map.of("artistData", artistData.toString()));
     }
 
-    public String getManagerMyHealthFeedback(Long memberNo) {
+    public AiPrompt prepareManagerMyHealthFeedback(Long memberNo) {
         validateExactRole(memberNo, "담당자");
 
-        Integer phq9 = getLatestScoreByOrderRange(memberNo, "월간 정신", 1, 9);
-        Integer gad = getLatestScoreByOrderRange(memberNo, "월간 정신", 10, 19);
-        Integer dash = getLatestTotalScore(memberNo, "월간 신체");
+        AiPromptContext.MemberStats stats = aiPromptContextLoader.loadScores(List.of(memberNo)).of(memberNo);
+        Integer phq9 = stats.getPhq9();
+        Integer gad = stats.getGad();
+        Integer dash = stats.getDash();
 
         // 설문 데이터가 모두 없을 때 처리
         if (phq9 == null && gad == null && dash == null) {
-            return "아직 건강 설문을 완료하지 않으셨네요. 건강 관리를 위해 설문을 완료해주시면 더 정확한 건강 조언을 드릴 수 있어요.";
+            return AiPrompt.fixed("아직 건강 설문을 완료하지 않으셨네요. 건강 관리를 위해 설문을 완료해주시면 더 정확한 건강 조언을 드릴 수 있어요.");
         }
 
         String phq9Text = phq9 != null ? phq9 + "점" : "미완료";
@@ -701,15 +688,15 @@ public class MagamjigiAiService {
             "미완료된 검사가 있으면 건강 관리를 위해 설문 완료를 권유해 줘. " +
             "각 검사별 1~2문장, 총 5문장 이내로 작성해.";
 
-        return callAi(templateText, Map.of("phq9", phq9Text, "gad", gadText, "dash", dashText));
+        return AiPrompt.of(templateText, Map.of("phq9", phq9Text, "gad", gadText, "dash", dashText));
     }
 
-    public String getManagerWorkationRecommendation(Long memberNo) {
+    public AiPrompt prepareManagerWorkationRecommendation(Long memberNo) {
         validateExactRole(memberNo, "담당자");
         return buildWorkationRecommendation(memberNo, "담당자");
     }
 
-    public String getManagerNudgeMessageRecommendation(Long memberNo) {
+    public AiPrompt prepareManagerNudgeMessageRecommendation(Long memberNo) {
         validateExactRole(memberNo, "담당자");
 
         Manager manager = managerRepository.findByMember_MemberNo(memberNo)
@@ -717,26 +704,25 @@ public class MagamjigiAiService {
         List<ArtistAssignment> assignments = artistAssignmentRepository.findByManagerNo(manager.getManagerNo());
 
         if (assignments.isEmpty()) {
-            return "현재 배정된 작가가 없습니다.";
+            return AiPrompt.fixed("현재 배정된 작가가 없습니다.");
         }
 
         LocalDate today = LocalDate.now();
+        AiPromptContext context = aiPromptContextLoader.load(artistNosOf(assignments), today);
         List<String> lowComplianceArtists = new java.util.ArrayList<>();
 
         for (ArtistAssignment assignment : assignments) {
             Member artist = assignment.getArtist();
-            Long mNo = artist.getMemberNo();
-            long pastDueY = kanbanCardRepository.countByProjectMember_Member_MemberNoAndKanbanCardEndedAtBeforeAndKanbanCardStatus(mNo, today, "Y");
-            long pastDueN = kanbanCardRepository.countByProjectMember_Member_MemberNoAndKanbanCardEndedAtBeforeAndKanbanCardStatus(mNo, today, "N");
-            long pastDueTotal = pastDueY + pastDueN;
-            double compliance = pastDueTotal > 0 ? (pastDueY * 100.0 / pastDueTotal) : 100.0;
+            AiPromptContext.MemberStats stats = context.of(artist.getMemberNo());
+            long pastDueTotal = stats.getPastDueTotal();
+            double compliance = stats.getCompliance();
             if (pastDueTotal >= 1 && compliance < 80.0) {
                 lowComplianceArtists.add(String.format("%s(%s): 마감 준수율 %.0f%%", artist.getMemberName(), artist.getMemberRole(), compliance));
             }
         }
 
         if (lowComplianceArtists.isEmpty()) {
-            return "마감 준수율이 낮은 배정 작가가 없어요. 현재 모두 80% 이상 준수하고 있어요.";
+            return AiPrompt.fixed("마감 준수율이 낮은 배정 작가가 없어요. 현재 모두 80% 이상 준수하고 있어요.");
         }
 
         String artistList = String.join("\n", lowComplianceArtists);
@@ -747,10 +733,10 @@ public class MagamjigiAiService {
             "규칙: 최대한 기분이 안 나쁘고, 둥글고 부드럽게 전달할 수 있는 말로 각 작가별 1~2문장씩 추천해 줘. " +
             "비난이나 강압 톤 없이, 격려와 이해를 담은 독촉 문구로 작성해 줘.";
 
-        return callAi(templateText, Map.of("artistList", artistList));
+        return AiPrompt.of(templateText, Map.of("artistList", artistList));
     }
 
-    public String getManagerArtistDailyHealthSummary(Long memberNo) {
+    public AiPrompt prepareManagerArtistDailyHealthSummary(Long memberNo) {
         validateExactRole(memberNo, "담당자");
 
         Manager manager = managerRepository.findByMember_MemberNo(memberNo)
@@ -758,7 +744,7 @@ public class MagamjigiAiService {
         List<ArtistAssignment> assignments = artistAssignmentRepository.findByManagerNo(manager.getManagerNo());
 
         if (assignments.isEmpty()) {
-            return "현재 배정된 작가가 없습니다.";
+            return AiPrompt.fixed("현재 배정된 작가가 없습니다.");
         }
 
         StringBuilder summary = new StringBuilder();
@@ -804,10 +790,10 @@ public class MagamjigiAiService {
             "위 데이터를 바탕으로: 컨디션이 연속으로 안 좋은 작가, 평균 수면 4시간 이하로 낮은 작가, 불편도가 높았던 적이 있는 작가 등을 짚어 주고, " +
             "담당자가 챙겨볼 만한 포인트를 3~5문장으로 요약해 줘. 의학적 진단은 배제하고, 관리·배려 관점으로 부드럽게.";
 
-        return callAi(templateText, Map.of("summary", summary.toString()));
+        return AiPrompt.of(templateText, Map.of("summary", summary.toString()));
     }
 
-    public String getArtistWorkloadSummary(Long memberNo) {
+    public AiPrompt prepareArtistWorkloadSummary(Long memberNo) {
         validateArtistRole(memberNo);
 
         List<KanbanCard> incomplete =
@@ -852,14 +838,14 @@ public class MagamjigiAiService {
             "위 데이터를 바탕으로 '이번 주 전반적으로 어떤지', '몇 일 전후가 가장 바쁜지'를 " +
             "친근한 말투로 3~4문장 요약해 줘. 격려 한 마디도 넣어 줘.";
 
-        return callAi(templateText, Map.of(
+        return AiPrompt.of(templateText, Map.of(
             "weekDist", weekDist,
             "monthTotal", monthTotal,
             "busiest", busiest
         ));
     }
 
-    public String getArtistProjectPriorityAdvice(Long memberNo) {
+    public AiPrompt prepareArtistProjectPriorityAdvice(Long memberNo) {
         validateArtistRole(memberNo);
 
         List<KanbanCard> incomplete =
@@ -888,7 +874,7 @@ public class MagamjigiAiService {
         }
 
         if (byProject.isEmpty()) {
-            return "현재 배정된 미완료 업무가 없어요. 담당자에게 할 일을 요청해 보세요.";
+            return AiPrompt.fixed("현재 배정된 미완료 업무가 없어요. 담당자에게 할 일을 요청해 보세요.");
         }
 
         String templateText =
@@ -899,15 +885,15 @@ public class MagamjigiAiService {
             "위를 바탕으로 '지금은 어떤 프로젝트에 더 집중할지', '어떤 건 다음 주에 몰아서 해도 되는지' 같은 " +
             "우선순위·타이밍 조언을 3~4문장으로 친근하게 해 줘.";
 
-        return callAi(templateText, Map.of("projectData", projectData.toString()));
+        return AiPrompt.of(templateText, Map.of("projectData", projectData.toString()));
     }
 
-    public String getArtistWorkationRecommendation(Long memberNo) {
+    public AiPrompt prepareArtistWorkationRecommendation(Long memberNo) {
         validateArtistRole(memberNo);
         return buildWorkationRecommendation(memberNo, "작가");
     }
 
-    private String buildWorkationRecommendation(Long memberNo, String roleLabel) {
+    private AiPrompt buildWorkationRecommendation(Long memberNo, String roleLabel) {
         List<KanbanCard> incomplete =
             kanbanCardRepository.findByProjectMember_Member_MemberNoAndKanbanCardStatusOrderByKanbanCardEndedAtAsc(memberNo, "N");
         LocalDate today = LocalDate.now();
@@ -942,7 +928,7 @@ public class MagamjigiAiService {
             "   - 3곳 중 최소 1곳은 해외 휴양지(동남아·일본·대만·유럽 등)로 골라 줘.\n\n" +
             "친근하고 부드러운 말투로 5~6문장 이내로 작성해.";
 
-        return callAi(templateText, Map.of(
+        return AiPrompt.of(templateText, Map.of(
             "workloadDesc", workloadDesc,
             "lightDesc", lightDesc
         ));
@@ -950,6 +936,13 @@ public class MagamjigiAiService {
 
     // === private helpers ===
 
+    private List<Long> artistNosOf(List<ArtistAssignment> assignments) {
+        return assignments.stream()
+            .map(a -> a.getArtist().getMemberNo())
+            .distinct()
+            .toList();
+    }
+
     private boolean isArtistRole(String role) {
         return ARTIST_KEYWORDS.stream().anyMatch(role::contains);
     }
@@ -962,6 +955,16 @@ public class MagamjigiAiService {
         }
     }
 
+    /**
+     * 에이전시 관리자 권한 확인 후 소속 에이전시 번호
+     */
+    public Long findAdminAgencyNo(Long memberNo) {
+        validateExactRole(memberNo, "에이전시 관리자");
+        Member admin = memberRepository.findById(memberNo)
+            .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
+        return admin.getAgency().getAgencyNo();
+    }
+
     private void validateExactRole(Long memberNo, String expectedRole) {
         Member member = memberRepository.findById(memberNo)
             .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다: " + memberNo));
@@ -1012,18 +1015,83 @@ public class MagamjigiAiService {
         };
     }
 
-    private String callAi(String templateText, Map<String, Object> variables) {
+    /**
+     * AI 응답 (동기). 같은 입력 데이터·말투의 반복 요청은 캐시된 응답 반환
+     */
+    public String answer(AiPrompt aiPrompt) {
+        return answer(aiPrompt, LlmPriority.INTERACTIVE);
+    }
+
+    /**
+     * AI 응답 (동기, 호출 우선순위 지정). 야간 배치 등은 BATCH로 호출해 화면 요청에 양보
+     */
+    public String answer(AiPrompt aiPrompt, LlmPriority priority) {
+        return answer(aiPrompt, priority, true);
+    }
+
+    /**
+     * AI 응답 (동기). useCache=false면 캐시를 건너뛰고 항상 새로 생성 (새 응답은 캐시에 저장)
+     * 관리자 새로고침·야간 사전 계산처럼 "지금 생성한 결과"가 필요한 경우 사용
+     */
+    public String answer(AiPrompt aiPrompt, LlmPriority priority, boolean useCache) {
+        if (aiPrompt.isFixed()) {
+            return aiPrompt.getFixedAnswer();
+        }
+        String templateText = applyTone(aiPrompt.getTemplateText());
+        String cacheKey = cacheKeyOf(templateText, aiPrompt.getVariables());
+        if (useCache) {
+            String cached = aiResponseCache.get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Prompt prompt = new PromptTemplate(templateText).create(aiPrompt.getVariables());
+        ChatResponse response = llmExecutor.call(priority, () -> chatModel.call(prompt));
+        String answer = response.getResult().getOutput().getText();
+        aiResponseCache.put(cacheKey, answer);
+        return answer;
+    }
+
+    /**
+     * AI 응답 (스트리밍). 토큰 조각 단위로 흘려보내고, 완료되면 전체 응답을 캐시에 저장.
+     * 말투·요청 컨텍스트는 호출 스레드에서 바로 읽으므로 구독 스레드와 무관.
+     */
+    public Flux<String> stream(AiPrompt aiPrompt) {
+        if (aiPrompt.isFixed()) {
+            return Flux.just(aiPrompt.getFixedAnswer());
+        }
+        String templateText = applyTone(aiPrompt.getTemplateText());
+        String cacheKey = cacheKeyOf(templateText, aiPrompt.getVariables());
+        String cached = aiResponseCache.get(cacheKey);
+        if (cached != null) {
+            return Flux.just(cached);
+        }
+
+        Prompt prompt = new PromptTemplate(templateText).create(aiPrompt.getVariables());
+        StringBuilder fullAnswer = new StringBuilder();
+        return llmExecutor.stream(LlmPriority.INTERACTIVE, () -> chatModel.stream(prompt))
+            .mapNotNull(response -> response.getResult() != null && response.getResult().getOutput() != null
+                ? response.getResult().getOutput().getText() : null)
+            .filter(chunk -> !chunk.isEmpty())
+            .doOnNext(fullAnswer::append)
+            .doOnComplete(() -> aiResponseCache.put(cacheKey, fullAnswer.toString()));
+    }
+
+    private String applyTone(String templateText) {
         String tone = ToneContext.get();
         if (tone != null && !tone.isEmpty()) {
             String instruction = getToneInstruction(tone);
             if (instruction != null && !instruction.isEmpty()) {
-                templateText = templateText + "\n\n[말투 지시] " + instruction;
+                return templateText + "\n\n[말투 지시] " + instruction;
             }
         }
-        PromptTemplate promptTemplate = new PromptTemplate(templateText);
-        Prompt prompt = promptTemplate.create(variables);
-        ChatResponse response = chatModel.call(prompt);
-        return response.getResult().getOutput().getText();
+        return templateText;
+    }
+
+    private String cacheKeyOf(String templateText, Map<String, Object> variables) {
+        return aiResponseCache.keyOf(AiRequestContext.getEndpoint(), AiRequestContext.getMemberNo(),
+            ToneContext.get(), templateText, variables);
     }
 
     /**
@@ -1042,33 +1110,4 @@ public class MagamjigiAiService {
             default -> null;
         };
     }
-
-    private Integer getLatestTotalScore(Long memberNo, String healthSurveyQuestionType) {
-        List<HealthSurveyResponseItem> items = healthSurveyResponseItemRepository
-            .findByMemberNoAndHealthSurveyType(memberNo, healthSurveyQuestionType);
-        return sumLatestScores(items);
-    }
-
-    private Integer getLatestScoreByOrderRange(Long memberNo, String type, int minOrder, int maxOrder) {
-        List<HealthSurveyResponseItem> items = healthSurveyResponseItemRepository
-            .findByMemberNoAndTypeAndOrderRange(memberNo, type, minOrder, maxOrder);
-        return sumLatestScores(items);
-    }
-
-    private Integer sumLatestScores(List<HealthSurveyResponseItem> items) {
-        if (items == null || items.isEmpty()) return null;
-
-        Map<LocalDateTime, List<HealthSurveyResponseItem>> byCreatedAt = items.stream()
-            .filter(i -> i.getHealthSurveyQuestionItemCreatedAt() != null)
-            .collect(Collectors.groupingBy(HealthSurveyResponseItem::getHealthSurveyQuestionItemCreatedAt));
-        LocalDateTime latest = byCreatedAt.keySet().stream()
-            .max(LocalDateTime::compareTo)
-            .orElse(null);
-        if (latest == null) return null;
-
-        return byCreatedAt.get(latest).stream()
-            .mapToInt(i -> i.getHealthSurveyQuestionItemAnswerScore() != null
-                ? i.getHealthSurveyQuestionItemAnswerScore() : 0)
-            .sum();
-    }
 }
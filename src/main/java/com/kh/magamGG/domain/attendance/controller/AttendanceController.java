@@ -113,13 +113,15 @@ public class AttendanceController {
 	 * @param agencyNo 에이전시 번호
 	 * @param year 조회 년도 (기본값: 현재 년도)
 	 * @param month 조회 월 (기본값: 현재 월)
+	 * @param compact true면 날짜별 이벤트 대신 기간 단위 일정(calendarSpans) 반환 (대형 에이전시 응답 축소용)
 	 * @return 캘린더 이벤트 목록 (재택근무: 주황색, 휴가: 회색, 워케이션: 보라색)
 	 */
 	@GetMapping("/admin-calendar/{agencyNo}")
 	public ResponseEntity<AttendanceStatisticsResponseDto> getAdminCalendar(
 			@PathVariable Long agencyNo,
 			@RequestParam(required = false) Integer year,
-			@RequestParam(required = false) Integer month) {
+			@RequestParam(required = false) Integer month,
+			@RequestParam(defaultValue = "false") boolean compact) {
 		
 		log.info("관리자 캘린더 조회: 에이전시={}, 년월={}-{}", agencyNo, year, month);
 		
@@ -128,7 +130,7 @@ public class AttendanceController {
 		int currentMonth = month != null ? month : java.time.LocalDate.now().getMonthValue();
 		
 		AttendanceStatisticsResponseDto response = attendanceService.getAdminCalendar(
-			agencyNo, currentYear, currentMonth
+			agencyNo, currentYear, currentMonth, compact
 		);
 		
 		return ResponseEntity.ok(response);
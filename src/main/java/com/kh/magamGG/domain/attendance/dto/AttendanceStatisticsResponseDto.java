@@ -16,6 +16,7 @@ public class AttendanceStatisticsResponseDto {
 	private List<TypeCount> typeCounts;
 	private Integer totalCount;
 	private List<CalendarEvent> calendarEvents; // 캘린더용 이벤트 데이터 추가
+	private List<CalendarSpan> calendarSpans; // compact 조회 시 날짜별 이벤트 대신 기간 단위 일정
 	
 	@Getter
 	@Builder
@@ -38,5 +39,20 @@ public class AttendanceStatisticsResponseDto {
 		private String colorCode; // #FF8C00(주황), #808080(회색), #8A2BE2(보라)
 		private String title;
 	}
+
+	/** 회원·유형별 연속 기간 (같은 회원·유형의 겹치거나 이어진 신청은 하나로 합침, 조회 월 범위로 잘라냄) */
+	@Getter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class CalendarSpan {
+		private Long memberNo;
+		private String memberName;
+		private LocalDate startDate;
+		private LocalDate endDate; // 포함
+		private String eventType;
+		private String colorCode;
+		private String title;
+	}
 }
 
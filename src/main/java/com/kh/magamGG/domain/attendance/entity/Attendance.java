@@ -10,7 +10,10 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "ATTENDANCE")
+@Table(name = "ATTENDANCE", indexes = {
+		@Index(name = "IDX_ATTENDANCE_MEMBER_TIME", columnList = "MEMBER_NO, ATTENDANCE_TIME"),
+		@Index(name = "IDX_ATTENDANCE_AGENCY_TIME", columnList = "AGENCY_NO, ATTENDANCE_TIME")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "ATTENDANCE_REQUEST")
+@Table(name = "ATTENDANCE_REQUEST", indexes = @Index(name = "IDX_ATTENDANCE_REQUEST_MEMBER_STATUS_START",
+		columnList = "MEMBER_NO, ATTENDANCE_REQUEST_STATUS, ATTENDANCE_REQUEST_START_DATE"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -9,7 +9,7 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "LEAVE_HISTORY")
+@Table(name = "LEAVE_HISTORY", indexes = @Index(name = "IDX_LEAVE_HISTORY_MEMBER_DATE", columnList = "MEMBER_NO, LEAVE_HISTORY_DATE"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,51 @@
+package com.kh.magamGG.domain.attendance.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원·연도별 연차 원장 (직원 연차 관리 화면 조회용)
+ * LEAVE_BALANCE 변경·연차 조정 시 함께 갱신, 야간 백필로 재계산
+ */
+@Entity
+@Table(name = "MEMBER_LEAVE_LEDGER",
+        uniqueConstraints = @UniqueConstraint(name = "UK_MEMBER_LEAVE_LEDGER", columnNames = {"MEMBER_NO", "LEDGER_YEAR"}))
+@Getter
+@NoArgsConstructor
+public class MemberLeaveLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "MEMBER_LEAVE_LEDGER_NO")
+    private Long memberLeaveLedgerNo;
+
+    @Column(name = "MEMBER_NO", nullable = false)
+    private Long memberNo;
+
+    /** 연도 (yyyy) */
+    @Column(name = "LEDGER_YEAR", nullable = false, length = 4)
+    private String ledgerYear;
+
+    /** 해당 연도 LEAVE_BALANCE 번호 (조정 이력만 있는 연도는 null) */
+    @Column(name = "LEAVE_BALANCE_NO")
+    private Long leaveBalanceNo;
+
+    @Column(name = "TOTAL_DAYS", nullable = false)
+    private Integer totalDays;
+
+    @Column(name = "USED_DAYS", nullable = false)
+    private Integer usedDays;
+
+    @Column(name = "REMAIN_DAYS", nullable = false)
+    private Double remainDays;
+
+    /** 해당 연도 LEAVE_HISTORY 조정 합계 */
+    @Column(name = "ADJUSTED_DAYS", nullable = false)
+    private Integer adjustedDays;
+
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+}
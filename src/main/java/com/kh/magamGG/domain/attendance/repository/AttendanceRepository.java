@@ -5,88 +5,101 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 기간 조건은 모두 반열린 구간 [from, to) 로 attendance_time 자체를 비교
+ * (YEAR()/MONTH()/DATE()로 감싸면 IDX_ATTENDANCE_MEMBER_TIME·IDX_ATTENDANCE_AGENCY_TIME 인덱스를 타지 못함)
+ */
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 
-	/** 회원·연·월 기준 출근(체크인)한 날짜 목록 (날짜별 1건, 같은 날 여러 번 출근해도 1일) - 출근만 */
+	/** 회원·기간 [from, to) 출근(체크인)한 날짜 목록 (날짜별 1건, 같은 날 여러 번 출근해도 1일) - 출근만 */
 	@Query(value = "SELECT DISTINCT DATE(a.attendance_time) FROM attendance a " +
-			"WHERE a.member_no = :memberNo AND YEAR(a.attendance_time) = :year AND MONTH(a.attendance_time) = :month " +
+			"WHERE a.member_no = :memberNo AND a.attendance_time >= :from AND a.attendance_time < :to " +
 			"AND a.attendance_type = '출근'", nativeQuery = true)
-	List<java.sql.Date> findDistinctCheckInDatesByMemberNoAndMonth(
+	List<java.sql.Date> findDistinctCheckInDatesByMemberNoAndRange(
 			@Param("memberNo") Long memberNo,
-			@Param("year") int year,
-			@Param("month") int month);
+			@Param("from") LocalDateTime from,
+			@Param("to") LocalDateTime to);
 
-	/** 회원·연·월 기준 근무일별 타입 (출근/재택근무/워케이션) - 집계용, 날짜별 1타입 */
+	/** 회원·기간 [from, to) 근무일별 타입 (출근/재택근무/워케이션) - 집계용, 날짜별 1타입 */
 	@Query(value = "SELECT DISTINCT DATE(a.attendance_time), a.attendance_type FROM attendance a " +
-			"WHERE a.member_no = :memberNo AND YEAR(a.attendance_time) = :year AND MONTH(a.attendance_time) = :month " +
+			"WHERE a.member_no = :memberNo AND a.attendance_time >= :from AND a.attendance_time < :to " +
 			"AND a.attendance_type IN ('출근','재택근무','워케이션')", nativeQuery = true)
-	List<Object[]> findDistinctCheckInDatesWithTypeByMemberNoAndMonth(
+	List<Object[]> findDistinctCheckInDatesWithTypeByMemberNoAndRange(
 			@Param("memberNo") Long memberNo,
-			@Param("year") int year,
-			@Param("month") int month);
+			@Param("from") LocalDateTime from,
+			@Param("to") LocalDateTime to);
 
-	/** 에이전시 금일 출석 기록 조회 (금일 출석 분포용) */
-	@Query("SELECT a FROM Attendance a WHERE a.agency.agencyNo = :agencyNo AND DATE(a.attendanceTime) = :today ORDER BY a.member.memberNo, a.attendanceTime DESC")
-	List<Attendance> findByAgency_AgencyNoAndDate(@Param("agencyNo") Long agencyNo, @Param("today") LocalDate today);
+	/** 에이전시 기간 [from, to) 출석 기록 조회 (금일 출석 분포용, 회원별 최신순) */
+	@Query("SELECT a FROM Attendance a WHERE a.agency.agencyNo = :agencyNo " +
+		   "AND a.attendanceTime >= :from AND a.attendanceTime < :to " +
+		   "ORDER BY a.member.memberNo, a.attendanceTime DESC")
+	List<Attendance> findByAgencyNoAndRange(
+		@Param("agencyNo") Long agencyNo,
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to
+	);
 	
 	/**
-	 * 회원별 월별 근태 타입별 통계 조회
+	 * 회원별 기간 [from, to) 근태 타입별 통계 조회
 	 */
 	@Query("SELECT a.attendanceType, COUNT(a) FROM Attendance a " +
 		   "WHERE a.member.memberNo = :memberNo " +
-		   "AND YEAR(a.attendanceTime) = :year " +
-		   "AND MONTH(a.attendanceTime) = :month " +
+		   "AND a.attendanceTime >= :from " +
+		   "AND a.attendanceTime < :to " +
 		   "GROUP BY a.attendanceType")
-	List<Object[]> countByMemberNoAndMonth(
+	List<Object[]> countByMemberNoAndRange(
 		@Param("memberNo") Long memberNo,
-		@Param("year") int year,
-		@Param("month") int month
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to
 	);
 
 	/**
-	 * 회원별 월별 출근한 날 수 (날짜별 1회 집계, 같은 날 여러 출근/퇴근 있어도 1일로 카운트)
+	 * 회원별 기간 [from, to) 출근한 날 수 (날짜별 1회 집계, 같은 날 여러 출근/퇴근 있어도 1일로 카운트)
 	 * 마이페이지 근태 통계용 - '출근'만 표시
 	 */
 	@Query("SELECT COUNT(DISTINCT FUNCTION('DATE', a.attendanceTime)) FROM Attendance a " +
 		   "WHERE a.member.memberNo = :memberNo " +
-		   "AND YEAR(a.attendanceTime) = :year " +
-		   "AND MONTH(a.attendanceTime) = :month " +
+		   "AND a.attendanceTime >= :from " +
+		   "AND a.attendanceTime < :to " +
 		   "AND a.attendanceType = '출근'")
-	long countDistinctCheckInDaysByMemberNoAndMonth(
+	long countDistinctCheckInDaysByMemberNoAndRange(
 		@Param("memberNo") Long memberNo,
-		@Param("year") int year,
-		@Param("month") int month
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to
 	);
 
 	/**
-	 * 회원의 오늘 날짜의 마지막 출근 기록 조회
+	 * 회원의 하루 [dayStart, nextDayStart) 근태 기록 최신순 조회
 	 * @param memberNo 회원 번호
-	 * @param today 오늘 날짜 (시간 제외)
-	 * @return 마지막 출근 기록 (없으면 null)
+	 * @param dayStart 오늘 00:00
+	 * @param nextDayStart 내일 00:00
+	 * @return 최신순 기록 (첫 번째가 마지막 출근/퇴근, 없으면 빈 목록)
 	 */
 	@Query("SELECT a FROM Attendance a " +
 		   "WHERE a.member.memberNo = :memberNo " +
-		   "AND DATE(a.attendanceTime) = :today " +
+		   "AND a.attendanceTime >= :dayStart " +
+		   "AND a.attendanceTime < :nextDayStart " +
 		   "ORDER BY a.attendanceTime DESC")
 	List<Attendance> findTodayLastAttendanceByMemberNo(
 		@Param("memberNo") Long memberNo,
-		@Param("today") java.time.LocalDate today
+		@Param("dayStart") LocalDateTime dayStart,
+		@Param("nextDayStart") LocalDateTime nextDayStart
 	);
 
 	/**
-	 * 에이전시별 특정 날짜 출근(체크인)한 회원 번호 목록 조회
+	 * 에이전시별 기간 [from, to) 출근(체크인)한 회원 번호 목록 조회
 	 */
 	@Query("SELECT DISTINCT a.member.memberNo FROM Attendance a " +
 		   "WHERE a.agency.agencyNo = :agencyNo " +
-		   "AND DATE(a.attendanceTime) = :date " +
+		   "AND a.attendanceTime >= :from " +
+		   "AND a.attendanceTime < :to " +
 		   "AND a.attendanceType = '출근'")
-	List<Long> findMemberNosCheckedInByAgencyAndDate(
+	List<Long> findMemberNosCheckedInByAgencyAndRange(
 		@Param("agencyNo") Long agencyNo,
-		@Param("date") LocalDate date
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to
 	);
 }
-
-
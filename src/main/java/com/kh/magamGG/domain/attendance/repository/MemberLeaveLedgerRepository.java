@@ -0,0 +1,131 @@
+package com.kh.magamGG.domain.attendance.repository;
+
+import com.kh.magamGG.domain.attendance.entity.MemberLeaveLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface MemberLeaveLedgerRepository extends JpaRepository<MemberLeaveLedger, Long> {
+
+    /**
+     * 연차 잔액 반영 (없으면 생성, 있으면 잔액 컬럼만 덮어씀. 조정 합계는 유지)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO member_leave_ledger " +
+           "(member_no, ledger_year, leave_balance_no, total_days, used_days, remain_days, adjusted_days, updated_at) " +
+           "VALUES (:memberNo, :ledgerYear, :leaveBalanceNo, :totalDays, :usedDays, :remainDays, 0, NOW()) " +
+           "ON DUPLICATE KEY UPDATE " +
+           "leave_balance_no = VALUES(leave_balance_no), " +
+           "total_days = VALUES(total_days), " +
+           "used_days = VALUES(used_days), " +
+           "remain_days = VALUES(remain_days), " +
+           "updated_at = NOW()", nativeQuery = true)
+    int upsertBalance(@Param("memberNo") Long memberNo,
+                      @Param("ledgerYear") String ledgerYear,
+                      @Param("leaveBalanceNo") Long leaveBalanceNo,
+                      @Param("totalDays") int totalDays,
+                      @Param("usedDays") int usedDays,
+                      @Param("remainDays") double remainDays);
+
+    /**
+     * 연차 조정 증분 반영 (없으면 생성, 있으면 누적). delta는 음수 가능.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO member_leave_ledger " +
+           "(member_no, ledger_year, leave_balance_no, total_days, used_days, remain_days, adjusted_days, updated_at) " +
+           "VALUES (:memberNo, :ledgerYear, NULL, 0, 0, 0, :delta, NOW()) " +
+           "ON DUPLICATE KEY UPDATE " +
+           "adjusted_days = adjusted_days + VALUES(adjusted_days), " +
+           "updated_at = NOW()", nativeQuery = true)
+    int addAdjustment(@Param("memberNo") Long memberNo,
+                      @Param("ledgerYear") String ledgerYear,
+                      @Param("delta") int delta);
+
+    /**
+     * 에이전시 직원 연차 목록 (에이전시 관리자 제외, 회원번호 순)
+     * [회원번호, 이름, 역할, 총연차, 사용, 잔여, 연도, LEAVE_BALANCE 번호, 당해 연도 조정 합계]
+     * 잔액은 LEAVE_BALANCE가 있는 최신 연도 행, 조정 합계는 currentYear 행 기준. 원장 행이 없으면 null
+     */
+    @Query(value = "SELECT m.member_no, m.member_name, m.member_role, " +
+           "bl.total_days, bl.used_days, bl.remain_days, bl.ledger_year, bl.leave_balance_no, cy.adjusted_days " +
+           "FROM member m " +
+           "LEFT JOIN member_leave_ledger bl ON bl.member_no = m.member_no " +
+           "AND bl.ledger_year = (SELECT MAX(l.ledger_year) FROM member_leave_ledger l " +
+           "                      WHERE l.member_no = m.member_no AND l.leave_balance_no IS NOT NULL) " +
+           "LEFT JOIN member_leave_ledger cy ON cy.member_no = m.member_no AND cy.ledger_year = :currentYear " +
+           "WHERE m.agency_no = :agencyNo AND m.member_role <> '에이전시 관리자' " +
+           "ORDER BY m.member_no", nativeQuery = true)
+    List<Object[]> findAgencyLeaveRows(@Param("agencyNo") Long agencyNo,
+                                       @Param("currentYear") String currentYear);
+
+    /**
+     * LEAVE_BALANCE로부터 회원·연도별 잔액 반영 (백필). 같은 회원·연도 행이 여럿이면 최근 번호 기준.
+     * 키(회원, 연도)별로 잔액 컬럼 절대값을 덮어씀 (조정 합계는 유지, 전체 삭제 없이 행 단위 잠금)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO member_leave_ledger " +
+           "(member_no, ledger_year, leave_balance_no, total_days, used_days, remain_days, adjusted_days, updated_at) " +
+           "SELECT lb.member_no, lb.leave_balance_year, lb.leave_balance_no, " +
+           "COALESCE(lb.leave_balance_total_days, 0), COALESCE(lb.leave_balance_used_days, 0), " +
+           "COALESCE(lb.leave_balance_remain_days, 0), 0, NOW() " +
+           "FROM leave_balance lb " +
+           "JOIN (SELECT MAX(leave_balance_no) AS leave_balance_no FROM leave_balance " +
+           "      GROUP BY member_no, leave_balance_year) latest ON latest.leave_balance_no = lb.leave_balance_no " +
+           "ON DUPLICATE KEY UPDATE " +
+           "leave_balance_no = VALUES(leave_balance_no), " +
+           "total_days = VALUES(total_days), " +
+           "used_days = VALUES(used_days), " +
+           "remain_days = VALUES(remain_days), " +
+           "updated_at = NOW()",
+           nativeQuery = true)
+    int upsertBalancesFromLeaveBalance();
+
+    /**
+     * LEAVE_HISTORY로부터 회원·연도별 조정 합계 반영 (백필, 잔액 행이 없으면 생성)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO member_leave_ledger " +
+           "(member_no, ledger_year, leave_balance_no, total_days, used_days, remain_days, adjusted_days, updated_at) " +
+           "SELECT lh.member_no, CAST(YEAR(lh.leave_history_date) AS CHAR(4)), NULL, 0, 0, 0, " +
+           "COALESCE(SUM(lh.leave_history_amount), 0), NOW() " +
+           "FROM leave_history lh " +
+           "WHERE lh.leave_history_date IS NOT NULL " +
+           "GROUP BY lh.member_no, YEAR(lh.leave_history_date) " +
+           "ON DUPLICATE KEY UPDATE adjusted_days = VALUES(adjusted_days), updated_at = NOW()",
+           nativeQuery = true)
+    int mergeAdjustmentsFromLeaveHistory();
+
+    /**
+     * 원본 LEAVE_BALANCE가 없어진 원장 행의 잔액 컬럼 초기화 (행은 남겨 조정 합계·증분 반영 보존)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE member_leave_ledger mll " +
+           "SET mll.leave_balance_no = NULL, mll.total_days = 0, mll.used_days = 0, mll.remain_days = 0, " +
+           "mll.updated_at = NOW() " +
+           "WHERE mll.leave_balance_no IS NOT NULL " +
+           "AND NOT EXISTS (SELECT 1 FROM leave_balance lb " +
+           "  WHERE lb.member_no = mll.member_no AND lb.leave_balance_year = mll.ledger_year)",
+           nativeQuery = true)
+    int clearOrphanedBalances();
+
+    /**
+     * 해당 연도 LEAVE_HISTORY가 없어진 원장 행의 조정 합계 0으로
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE member_leave_ledger mll " +
+           "SET mll.adjusted_days = 0, mll.updated_at = NOW() " +
+           "WHERE mll.adjusted_days <> 0 " +
+           "AND NOT EXISTS (SELECT 1 FROM leave_history lh " +
+           "  WHERE lh.member_no = mll.member_no " +
+           "  AND CAST(YEAR(lh.leave_history_date) AS CHAR(4)) = mll.ledger_year)",
+           nativeQuery = true)
+    int zeroOrphanedAdjustments();
+}
@@ -0,0 +1,121 @@
+package com.kh.magamGG.domain.attendance.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * 근태 신청 기간 계산 (일 단위 닫힌 구간 [start, end])
+ * - resolve: 겹치는 신청이 있으면 목록에서 앞선 신청이 적용되는 구간으로 분할 (스윕 라인, O(n log n))
+ * - merge: 같은 값(회원·유형 등)의 겹치거나 이어진 구간을 하나로 합침
+ * 날짜를 하루씩 돌며 신청 목록을 매번 훑던 방식(O(일수 × 신청 수)) 대체
+ */
+final class AttendanceIntervals {
+
+    private AttendanceIntervals() {
+    }
+
+    /** 닫힌 구간 [start, end]와 값 */
+    record Span<T>(LocalDate start, LocalDate end, T value) {
+
+        long days() {
+            return ChronoUnit.DAYS.between(start, end) + 1;
+        }
+    }
+
+    /**
+     * [from, to] 안에서 날짜마다 적용되는 구간 계산. 여러 구간이 겹치면 목록에서 앞선 구간이 우선
+     * @return 시작일 순, 서로 겹치지 않는 구간 (적용되는 구간이 없는 날은 빠짐)
+     */
+    static <T> List<Span<T>> resolve(List<Span<T>> intervals, LocalDate from, LocalDate to) {
+        int n = intervals.size();
+        LocalDate[] starts = new LocalDate[n];
+        LocalDate[] ends = new LocalDate[n];
+        TreeSet<LocalDate> points = new TreeSet<>();
+        List<Integer> order = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Span<T> span = intervals.get(i);
+            LocalDate start = span.start().isBefore(from) ? from : span.start();
+            LocalDate end = span.end().isAfter(to) ? to : span.end();
+            if (start.isAfter(end)) {
+                continue;
+            }
+            starts[i] = start;
+            ends[i] = end;
+            points.add(start);
+            points.add(end.plusDays(1));
+            order.add(i);
+        }
+        order.sort(Comparator.comparing((Integer i) -> starts[i]));
+
+        // 구간 경계 사이에서는 적용 구간이 바뀌지 않으므로 경계마다 한 번씩만 판정
+        List<Span<T>> result = new ArrayList<>();
+        PriorityQueue<Integer> active = new PriorityQueue<>();
+        int next = 0;
+        int lastWinner = -1;
+        LocalDate point = points.pollFirst();
+        while (point != null) {
+            LocalDate nextPoint = points.pollFirst();
+            while (next < order.size() && !starts[order.get(next)].isAfter(point)) {
+                active.add(order.get(next++));
+            }
+            while (!active.isEmpty() && ends[active.peek()].isBefore(point)) {
+                active.poll();
+            }
+            if (!active.isEmpty() && nextPoint != null) {
+                int winner = active.peek();
+                LocalDate segmentEnd = nextPoint.minusDays(1);
+                Span<T> last = result.isEmpty() ? null : result.get(result.size() - 1);
+                if (winner == lastWinner && last != null && last.end().plusDays(1).equals(point)) {
+                    result.set(result.size() - 1, new Span<>(last.start(), segmentEnd, last.value()));
+                } else {
+                    result.add(new Span<>(point, segmentEnd, intervals.get(winner).value()));
+                }
+                lastWinner = winner;
+            } else {
+                lastWinner = -1;
+            }
+            point = nextPoint;
+        }
+        return result;
+    }
+
+    /**
+     * 같은 값끼리 겹치거나 바로 이어지는 구간을 합침
+     * @return 값별로 합친 구간 (시작일 순)
+     */
+    static <T> List<Span<T>> merge(List<Span<T>> spans) {
+        Map<T, List<Span<T>>> byValue = new LinkedHashMap<>();
+        for (Span<T> span : spans) {
+            byValue.computeIfAbsent(span.value(), k -> new ArrayList<>()).add(span);
+        }
+        List<Span<T>> result = new ArrayList<>();
+        for (List<Span<T>> group : byValue.values()) {
+            group.sort(Comparator.comparing(Span::start));
+            Span<T> current = null;
+            for (Span<T> span : group) {
+                if (current != null && !span.start().isAfter(current.end().plusDays(1))) {
+                    if (span.end().isAfter(current.end())) {
+                        current = new Span<>(current.start(), span.end(), current.value());
+                    }
+                    continue;
+                }
+                if (current != null) {
+                    result.add(current);
+                }
+                current = span;
+            }
+            if (current != null) {
+                result.add(current);
+            }
+        }
+        result.sort(Comparator.comparing(Span::start));
+        return result;
+    }
+}
@@ -0,0 +1,215 @@
+package com.kh.magamGG.domain.attendance.service;
+
+import com.kh.magamGG.domain.attendance.entity.Attendance;
+import com.kh.magamGG.domain.attendance.entity.AttendanceRequest;
+import com.kh.magamGG.domain.attendance.repository.AttendanceRepository;
+import com.kh.magamGG.domain.attendance.repository.AttendanceRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 에이전시별 금일 근태 현황판 (메모리)
+ * - 회원별 오늘 마지막 출근/퇴근 기록과 오늘 포함 승인 근태 신청(휴가/재택근무/워케이션)을 보관
+ * - 출근·퇴근·근태 신청 승인 시 커밋 후 반영, 자정에 비우고 다음 조회 때 DB에서 다시 적재
+ * - 금일 출석 분포·채팅방 참여자 상태·담당 작가 근무중 목록이 쿼리 없이 조회
+ * 단일 인스턴스 기준 (다중 인스턴스면 다른 인스턴스 변경은 자정 재적재 전까지 반영되지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AttendancePresenceBoard {
+
+    /** 같은 날 여러 승인 신청이 겹치면 휴가 > 재택근무 > 워케이션 순으로 표시 */
+    private static final List<String> REQUEST_STATUS_PRIORITY = List.of("휴가", "재택근무", "워케이션");
+
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceRequestRepository attendanceRequestRepository;
+
+    private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+
+    /**
+     * 에이전시 금일 현황 (없거나 날짜가 지난 경우 DB에서 적재)
+     */
+    public Board today(Long agencyNo) {
+        LocalDate today = LocalDate.now();
+        Board board = boards.compute(agencyNo,
+                (no, existing) -> existing != null && existing.date.equals(today) ? existing : new Board(today));
+        try {
+            board.ensureLoaded(agencyNo);
+        } catch (RuntimeException e) {
+            // 적재 실패 시 이번 조회는 빈 현황으로 응답, 다음 조회에서 다시 적재
+            log.warn("금일 근태 현황판 적재 실패: agencyNo={}, error={}", agencyNo, e.getMessage());
+            return new Board(today);
+        }
+        return board;
+    }
+
+    /**
+     * 출근/퇴근 기록 반영 (트랜잭션 커밋 후)
+     */
+    public void recordAttendance(Long agencyNo, Long memberNo, String attendanceType, LocalDateTime attendanceTime) {
+        if (agencyNo == null || memberNo == null || attendanceTime == null) {
+            return;
+        }
+        runAfterCommit(() -> {
+            Board board = boards.get(agencyNo);
+            if (board != null && board.date.equals(attendanceTime.toLocalDate())) {
+                board.putAttendance(memberNo, new AttendanceMark(attendanceType, attendanceTime));
+            }
+        });
+    }
+
+    /**
+     * 근태 신청 승인 반영 (트랜잭션 커밋 후, 오늘이 신청 기간에 포함된 경우만)
+     */
+    public void recordApprovedRequest(Long agencyNo, Long memberNo, String requestType,
+                                      LocalDateTime startDate, LocalDateTime endDate) {
+        String status = requestTypeToDisplay(requestType);
+        if (agencyNo == null || memberNo == null || status == null) {
+            return;
+        }
+        runAfterCommit(() -> {
+            Board board = boards.get(agencyNo);
+            if (board != null && covers(board.date, startDate, endDate)) {
+                board.putRequestStatus(memberNo, status);
+            }
+        });
+    }
+
+    /**
+     * 에이전시 현황 재적재 (다음 조회 시 DB에서 다시 읽음)
+     */
+    public void invalidate(Long agencyNo) {
+        boards.remove(agencyNo);
+    }
+
+    /**
+     * 자정 초기화: 전날 현황 제거 (에이전시별로 다음 조회 때 적재)
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void resetAll() {
+        int size = boards.size();
+        boards.clear();
+        log.info("금일 근태 현황판 초기화: agencies={}", size);
+    }
+
+    /** 근태 신청 타입 → 표시 상태 (휴가/재택근무/워케이션, 그 외 null) */
+    public static String requestTypeToDisplay(String requestType) {
+        if (requestType == null) return null;
+        String t = requestType.trim();
+        if ("연차".equals(t) || "반차".equals(t) || "반반차".equals(t) || "병가".equals(t) || "휴재".equals(t) || "휴가".equals(t)) {
+            return "휴가";
+        }
+        if ("재택근무".equals(t) || "재택".equals(t)) return "재택근무";
+        if ("워케이션".equals(t)) return "워케이션";
+        return null;
+    }
+
+    private static boolean covers(LocalDate date, LocalDateTime startDate, LocalDateTime endDate) {
+        return startDate != null && endDate != null
+                && !startDate.isAfter(date.atTime(LocalTime.MAX))
+                && !endDate.isBefore(date.atStartOfDay());
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /** 오늘 마지막 근태 기록 (출근/퇴근, 시각) */
+    public record AttendanceMark(String attendanceType, LocalDateTime attendanceTime) {
+    }
+
+    /**
+     * 에이전시 하루치 현황. 적재 중 들어온 변경과 DB 값은 더 최근 기록·더 높은 우선순위 상태로 합쳐짐
+     */
+    public final class Board {
+
+        private final LocalDate date;
+        private final Map<Long, AttendanceMark> lastAttendance = new ConcurrentHashMap<>();
+        private final Map<Long, String> requestStatus = new ConcurrentHashMap<>();
+        private volatile boolean loaded;
+
+        private Board(LocalDate date) {
+            this.date = date;
+        }
+
+        /** 오늘 포함 승인 근태 신청 상태 (휴가/재택근무/워케이션, 없으면 null) */
+        public String getRequestStatus(Long memberNo) {
+            return requestStatus.get(memberNo);
+        }
+
+        /** 오늘 마지막 출근/퇴근 기록 (없으면 null) */
+        public AttendanceMark getLastAttendance(Long memberNo) {
+            return lastAttendance.get(memberNo);
+        }
+
+        /** 오늘 출근/퇴근 기록이 하나라도 있는지 */
+        public boolean hasAttendance(Long memberNo) {
+            return lastAttendance.containsKey(memberNo);
+        }
+
+        /** 지금 출근 상태인지 (마지막 기록이 출근) */
+        public boolean isCheckedIn(Long memberNo) {
+            AttendanceMark mark = lastAttendance.get(memberNo);
+            return mark != null && "출근".equals(mark.attendanceType());
+        }
+
+        private void ensureLoaded(Long agencyNo) {
+            if (loaded) {
+                return;
+            }
+            synchronized (this) {
+                if (loaded) {
+                    return;
+                }
+                long startedAt = System.currentTimeMillis();
+                List<AttendanceRequest> approved = attendanceRequestRepository.findApprovedByAgencyNoAndDateBetween(
+                        agencyNo, date.atStartOfDay(), date.atTime(LocalTime.MAX));
+                for (AttendanceRequest ar : approved) {
+                    String status = requestTypeToDisplay(ar.getAttendanceRequestType());
+                    if (status != null) {
+                        putRequestStatus(ar.getMember().getMemberNo(), status);
+                    }
+                }
+                List<Attendance> records = attendanceRepository.findByAgencyNoAndRange(
+                        agencyNo, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+                for (Attendance a : records) {
+                    putAttendance(a.getMember().getMemberNo(), new AttendanceMark(a.getAttendanceType(), a.getAttendanceTime()));
+                }
+                loaded = true;
+                log.debug("금일 근태 현황판 적재: agencyNo={}, 기록={}, 승인 신청={}, {}ms",
+                        agencyNo, records.size(), approved.size(), System.currentTimeMillis() - startedAt);
+            }
+        }
+
+        private void putAttendance(Long memberNo, AttendanceMark mark) {
+            lastAttendance.merge(memberNo, mark,
+                    (old, next) -> next.attendanceTime().isBefore(old.attendanceTime()) ? old : next);
+        }
+
+        private void putRequestStatus(Long memberNo, String status) {
+            requestStatus.merge(memberNo, status,
+                    (old, next) -> REQUEST_STATUS_PRIORITY.indexOf(next) < REQUEST_STATUS_PRIORITY.indexOf(old) ? next : old);
+        }
+    }
+}
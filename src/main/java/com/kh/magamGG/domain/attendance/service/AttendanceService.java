@@ -174,9 +174,10 @@ public interface AttendanceService {
      * @param agencyNo 에이전시 번호
      * @param year 조회 년도
      * @param month 조회 월
+     * @param compact true면 날짜별 이벤트(calendarEvents) 대신 회원·유형별 기간(calendarSpans)으로 반환
      * @return 캘린더 이벤트 목록 (재택근무: 주황색, 휴가: 회색, 워케이션: 보라색)
      */
-    AttendanceStatisticsResponseDto getAdminCalendar(Long agencyNo, int year, int month);
+    AttendanceStatisticsResponseDto getAdminCalendar(Long agencyNo, int year, int month, boolean compact);
 }
 
 
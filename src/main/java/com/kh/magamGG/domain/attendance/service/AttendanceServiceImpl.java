@@ -44,6 +44,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -85,8 +86,10 @@ public class AttendanceServiceImpl implements AttendanceService {
     private final ProjectLeaveRequestRepository projectLeaveRequestRepository;
     // 비즈니스 로직 분리: 연차 차감 서비스
     private final LeaveBalanceDeductionService leaveBalanceDeductionService;
+    private final LeaveLedgerService leaveLedgerService;
     // 비즈니스 로직 분리: 알림 발송 서비스 (비동기 처리)
     private final AttendanceNotificationService attendanceNotificationService;
+    private final AttendancePresenceBoard attendancePresenceBoard;
 
     @Override
     @Transactional
@@ -259,8 +262,9 @@ public class AttendanceServiceImpl implements AttendanceService {
     @Override
     public AttendanceStatisticsResponseDto getAttendanceStatistics(Long memberNo, int year, int month) {
         // member_no 기준 attendance에서 근무일(출근/재택근무/워케이션) 날짜·타입 조회
-        List<Object[]> datesWithTypes = attendanceRepository
-            .findDistinctCheckInDatesWithTypeByMemberNoAndMonth(memberNo, year, month);
+        YearMonth targetMonth = YearMonth.of(year, month);
+        List<Object[]> datesWithTypes = attendanceRepository.findDistinctCheckInDatesWithTypeByMemberNoAndRange(
+            memberNo, targetMonth.atDay(1).atStartOfDay(), targetMonth.plusMonths(1).atDay(1).atStartOfDay());
         Set<LocalDate> checkInSet = new HashSet<>();
         Map<LocalDate, String> dateToAttendanceType = new HashMap<>();
         for (Object[] row : datesWithTypes) {
@@ -281,44 +285,51 @@ public class AttendanceServiceImpl implements AttendanceService {
         List<AttendanceRequest> approvedRequests = attendanceRequestRepository
             .findApprovedByMemberNoAndDateRange(memberNo, periodStart, periodEnd);
 
-        Map<String, Long> typeToCount = new TreeMap<>();
-
-        LocalDate currentDate = firstDayOfMonth;
-        while (!currentDate.isAfter(endDate)) {
-            boolean hasCheckIn = checkInSet.contains(currentDate);
-            String type = null;
-            boolean isLeaveType = false;
-
-            for (AttendanceRequest req : approvedRequests) {
-                LocalDate start = req.getAttendanceRequestStartDate().toLocalDate();
-                LocalDate end = req.getAttendanceRequestEndDate().toLocalDate();
-                if (!currentDate.isBefore(start) && !currentDate.isAfter(end)) {
-                    String raw = req.getAttendanceRequestType();
-                    type = (raw != null && !raw.isEmpty()) ? raw.trim() : "출근";
-                    // DB에 영문(VACATION) 저장된 경우 연차로 통일
-                    if ("VACATION".equalsIgnoreCase(type)) {
-                        type = "연차";
-                    }
-                    isLeaveType = LEAVE_TYPES.contains(type);
-                    break;
-                }
+        // 날짜별 적용 신청 구간 (겹치면 먼저 시작한 신청 우선)
+        List<AttendanceIntervals.Span<String>> requestIntervals = new ArrayList<>(approvedRequests.size());
+        for (AttendanceRequest req : approvedRequests) {
+            String raw = req.getAttendanceRequestType();
+            String type = (raw != null && !raw.isEmpty()) ? raw.trim() : "출근";
+            // DB에 영문(VACATION) 저장된 경우 연차로 통일
+            if ("VACATION".equalsIgnoreCase(type)) {
+                type = "연차";
             }
+            requestIntervals.add(new AttendanceIntervals.Span<>(
+                req.getAttendanceRequestStartDate().toLocalDate(), req.getAttendanceRequestEndDate().toLocalDate(), type));
+        }
+        List<AttendanceIntervals.Span<String>> requestSpans =
+            AttendanceIntervals.resolve(requestIntervals, firstDayOfMonth, endDate);
 
-            if (type != null && "휴재".equals(type)) {
-                currentDate = currentDate.plusDays(1);
+        Map<String, Long> typeToCount = new TreeMap<>();
+        TreeMap<LocalDate, AttendanceIntervals.Span<String>> spanByStart = new TreeMap<>();
+        for (AttendanceIntervals.Span<String> span : requestSpans) {
+            spanByStart.put(span.start(), span);
+            String type = span.value();
+            if ("휴재".equals(type)) {
                 continue;
             }
-            // 휴가(연차·병가 등): 출근 이력 없어도 승인된 해당 날짜는 휴가로 집계
-            if (type != null && isLeaveType) {
-                typeToCount.merge(type, 1L, Long::sum);
-            } else if (hasCheckIn) {
-                String finalType = (type != null) ? type : dateToAttendanceType.getOrDefault(currentDate, "출근");
-                typeToCount.merge(finalType, 1L, Long::sum);
-            } else if (type != null && !ATTENDANCE_REQUIRED_TYPES.contains(type)) {
-                typeToCount.merge(type, 1L, Long::sum);
+            if (LEAVE_TYPES.contains(type)) {
+                // 휴가(연차·병가 등): 출근 이력 없어도 승인된 기간 전체를 휴가로 집계
+                typeToCount.merge(type, span.days(), Long::sum);
+            } else if (!ATTENDANCE_REQUIRED_TYPES.contains(type)) {
+                // 그 외 신청: 출근 이력과 관계없이 승인된 기간 전체 집계
+                typeToCount.merge(type, span.days(), Long::sum);
             }
-
-            currentDate = currentDate.plusDays(1);
+        }
+        // 출근 이력이 있는 날: 재택근무·워케이션 신청 기간이면 신청 유형, 신청이 없으면 실제 근태 타입으로 집계
+        for (LocalDate checkInDate : checkInSet) {
+            if (checkInDate.isBefore(firstDayOfMonth) || checkInDate.isAfter(endDate)) {
+                continue;
+            }
+            Map.Entry<LocalDate, AttendanceIntervals.Span<String>> covering = spanByStart.floorEntry(checkInDate);
+            if (covering != null && !covering.getValue().end().isBefore(checkInDate)) {
+                String type = covering.getValue().value();
+                if (ATTENDANCE_REQUIRED_TYPES.contains(type)) {
+                    typeToCount.merge(type, 1L, Long::sum);
+                }
+                continue;
+            }
+            typeToCount.merge(dateToAttendanceType.getOrDefault(checkInDate, "출근"), 1L, Long::sum);
         }
 
         List<AttendanceStatisticsResponseDto.TypeCount> typeCounts = typeToCount.entrySet().stream()
@@ -430,6 +441,12 @@ public class AttendanceServiceImpl implements AttendanceService {
         // 승인 처리
         request.approve();
         AttendanceRequest savedRequest = attendanceRequestRepository.save(request);
+        Member requestMember = savedRequest.getMember();
+        if (requestMember != null && requestMember.getAgency() != null) {
+            attendancePresenceBoard.recordApprovedRequest(requestMember.getAgency().getAgencyNo(),
+                    requestMember.getMemberNo(), requestType,
+                    savedRequest.getAttendanceRequestStartDate(), savedRequest.getAttendanceRequestEndDate());
+        }
 
         log.info("근태 신청 승인 완료: 신청번호={}, 회원={}",
                 attendanceRequestNo,
@@ -533,48 +550,8 @@ public class AttendanceServiceImpl implements AttendanceService {
     @Override
     public List<AgencyMemberLeaveResponse> getLeaveBalancesByAgency(Long agencyNo) {
         validateAgencyExists(agencyNo);
-        int currentYear = LocalDateTime.now().getYear();
-        List<Object[]> adjustmentSums = leaveHistoryRepository.sumAdjustmentByAgencyNoAndYear(agencyNo, currentYear);
-        Map<Long, Integer> adjustmentByMember = adjustmentSums.stream()
-                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).intValue(), (a, b) -> a));
-
-        List<Member> members = memberRepository.findByAgency_AgencyNo(agencyNo);
-        List<AgencyMemberLeaveResponse> result = new ArrayList<>();
-        for (Member m : members) {
-            // 직원 연차 관리 목록에는 에이전시 관리자 제외 (담당자·작가 등만 표시)
-            if ("에이전시 관리자".equals(m.getMemberRole())) {
-                continue;
-            }
-            Long memberNo = m.getMemberNo();
-            int currentYearAdjustmentTotal = adjustmentByMember.getOrDefault(memberNo, 0);
-
-            Optional<LeaveBalance> balanceOpt = leaveBalanceRepository.findTop1ByMember_MemberNoOrderByLeaveBalanceYearDesc(memberNo);
-            int total = 0;
-            int used = 0;
-            double remain = 0.0;
-            String year = "";
-            Long leaveBalanceNo = null;
-            if (balanceOpt.isPresent()) {
-                LeaveBalance b = balanceOpt.get();
-                total = b.getLeaveBalanceTotalDays() != null ? b.getLeaveBalanceTotalDays() : 0;
-                used = b.getLeaveBalanceUsedDays() != null ? b.getLeaveBalanceUsedDays() : 0;
-                remain = b.getLeaveBalanceRemainDays() != null ? b.getLeaveBalanceRemainDays() : 0.0;
-                year = b.getLeaveBalanceYear() != null ? b.getLeaveBalanceYear() : "";
-                leaveBalanceNo = b.getLeaveBalanceNo();
-            }
-            result.add(AgencyMemberLeaveResponse.builder()
-                    .memberNo(memberNo)
-                    .memberName(m.getMemberName() != null ? m.getMemberName() : "")
-                    .memberRole(m.getMemberRole() != null ? m.getMemberRole() : "")
-                    .leaveBalanceTotalDays(total)
-                    .leaveBalanceUsedDays(used)
-                    .leaveBalanceRemainDays(remain)
-                    .leaveBalanceYear(year)
-                    .leaveBalanceNo(leaveBalanceNo)
-                    .currentYearAdjustmentTotal(currentYearAdjustmentTotal)
-                    .build());
-        }
-        return result;
+        // 직원 연차 관리 목록: 연차 원장 1회 조회 (에이전시 관리자 제외, 담당자·작가 등만 표시)
+        return leaveLedgerService.getAgencyMemberLeaves(agencyNo, LocalDate.now().getYear());
     }
 
     @Override
@@ -610,6 +587,7 @@ public class AttendanceServiceImpl implements AttendanceService {
         balance.setLeaveBalanceRemainDays(newRemain);
         balance.setLeaveBalanceUpdatedAt(LocalDateTime.now());
         leaveBalanceRepository.save(balance);
+        leaveLedgerService.applyBalance(memberNo, balance);
 
         LeaveHistory history = new LeaveHistory();
         history.setMember(member);
@@ -618,6 +596,7 @@ public class AttendanceServiceImpl implements AttendanceService {
         history.setLeaveHistoryReason(request.getNote() != null ? request.getNote() : "");
         history.setLeaveHistoryAmount(adjustment);
         leaveHistoryRepository.save(history);
+        leaveLedgerService.applyAdjustment(memberNo, history.getLeaveHistoryDate(), adjustment);
 
         // 연차 조정 알림 발송
         String reason = request.getReason() != null ? request.getReason() : "";
@@ -698,6 +677,8 @@ public class AttendanceServiceImpl implements AttendanceService {
         attendance.setAttendanceType("출근");
         attendance.setAttendanceTime(LocalDateTime.now());
         attendanceRepository.save(attendance);
+        attendancePresenceBoard.recordAttendance(member.getAgency().getAgencyNo(), memberNo,
+                attendance.getAttendanceType(), attendance.getAttendanceTime());
 
         log.info("출근 시작 완료: 회원번호={}, 에이전시번호={}, ATTENDANCE 저장됨", memberNo, member.getAgency().getAgencyNo());
 
@@ -714,7 +695,8 @@ public class AttendanceServiceImpl implements AttendanceService {
         java.time.LocalDate today = java.time.LocalDate.now();
 
         // 오늘 날짜의 마지막 출근 기록 조회
-        List<Attendance> todayAttendances = attendanceRepository.findTodayLastAttendanceByMemberNo(memberNo, today);
+        List<Attendance> todayAttendances = attendanceRepository.findTodayLastAttendanceByMemberNo(
+                memberNo, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
 
         if (todayAttendances.isEmpty()) {
             return null;
@@ -739,6 +721,8 @@ public class AttendanceServiceImpl implements AttendanceService {
         attendance.setAttendanceType("퇴근");
         attendance.setAttendanceTime(LocalDateTime.now());
         attendanceRepository.save(attendance);
+        attendancePresenceBoard.recordAttendance(member.getAgency().getAgencyNo(), memberNo,
+                attendance.getAttendanceType(), attendance.getAttendanceTime());
         log.info("출근 종료(퇴근) 완료: 회원번호={}", memberNo);
         return true;
     }
@@ -847,7 +831,7 @@ public class AttendanceServiceImpl implements AttendanceService {
     }
 
     @Override
-    public AttendanceStatisticsResponseDto getAdminCalendar(Long agencyNo, int year, int month) {
+    public AttendanceStatisticsResponseDto getAdminCalendar(Long agencyNo, int year, int month, boolean compact) {
         validateAgencyExists(agencyNo);
         
         // 해당 월의 첫날과 마지막날
@@ -858,34 +842,53 @@ public class AttendanceServiceImpl implements AttendanceService {
         List<AttendanceRequest> approvedRequests = attendanceRequestRepository
                 .findApprovedByAgencyNoAndDateRange(agencyNo, firstDay.atStartOfDay(), lastDay.atTime(23, 59, 59));
         
-        // 캘린더 이벤트 생성
-        List<AttendanceStatisticsResponseDto.CalendarEvent> calendarEvents = new ArrayList<>();
-        
+        // 신청 기간을 해당 월 범위로 잘라 회원·유형별 구간으로 변환
+        List<AttendanceIntervals.Span<CalendarKey>> requestSpans = new ArrayList<>(approvedRequests.size());
         for (AttendanceRequest request : approvedRequests) {
-            String eventType = request.getAttendanceRequestType();
-            String colorCode = getColorCodeByType(eventType);
-            String title = getMemberName(request) + " - " + eventType;
-            
-            // 신청 기간 내의 모든 날짜에 대해 이벤트 생성
             LocalDate startDate = request.getAttendanceRequestStartDate().toLocalDate();
             LocalDate endDate = request.getAttendanceRequestEndDate().toLocalDate();
-            
-            // 해당 월 범위 내에서만 이벤트 생성
             LocalDate eventStart = startDate.isBefore(firstDay) ? firstDay : startDate;
             LocalDate eventEnd = endDate.isAfter(lastDay) ? lastDay : endDate;
-            
-            LocalDate currentDate = eventStart;
-            while (!currentDate.isAfter(eventEnd)) {
-                calendarEvents.add(AttendanceStatisticsResponseDto.CalendarEvent.builder()
-                        .memberNo(request.getMember().getMemberNo())
-                        .memberName(getMemberName(request))
-                        .eventDate(currentDate)
-                        .eventType(eventType)
-                        .colorCode(colorCode)
-                        .title(title)
-                        .build());
-                
-                currentDate = currentDate.plusDays(1);
+            if (eventStart.isAfter(eventEnd)) {
+                continue;
+            }
+            CalendarKey key = new CalendarKey(request.getMember().getMemberNo(), getMemberName(request),
+                    request.getAttendanceRequestType());
+            requestSpans.add(new AttendanceIntervals.Span<>(eventStart, eventEnd, key));
+        }
+
+        List<AttendanceStatisticsResponseDto.CalendarEvent> calendarEvents = null;
+        List<AttendanceStatisticsResponseDto.CalendarSpan> calendarSpans = null;
+        if (compact) {
+            // 기간 단위 일정 (같은 회원·유형의 겹치거나 이어진 신청은 하나로)
+            calendarSpans = AttendanceIntervals.merge(requestSpans).stream()
+                    .map(span -> AttendanceStatisticsResponseDto.CalendarSpan.builder()
+                            .memberNo(span.value().memberNo())
+                            .memberName(span.value().memberName())
+                            .startDate(span.start())
+                            .endDate(span.end())
+                            .eventType(span.value().eventType())
+                            .colorCode(getColorCodeByType(span.value().eventType()))
+                            .title(span.value().memberName() + " - " + span.value().eventType())
+                            .build())
+                    .collect(Collectors.toList());
+        } else {
+            // 신청 기간 내의 모든 날짜에 대해 이벤트 생성
+            calendarEvents = new ArrayList<>();
+            for (AttendanceIntervals.Span<CalendarKey> span : requestSpans) {
+                CalendarKey key = span.value();
+                String colorCode = getColorCodeByType(key.eventType());
+                String title = key.memberName() + " - " + key.eventType();
+                for (LocalDate currentDate = span.start(); !currentDate.isAfter(span.end()); currentDate = currentDate.plusDays(1)) {
+                    calendarEvents.add(AttendanceStatisticsResponseDto.CalendarEvent.builder()
+                            .memberNo(key.memberNo())
+                            .memberName(key.memberName())
+                            .eventDate(currentDate)
+                            .eventType(key.eventType())
+                            .colorCode(colorCode)
+                            .title(title)
+                            .build());
+                }
             }
         }
         
@@ -903,9 +906,14 @@ public class AttendanceServiceImpl implements AttendanceService {
                 .typeCounts(typeCounts)
                 .totalCount(approvedRequests.size())
                 .calendarEvents(calendarEvents)
+                .calendarSpans(calendarSpans)
                 .build();
     }
     
+    /** 관리자 캘린더 구간 키 (회원·유형) */
+    private record CalendarKey(Long memberNo, String memberName, String eventType) {
+    }
+
     /**
      * 근무 유형별 색상 코드 반환
      */
@@ -20,6 +20,7 @@ import java.time.LocalDateTime;
 public class LeaveBalanceDeductionService {
     
     private final LeaveBalanceRepository leaveBalanceRepository;
+    private final LeaveLedgerService leaveLedgerService;
     
     /**
      * 연차/반차/반반차 승인 시 연차 잔액 차감 및 사용 일수(LEAVE_BALANCE_USED_DAYS) 갱신
@@ -69,6 +70,7 @@ public class LeaveBalanceDeductionService {
         balance.setLeaveBalanceUsedDays(currentUsed + (int) deduction);
         balance.setLeaveBalanceUpdatedAt(LocalDateTime.now());
         leaveBalanceRepository.save(balance);
+        leaveLedgerService.applyBalance(memberNo, balance);
         
         log.info("연차 잔액 차감 완료: 회원번호={}, 타입={}, 차감={}, 차감 후 잔여={}, 사용일수={}",
                 memberNo, requestType, deduction, newRemain, balance.getLeaveBalanceUsedDays());
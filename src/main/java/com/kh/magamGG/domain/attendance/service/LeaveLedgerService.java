@@ -0,0 +1,104 @@
+package com.kh.magamGG.domain.attendance.service;
+
+import com.kh.magamGG.domain.attendance.dto.response.AgencyMemberLeaveResponse;
+import com.kh.magamGG.domain.attendance.entity.LeaveBalance;
+import com.kh.magamGG.domain.attendance.repository.MemberLeaveLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원·연도별 연차 원장(MEMBER_LEAVE_LEDGER) 관리
+ * - LEAVE_BALANCE 저장 시 잔액 반영, 연차 조정(LEAVE_HISTORY) 시 조정 합계 누적
+ * - 직원 연차 관리 목록은 회원 수와 관계없이 원장 쿼리 1회로 조회
+ * - 반영 누락·직접 수정분은 야간 백필로 재계산
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaveLedgerService {
+
+    private final MemberLeaveLedgerRepository memberLeaveLedgerRepository;
+
+    /**
+     * 저장된 LEAVE_BALANCE 값 반영 (호출 측 트랜잭션 안에서 저장 직후 호출)
+     */
+    @Transactional
+    public void applyBalance(Long memberNo, LeaveBalance balance) {
+        if (memberNo == null || balance == null || balance.getLeaveBalanceYear() == null) return;
+        memberLeaveLedgerRepository.upsertBalance(memberNo, balance.getLeaveBalanceYear(), balance.getLeaveBalanceNo(),
+                balance.getLeaveBalanceTotalDays() != null ? balance.getLeaveBalanceTotalDays() : 0,
+                balance.getLeaveBalanceUsedDays() != null ? balance.getLeaveBalanceUsedDays() : 0,
+                balance.getLeaveBalanceRemainDays() != null ? balance.getLeaveBalanceRemainDays() : 0.0);
+    }
+
+    /**
+     * 연차 조정 이력 반영 (이력 일시의 연도 행에 누적)
+     */
+    @Transactional
+    public void applyAdjustment(Long memberNo, LocalDateTime historyDate, int amount) {
+        if (memberNo == null || historyDate == null || amount == 0) return;
+        memberLeaveLedgerRepository.addAdjustment(memberNo, String.valueOf(historyDate.getYear()), amount);
+    }
+
+    /**
+     * 에이전시 직원 연차 목록 (에이전시 관리자 제외). 잔액이 없는 회원은 0/빈 연도로 표시
+     */
+    @Transactional(readOnly = true)
+    public List<AgencyMemberLeaveResponse> getAgencyMemberLeaves(Long agencyNo, int currentYear) {
+        List<AgencyMemberLeaveResponse> result = new ArrayList<>();
+        for (Object[] row : memberLeaveLedgerRepository.findAgencyLeaveRows(agencyNo, String.valueOf(currentYear))) {
+            result.add(AgencyMemberLeaveResponse.builder()
+                    .memberNo(((Number) row[0]).longValue())
+                    .memberName(row[1] != null ? (String) row[1] : "")
+                    .memberRole(row[2] != null ? (String) row[2] : "")
+                    .leaveBalanceTotalDays(row[3] != null ? ((Number) row[3]).intValue() : 0)
+                    .leaveBalanceUsedDays(row[4] != null ? ((Number) row[4]).intValue() : 0)
+                    .leaveBalanceRemainDays(row[5] != null ? ((Number) row[5]).doubleValue() : 0.0)
+                    .leaveBalanceYear(row[6] != null ? row[6].toString() : "")
+                    .leaveBalanceNo(row[7] != null ? ((Number) row[7]).longValue() : null)
+                    .currentYearAdjustmentTotal(row[8] != null ? ((Number) row[8]).intValue() : 0)
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 전체 원장 재계산 (매일 04:30, 반영 누락·직접 수정분 보정)
+     * 전체 삭제 후 재삽입 대신 키별 절대값 upsert → 원본이 없어진 값만 초기화.
+     * 각 문장이 따로 커밋되어 잔액·조정 증분 반영과 잠금을 오래 겹치지 않음
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void backfillAll() {
+        int balances = memberLeaveLedgerRepository.upsertBalancesFromLeaveBalance();
+        int adjustments = memberLeaveLedgerRepository.mergeAdjustmentsFromLeaveHistory();
+        int clearedBalances = memberLeaveLedgerRepository.clearOrphanedBalances();
+        int zeroedAdjustments = memberLeaveLedgerRepository.zeroOrphanedAdjustments();
+        log.info("연차 원장 전체 백필 완료: balances={}, adjustments={}, clearedBalances={}, zeroedAdjustments={}",
+                balances, adjustments, clearedBalances, zeroedAdjustments);
+    }
+
+    /**
+     * 기동 시 원장 테이블이 비어 있으면 백필 (실패해도 기동은 계속, 야간 백필에서 재시도)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (memberLeaveLedgerRepository.count() == 0) {
+                int balances = memberLeaveLedgerRepository.upsertBalancesFromLeaveBalance();
+                int adjustments = memberLeaveLedgerRepository.mergeAdjustmentsFromLeaveHistory();
+                log.info("연차 원장 초기 백필 완료: balances={}, adjustments={}", balances, adjustments);
+            }
+        } catch (Exception e) {
+            log.warn("연차 원장 초기 백필 실패: {}", e.getMessage());
+        }
+    }
+}
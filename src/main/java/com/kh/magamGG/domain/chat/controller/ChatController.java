@@ -102,7 +102,7 @@ public class ChatController {
             @RequestParam Long lastChatNo,
             @RequestHeader("X-Member-No") Long memberNo) {
         boolean updated = chatRoomService.updateLastReadMessage(chatRoomNo, memberNo, lastChatNo);
-        // 읽음 실시간 반영: 실제로 DB가 갱신된 경우에만 해당 방 구독자에게 브로드캐스트
+        // 읽음 실시간 반영: 읽음 위치가 실제로 앞으로 이동한 경우에만 해당 방 구독자에게 브로드캐스트
         if (updated) {
             Map<String, Object> readUpdate = new HashMap<>();
             readUpdate.put("type", "READ_UPDATE");
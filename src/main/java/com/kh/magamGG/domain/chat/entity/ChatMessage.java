@@ -11,7 +11,10 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_message")
+@Table(name = "chat_message", indexes = {
+        @Index(name = "IDX_CHAT_MESSAGE_ROOM_STATUS_CREATED", columnList = "chat_room_no, chat_status, chat_message_created_at"),
+        @Index(name = "IDX_CHAT_MESSAGE_ROOM_CREATED", columnList = "chat_room_no, chat_message_created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
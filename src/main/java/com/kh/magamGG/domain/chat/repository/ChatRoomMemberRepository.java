@@ -32,18 +32,18 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember,
     // 5. 특정 채팅방에서 유저 탈퇴/강퇴 처리
     void deleteByChatRoomAndMember(ChatRoom chatRoom, Member member);
 
+    // 6. 채팅방 번호·회원 번호로 참여 정보 조회 (엔티티 선조회 없이)
+    Optional<ChatRoomMember> findByChatRoom_ChatRoomNoAndMember_MemberNo(Long chatRoomNo, Long memberNo);
+
+    // 7. 채팅방 참여 중인(joined_at 있음) 멤버만 조회 (읽음 위치 메모리 인덱스의 적재 조건과 동일)
+    Optional<ChatRoomMember> findByChatRoom_ChatRoomNoAndMember_MemberNoAndChatRoomMemberJoinedAtIsNotNull(
+            Long chatRoomNo, Long memberNo);
+
     /**
-     * 특정 메시지를 아직 읽지 않은 참여 중인 멤버 수 (참여 중 = joined_at IS NOT NULL).
-     * 발신자 제외: senderMemberNo. 채팅방 연 사람 제외: requesterMemberNo (내역 조회 시 요청자를 '읽은 사람'으로 간주).
+     * 채팅방 참여 중인 멤버들의 읽음 위치 일괄 조회 (읽음 위치 메모리 인덱스 적재용).
+     * 행: [memberNo, lastReadChatNo]
      */
-    @Query(value = "SELECT COUNT(*) FROM chat_room_member crm WHERE crm.chat_room_no = :chatRoomNo " +
-           "AND crm.chat_room_member_joined_at IS NOT NULL " +
-           "AND (crm.last_read_chat_no IS NULL OR crm.last_read_chat_no < :chatNo) " +
-           "AND (:senderMemberNo IS NULL OR crm.member_no <> :senderMemberNo) " +
-           "AND (:requesterMemberNo IS NULL OR crm.member_no <> :requesterMemberNo)", nativeQuery = true)
-    long countUnreadMembersInRoomByChatNo(
-            @Param("chatRoomNo") Long chatRoomNo,
-            @Param("chatNo") Long chatNo,
-            @Param("senderMemberNo") Long senderMemberNo,
-            @Param("requesterMemberNo") Long requesterMemberNo);
-}
\ No newline at end of file
+    @Query("SELECT crm.member.memberNo, crm.lastReadChatNo FROM ChatRoomMember crm " +
+           "WHERE crm.chatRoom.chatRoomNo = :chatRoomNo AND crm.chatRoomMemberJoinedAt IS NOT NULL")
+    List<Object[]> findReadWatermarksByChatRoomNo(@Param("chatRoomNo") Long chatRoomNo);
+}
@@ -37,6 +37,8 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final MemberRepository memberRepository;
     private final ChatRoomService chatRoomService;
+    private final ReadReceiptCalculator readReceiptCalculator;
+    private final ChatReadWatermarkIndex chatReadWatermarkIndex;
     
     @Value("${file.upload-dir:uploads}")
     private String uploadPath;
@@ -67,8 +69,8 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         // 발신자는 적은 순간 읽음 처리 → lastReadChatNo 갱신하면 n(읽지 않음)에 포함 안 됨
         chatRoomService.updateLastReadMessage(room.getChatRoomNo(), member.getMemberNo(), saved.getChatNo());
 
-        long unreadCount = chatRoomService.getUnreadMemberCount(
-                room.getChatRoomNo(), saved.getChatNo(), member.getMemberNo(), null);
+        long unreadCount = readReceiptCalculator.load(room.getChatRoomNo())
+                .unreadCount(saved.getChatNo(), member.getMemberNo(), null);
         return ChatMessageResponseDto.from(saved, unreadCount);
     }
 
@@ -96,10 +98,12 @@ public class ChatMessageServiceImpl implements ChatMessageService {
                         room, "Y", roomMember.getChatRoomMemberJoinedAt(), pageable);
 
         // 엔티티 Slice를 DTO Slice로 변환 (참여 중인 멤버 기준 읽지 않은 사람 수 포함, 발신자 제외)
+        // 멤버 읽음 위치는 페이지당 한 번만 조회해 메시지별로 메모리에서 계산
+        ReadReceiptCalculator.Watermarks watermarks = readReceiptCalculator.load(chatRoomNo);
         return messages.map(msg -> {
             Long senderNo = msg.getMember() != null ? msg.getMember().getMemberNo() : null;
             // requesterMemberNo = 채팅방 연 사람(요청자) → 카운트에서 제외해서 처음 들어왔을 때부터 n-1로 반환
-            long count = chatRoomService.getUnreadMemberCount(chatRoomNo, msg.getChatNo(), senderNo, memberNo);
+            long count = watermarks.unreadCount(msg.getChatNo(), senderNo, memberNo);
             return ChatMessageResponseDto.from(msg, count);
         });
     }
@@ -117,7 +121,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         ChatRoomMember roomMember = chatRoomMemberRepository.findByChatRoomAndMember(room, member)
                 .orElseThrow(() -> new RuntimeException("해당 방의 참여 멤버가 아닙니다."));
 
-        Long lastReadNo = roomMember.getLastReadChatNo();
+        Long lastReadNo = chatReadWatermarkIndex.lastReadChatNo(chatRoomNo, memberNo, roomMember.getLastReadChatNo());
 
         // 마지막으로 읽은 메시지 ID 이후이면서 멤버 입장 시간 이후의 메시지 개수를 리턴
         return chatMessageRepository.countByChatRoomAndChatNoGreaterThanAndChatMessageCreatedAtGreaterThanEqual(
@@ -274,8 +278,8 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             ChatMessage savedMessage = chatMessageRepository.save(message);
             // 발신자는 적은 순간 읽음 처리 → lastReadChatNo 갱신하면 n(읽지 않음)에 포함 안 됨
             chatRoomService.updateLastReadMessage(room.getChatRoomNo(), member.getMemberNo(), savedMessage.getChatNo());
-            long unreadCount = chatRoomService.getUnreadMemberCount(
-                    room.getChatRoomNo(), savedMessage.getChatNo(), member.getMemberNo(), null);
+            long unreadCount = readReceiptCalculator.load(room.getChatRoomNo())
+                    .unreadCount(savedMessage.getChatNo(), member.getMemberNo(), null);
             return ChatMessageResponseDto.from(savedMessage, unreadCount);
         } catch (Exception e) {
             // 메시지 저장 실패 시 업로드된 파일 삭제
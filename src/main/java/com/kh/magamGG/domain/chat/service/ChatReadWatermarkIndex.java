@@ -0,0 +1,242 @@
+package com.kh.magamGG.domain.chat.service;
+
+import com.kh.magamGG.domain.chat.entity.ChatRoomMember;
+import com.kh.magamGG.domain.chat.repository.ChatRoomMemberRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅방별 읽음 위치(memberNo → lastReadChatNo) 메모리 인덱스
+ * - 읽음 갱신은 단조 증가(max)만 허용, AtomicLong 으로 락 없이 반영
+ * - DB(chat_room_member.last_read_chat_no)에는 주기적으로 모아서 JDBC 배치로 기록 (write-behind)
+ * - 방 단위로 최초 접근 시 DB에서 적재, 이후 안 읽은 인원 수는 메모리에서 계산
+ * - 참여자가 없는(존재하지 않는) 방은 적재하지 않음, 나간 멤버는 방을 다시 적재할 때(max-age) 빠짐
+ * - 일정 시간 접근이 없거나 적재 후 오래된 방은 비움 → 다음 접근 시 DB(+미반영분)에서 다시 적재
+ * 단일 인스턴스 기준 (SSE Emitter 저장소와 동일)
+ */
+@Component
+@Slf4j
+public class ChatReadWatermarkIndex {
+
+    private static final String FLUSH_SQL = "UPDATE chat_room_member SET last_read_chat_no = ? " +
+            "WHERE chat_room_no = ? AND member_no = ? " +
+            "AND (last_read_chat_no IS NULL OR last_read_chat_no < ?)";
+
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final long idleEvictMillis;
+    private final long maxAgeMillis;
+
+    /** chatRoomNo → 적재된 방 */
+    private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+
+    /** DB 미반영 읽음 위치 (같은 멤버의 연속 갱신은 최대값 하나로 합쳐짐) */
+    private final Map<RoomMemberKey, Long> pending = new ConcurrentHashMap<>();
+
+    private record RoomMemberKey(Long chatRoomNo, Long memberNo) {
+    }
+
+    /** 방 하나의 읽음 위치 (memberNo → lastReadChatNo, 읽지 않았으면 0) */
+    private static final class Room {
+        final Map<Long, AtomicLong> members = new ConcurrentHashMap<>();
+        final long loadedAt = System.currentTimeMillis();
+        volatile long lastAccessAt = loadedAt;
+    }
+
+    public ChatReadWatermarkIndex(ChatRoomMemberRepository chatRoomMemberRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  @Value("${chat.read-watermark.idle-evict-minutes:10}") long idleEvictMinutes,
+                                  @Value("${chat.read-watermark.max-age-minutes:60}") long maxAgeMinutes) {
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.idleEvictMillis = idleEvictMinutes * 60_000L;
+        this.maxAgeMillis = maxAgeMinutes * 60_000L;
+    }
+
+    /**
+     * 읽음 위치 갱신 (현재 값보다 클 때만)
+     * @return 실제로 갱신되면 true, 같거나 이전 메시지면 false
+     * @throws RuntimeException 채팅방 멤버가 아닌 경우
+     */
+    public boolean advance(Long chatRoomNo, Long memberNo, Long chatNo) {
+        AtomicLong watermark = watermarkOf(chatRoomNo, memberNo);
+        long previous = watermark.getAndAccumulate(chatNo, Math::max);
+        if (previous >= chatNo) {
+            return false;
+        }
+        pending.merge(new RoomMemberKey(chatRoomNo, memberNo), chatNo, Math::max);
+        return true;
+    }
+
+    /**
+     * 채팅방 참여자 추가 시 인덱스에 반영 (트랜잭션 커밋 후, 방이 이미 적재된 경우에만)
+     * 롤백되면 반영하지 않아 메모리에 없는 멤버가 남지 않음
+     */
+    public void addMember(Long chatRoomNo, Long memberNo) {
+        runAfterCommit(() -> {
+            Room room = rooms.get(chatRoomNo);
+            if (room != null) {
+                room.members.putIfAbsent(memberNo, new AtomicLong(0L));
+            }
+        });
+    }
+
+    /**
+     * 채팅방 멤버별 읽음 위치 스냅샷 (참여자가 없는 방이면 빈 맵)
+     */
+    public Map<Long, Long> snapshot(Long chatRoomNo) {
+        Room room = room(chatRoomNo);
+        if (room == null) {
+            return new HashMap<>();
+        }
+        Map<Long, Long> copy = new HashMap<>(room.members.size() * 2);
+        room.members.forEach((memberNo, watermark) -> copy.put(memberNo, watermark.get()));
+        return copy;
+    }
+
+    /**
+     * DB 값과 메모리(미반영분 포함) 중 최신 읽음 위치
+     * @param persisted DB에서 읽은 last_read_chat_no (null 가능)
+     */
+    public Long lastReadChatNo(Long chatRoomNo, Long memberNo, Long persisted) {
+        long latest = persisted != null ? persisted : 0L;
+        Room room = rooms.get(chatRoomNo);
+        AtomicLong watermark = room != null ? room.members.get(memberNo) : null;
+        if (watermark != null) {
+            latest = Math.max(latest, watermark.get());
+        }
+        Long pendingChatNo = pending.get(new RoomMemberKey(chatRoomNo, memberNo));
+        if (pendingChatNo != null) {
+            latest = Math.max(latest, pendingChatNo);
+        }
+        return latest > 0 ? latest : persisted;
+    }
+
+    /**
+     * 미반영 읽음 위치를 DB에 일괄 기록
+     */
+    @Scheduled(fixedDelayString = "${chat.read-watermark.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = new ArrayList<>();
+        for (RoomMemberKey key : pending.keySet()) {
+            Long chatNo = pending.remove(key);
+            if (chatNo != null) {
+                batch.add(new Object[]{chatNo, key.chatRoomNo(), key.memberNo(), chatNo});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            log.debug("읽음 위치 배치 반영: {}건", batch.size());
+        } catch (Exception e) {
+            // 실패분은 다음 주기에 재시도 (그 사이 더 큰 값이 들어왔으면 그 값 유지)
+            for (Object[] row : batch) {
+                pending.merge(new RoomMemberKey((Long) row[1], (Long) row[2]), (Long) row[0], Math::max);
+            }
+            log.warn("읽음 위치 배치 반영 실패, 다음 주기에 재시도: {}건, {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 오래 접근하지 않았거나 적재 후 max-age 가 지난 방 비우기 (1분 간격)
+     * 비운 방의 미반영 읽음 위치는 pending 에 남아 있어 다음 적재 시 반영됨
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictStaleRooms() {
+        long now = System.currentTimeMillis();
+        int before = rooms.size();
+        rooms.values().removeIf(room -> now - room.lastAccessAt > idleEvictMillis || now - room.loadedAt > maxAgeMillis);
+        int removed = before - rooms.size();
+        if (removed > 0) {
+            log.debug("읽음 위치 인덱스 방 정리: {}건, 남은 방 {}건", removed, rooms.size());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private AtomicLong watermarkOf(Long chatRoomNo, Long memberNo) {
+        Room room = room(chatRoomNo);
+        AtomicLong watermark = room != null ? room.members.get(memberNo) : null;
+        if (watermark != null) {
+            return watermark;
+        }
+        // 방 적재 이후 참여한 멤버: DB에서 참여 여부 확인 후 추가 (loadRoom 과 같은 joined_at 조건)
+        ChatRoomMember roomMember = chatRoomMemberRepository
+                .findByChatRoom_ChatRoomNoAndMember_MemberNoAndChatRoomMemberJoinedAtIsNotNull(chatRoomNo, memberNo)
+                .orElseThrow(() -> new RuntimeException("채팅방 멤버가 아닙니다."));
+        long persisted = roomMember.getLastReadChatNo() != null ? roomMember.getLastReadChatNo() : 0L;
+        if (room == null) {
+            room = rooms.computeIfAbsent(chatRoomNo, k -> new Room());
+        }
+        return room.members.computeIfAbsent(memberNo, k -> new AtomicLong(persisted));
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 적재된 방 (없으면 DB에서 적재, 참여자가 없으면 캐시하지 않고 null)
+     * DB 조회는 맵 밖에서 하고 putIfAbsent 로 넣음 (computeIfAbsent 안에서 조회하면 같은 버킷의 다른 방 갱신까지 막힘).
+     * 동시에 적재하면 먼저 들어간 쪽을 사용
+     */
+    private Room room(Long chatRoomNo) {
+        Room room = rooms.get(chatRoomNo);
+        if (room == null) {
+            Room loaded = loadRoom(chatRoomNo);
+            if (loaded == null) {
+                return null;
+            }
+            Room existing = rooms.putIfAbsent(chatRoomNo, loaded);
+            room = existing != null ? existing : loaded;
+        }
+        room.lastAccessAt = System.currentTimeMillis();
+        return room;
+    }
+
+    private Room loadRoom(Long chatRoomNo) {
+        List<Object[]> rows = chatRoomMemberRepository.findReadWatermarksByChatRoomNo(chatRoomNo);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Room room = new Room();
+        for (Object[] row : rows) {
+            Long memberNo = (Long) row[0];
+            long persisted = row[1] != null ? (Long) row[1] : 0L;
+            Long pendingChatNo = pending.get(new RoomMemberKey(chatRoomNo, memberNo));
+            long latest = pendingChatNo != null ? Math.max(persisted, pendingChatNo) : persisted;
+            room.members.put(memberNo, new AtomicLong(latest));
+        }
+        return room;
+    }
+}
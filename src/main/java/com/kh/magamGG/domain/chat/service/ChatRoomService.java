@@ -16,8 +16,8 @@ public interface ChatRoomService {
     void joinChatRoom(Long chatRoomNo, Long memberNo);
 
     /**
-     * 마지막으로 읽은 메시지 업데이트
-     * @return 실제로 DB가 갱신되면 true, 같은 값으로 건너뛴 경우 false
+     * 마지막으로 읽은 메시지 업데이트 (단조 증가, DB 반영은 주기적 일괄 기록)
+     * @return 읽음 위치가 앞으로 이동하면 true, 같거나 이전 메시지라 건너뛴 경우 false
      */
     boolean updateLastReadMessage(Long chatRoomNo, Long memberNo, Long lastChatNo);
 
@@ -7,10 +7,7 @@ import com.kh.magamGG.domain.chat.entity.ChatRoomMember;
 import com.kh.magamGG.domain.chat.repository.ChatMessageRepository;
 import com.kh.magamGG.domain.chat.repository.ChatRoomMemberRepository;
 import com.kh.magamGG.domain.chat.repository.ChatRoomRepository;
-import com.kh.magamGG.domain.attendance.entity.Attendance;
-import com.kh.magamGG.domain.attendance.entity.AttendanceRequest;
-import com.kh.magamGG.domain.attendance.repository.AttendanceRepository;
-import com.kh.magamGG.domain.attendance.repository.AttendanceRequestRepository;
+import com.kh.magamGG.domain.attendance.service.AttendancePresenceBoard;
 import com.kh.magamGG.domain.member.entity.Member;
 import com.kh.magamGG.domain.member.repository.MemberRepository;
 import com.kh.magamGG.domain.project.entity.Project;
@@ -21,14 +18,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -45,8 +38,9 @@ public class ChatRoomServiceImpl implements ChatRoomService {
     private final MemberRepository memberRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final ProjectRepository projectRepository;
-    private final AttendanceRequestRepository attendanceRequestRepository;
-    private final AttendanceRepository attendanceRepository;
+    private final AttendancePresenceBoard attendancePresenceBoard;
+    private final ChatReadWatermarkIndex chatReadWatermarkIndex;
+    private final ReadReceiptCalculator readReceiptCalculator;
 
     @Override
     @Transactional
@@ -143,33 +137,9 @@ public class ChatRoomServiceImpl implements ChatRoomService {
      * 마지막으로 읽은 메시지 업데이트
      */
     @Override
-    @Transactional(rollbackFor = Exception.class)
     public boolean updateLastReadMessage(Long chatRoomNo, Long memberNo, Long lastChatNo) {
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomNo)
-                .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
-        
-        Member member = memberRepository.findById(memberNo)
-                .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다."));
-        
-        // 채팅방 멤버 정보 조회
-        ChatRoomMember roomMember = chatRoomMemberRepository.findByChatRoomAndMember(chatRoom, member)
-                .orElseThrow(() -> new RuntimeException("채팅방 멤버가 아닙니다."));
-        
-        Long currentLastReadChatNo = roomMember.getLastReadChatNo();
-        if (currentLastReadChatNo != null && currentLastReadChatNo.equals(lastChatNo)) {
-            return false;
-        }
-        
-        roomMember.setLastReadChatNo(lastChatNo);
-        chatRoomMemberRepository.save(roomMember);
-        chatRoomMemberRepository.flush();
-
-        ChatRoomMember verifyRoomMember = chatRoomMemberRepository.findByChatRoomAndMember(chatRoom, member)
-                .orElseThrow(() -> new RuntimeException("검증용 조회 실패"));
-        if (!lastChatNo.equals(verifyRoomMember.getLastReadChatNo())) {
-            throw new RuntimeException("DB 업데이트 실패");
-        }
-        return true;
+        // 메모리 인덱스에 단조 증가로 반영, DB 기록은 ChatReadWatermarkIndex 가 주기적으로 일괄 처리
+        return chatReadWatermarkIndex.advance(chatRoomNo, memberNo, lastChatNo);
     }
 
     /**
@@ -188,7 +158,8 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         
         if (roomMemberOpt.isPresent()) {
             ChatRoomMember roomMember = roomMemberOpt.get();
-            Long lastReadChatNo = roomMember.getLastReadChatNo();
+            Long lastReadChatNo = chatReadWatermarkIndex.lastReadChatNo(
+                    chatRoomNo, memberNo, roomMember.getLastReadChatNo());
             long unreadCount;
             if (lastReadChatNo != null) {
                 unreadCount = chatMessageRepository.countByChatRoomAndChatNoGreaterThanAndChatMessageCreatedAtGreaterThanEqual(
@@ -221,18 +192,6 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         }
     }
 
-    /** 근태 신청 타입 → 금일 표시용 (휴가/재택근무/워케이션만) */
-    private static String requestTypeToDisplay(String requestType) {
-        if (requestType == null) return null;
-        String t = requestType.trim();
-        if ("연차".equals(t) || "반차".equals(t) || "반반차".equals(t) || "병가".equals(t) || "휴재".equals(t) || "휴가".equals(t)) {
-            return "휴가";
-        }
-        if ("재택근무".equals(t) || "재택".equals(t)) return "재택근무";
-        if ("워케이션".equals(t)) return "워케이션";
-        return null;
-    }
-
     /**
      * 특정 채팅방의 참여자 목록 조회 (오늘 근태 상태 todayDisplayStatus 포함)
      */
@@ -253,55 +212,8 @@ public class ChatRoomServiceImpl implements ChatRoomService {
             }
         }
 
-        Map<Long, String> memberStatusFromRequest = new LinkedHashMap<>();
-        Map<Long, String> lastAttendanceTypeByMember = new LinkedHashMap<>();
-        if (agencyNo != null) {
-            LocalDate today = LocalDate.now();
-            LocalDateTime todayStart = today.atStartOfDay();
-            LocalDateTime todayEnd = today.atTime(LocalTime.MAX);
-            List<AttendanceRequest> approvedToday;
-            try {
-                approvedToday = attendanceRequestRepository.findApprovedByAgencyNoAndDateBetween(agencyNo, todayStart, todayEnd);
-            } catch (Exception e) {
-                approvedToday = Collections.emptyList();
-            }
-            for (AttendanceRequest ar : approvedToday) {
-                String displayType = requestTypeToDisplay(ar.getAttendanceRequestType());
-                if (displayType == null) continue;
-                Long memberNo = ar.getMember().getMemberNo();
-                if ("휴가".equals(displayType)) memberStatusFromRequest.put(memberNo, displayType);
-            }
-            for (AttendanceRequest ar : approvedToday) {
-                String displayType = requestTypeToDisplay(ar.getAttendanceRequestType());
-                if ("재택근무".equals(displayType)) {
-                    Long memberNo = ar.getMember().getMemberNo();
-                    if (!memberStatusFromRequest.containsKey(memberNo)) memberStatusFromRequest.put(memberNo, displayType);
-                }
-            }
-            for (AttendanceRequest ar : approvedToday) {
-                String displayType = requestTypeToDisplay(ar.getAttendanceRequestType());
-                if ("워케이션".equals(displayType)) {
-                    Long memberNo = ar.getMember().getMemberNo();
-                    if (!memberStatusFromRequest.containsKey(memberNo)) memberStatusFromRequest.put(memberNo, displayType);
-                }
-            }
-            List<Attendance> todayRecords;
-            try {
-                todayRecords = attendanceRepository.findByAgency_AgencyNoAndDate(agencyNo, today);
-            } catch (Exception e) {
-                todayRecords = Collections.emptyList();
-            }
-            // 멤버별 오늘 마지막 근태 기록(출근/퇴근) → 작업중/작업 종료/작업 시작 전 (ORDER BY memberNo, attendanceTime DESC)
-            for (Attendance a : todayRecords) {
-                Long no = a.getMember().getMemberNo();
-                if (!lastAttendanceTypeByMember.containsKey(no)) {
-                    lastAttendanceTypeByMember.put(no, a.getAttendanceType());
-                }
-            }
-        }
-        
-        final Map<Long, String> todayStatusMap = memberStatusFromRequest;
-        final Map<Long, String> lastTypeMap = lastAttendanceTypeByMember;
+        // 금일 근태 현황판(메모리)에서 회원별 상태 조회
+        AttendancePresenceBoard.Board board = agencyNo != null ? attendancePresenceBoard.today(agencyNo) : null;
 
         for (ChatRoomMember roomMember : roomMembers) {
             Member member = roomMember.getMember();
@@ -310,14 +222,15 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
             // 프로젝트 상세와 동일: 휴가/재택/워케이션 → 해당 표시, 출근→작업중, 퇴근→작업 종료, 그 외/미기록→작업 시작 전
             String todayDisplayStatus = "작업 시작 전";
-            if (agencyNo != null) {
-                if (todayStatusMap.containsKey(memberNo)) {
-                    todayDisplayStatus = todayStatusMap.get(memberNo);
-                } else if (lastTypeMap.containsKey(memberNo)) {
-                    String lastType = lastTypeMap.get(memberNo);
+            if (board != null) {
+                String requestStatus = board.getRequestStatus(memberNo);
+                AttendancePresenceBoard.AttendanceMark lastAttendance = board.getLastAttendance(memberNo);
+                if (requestStatus != null) {
+                    todayDisplayStatus = requestStatus;
+                } else if (lastAttendance != null) {
+                    String lastType = lastAttendance.attendanceType();
                     if ("출근".equals(lastType)) todayDisplayStatus = "작업중";
                     else if ("퇴근".equals(lastType)) todayDisplayStatus = "작업 종료";
-                    else todayDisplayStatus = "작업 시작 전";
                 }
             }
             
@@ -442,7 +355,8 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         Optional<ChatRoomMember> roomMemberOpt = chatRoomMemberRepository.findByChatRoomAndMember(chatRoom, member);
         
         if (roomMemberOpt.isPresent()) {
-            return roomMemberOpt.get().getLastReadChatNo();
+            return chatReadWatermarkIndex.lastReadChatNo(
+                    chatRoomNo, memberNo, roomMemberOpt.get().getLastReadChatNo());
         } else {
             // 채팅방 멤버가 아니면 null 반환
             return null;
@@ -452,7 +366,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
     @Override
     @Transactional(readOnly = true)
     public long getUnreadMemberCount(Long chatRoomNo, Long chatNo, Long senderMemberNo, Long requesterMemberNo) {
-        return chatRoomMemberRepository.countUnreadMembersInRoomByChatNo(chatRoomNo, chatNo, senderMemberNo, requesterMemberNo);
+        return readReceiptCalculator.load(chatRoomNo).unreadCount(chatNo, senderMemberNo, requesterMemberNo);
     }
 
     // --- Private Helper Methods ---
@@ -486,6 +400,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                     .chatRoomMemberJoinedAt(LocalDateTime.now())
                     .build();
             chatRoomMemberRepository.save(roomMember);
+            chatReadWatermarkIndex.addMember(room.getChatRoomNo(), member.getMemberNo()); // 커밋 후 반영
         }
     }
 
@@ -567,7 +482,8 @@ public class ChatRoomServiceImpl implements ChatRoomService {
             }
         }
         
-        Long lastReadChatNo = roomMember.getLastReadChatNo();
+        Long lastReadChatNo = chatReadWatermarkIndex.lastReadChatNo(
+                room.getChatRoomNo(), roomMember.getMember().getMemberNo(), roomMember.getLastReadChatNo());
         if (lastReadChatNo != null) {
             unreadCount = chatMessageRepository.countByChatRoomAndChatNoGreaterThanAndChatMessageCreatedAtGreaterThanEqual(
                     room, lastReadChatNo, roomMember.getChatRoomMemberJoinedAt());
@@ -628,7 +544,8 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 }
             }
             
-            Long lastReadChatNo = roomMember.getLastReadChatNo();
+            Long lastReadChatNo = chatReadWatermarkIndex.lastReadChatNo(
+                    room.getChatRoomNo(), memberNo, roomMember.getLastReadChatNo());
             if (lastReadChatNo != null) {
                 unreadCount = chatMessageRepository.countByChatRoomAndChatNoGreaterThanAndChatMessageCreatedAtGreaterThanEqual(
                         room, lastReadChatNo, roomMember.getChatRoomMemberJoinedAt());
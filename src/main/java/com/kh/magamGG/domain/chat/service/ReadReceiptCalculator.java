@@ -0,0 +1,87 @@
+package com.kh.magamGG.domain.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 메시지별 안 읽은 인원 수 일괄 계산기
+ * 채팅방 참여 멤버의 lastReadChatNo를 한 번만 가져와 정렬해두고, 메시지마다 이진 탐색으로 계산한다.
+ * (메시지 1건당 COUNT 쿼리 1회 → 페이지당 쿼리 1회)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadReceiptCalculator {
+
+    private final ChatReadWatermarkIndex chatReadWatermarkIndex;
+
+    /**
+     * 채팅방 읽음 위치 스냅샷 조회 (읽음 위치 메모리 인덱스 기준, 참여 중인 멤버만)
+     */
+    public Watermarks load(Long chatRoomNo) {
+        return Watermarks.of(chatReadWatermarkIndex.snapshot(chatRoomNo));
+    }
+
+    /**
+     * 채팅방 멤버별 읽음 위치 스냅샷 (읽지 않았으면 0)
+     */
+    public static class Watermarks {
+
+        private final long[] sorted;
+        private final Map<Long, Long> byMember;
+
+        private Watermarks(long[] sorted, Map<Long, Long> byMember) {
+            this.sorted = sorted;
+            this.byMember = byMember;
+        }
+
+        public static Watermarks of(Map<Long, Long> byMember) {
+            long[] sorted = new long[byMember.size()];
+            int i = 0;
+            for (Long watermark : byMember.values()) {
+                sorted[i++] = watermark != null ? watermark : 0L;
+            }
+            Arrays.sort(sorted);
+            return new Watermarks(sorted, byMember);
+        }
+
+        /**
+         * 특정 메시지를 아직 읽지 않은 멤버 수 (lastReadChatNo < chatNo)
+         * @param senderMemberNo 발신자 제외 시 해당 멤버 번호, 제외하지 않으면 null
+         * @param requesterMemberNo 요청자 제외 시 해당 멤버 번호, 제외하지 않으면 null
+         */
+        public long unreadCount(long chatNo, Long senderMemberNo, Long requesterMemberNo) {
+            long count = countBelow(chatNo);
+            if (senderMemberNo != null && isUnread(senderMemberNo, chatNo)) {
+                count--;
+            }
+            if (requesterMemberNo != null && !requesterMemberNo.equals(senderMemberNo)
+                    && isUnread(requesterMemberNo, chatNo)) {
+                count--;
+            }
+            return count;
+        }
+
+        private boolean isUnread(Long memberNo, long chatNo) {
+            Long watermark = byMember.get(memberNo);
+            return watermark != null && watermark < chatNo;
+        }
+
+        /** 정렬된 읽음 위치 중 chatNo 미만인 개수 (lower bound) */
+        private int countBelow(long chatNo) {
+            int lo = 0;
+            int hi = sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sorted[mid] < chatNo) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+}
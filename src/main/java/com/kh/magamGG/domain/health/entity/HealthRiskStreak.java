@@ -0,0 +1,44 @@
+package com.kh.magamGG.domain.health.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 건강 위험 연속 일수 (일일 건강 체크 등록 시 증분 갱신)
+ * 위험일 = 그날 건강 체크 중 하나라도 피곤함 + 수면≤4h + 불편≥8
+ */
+@Entity
+@Table(name = "HEALTH_RISK_STREAK")
+@Getter
+@Setter
+@NoArgsConstructor
+public class HealthRiskStreak {
+
+    @Id
+    @Column(name = "MEMBER_NO")
+    private Long memberNo;
+
+    /** 마지막 건강 체크 날짜 */
+    @Column(name = "LAST_CHECK_DATE", nullable = false)
+    private LocalDate lastCheckDate;
+
+    /** 마지막 체크 날짜가 위험일인지 (Y/N) */
+    @Column(name = "LAST_DAY_RISK", nullable = false, length = 1)
+    private String lastDayRisk;
+
+    /** 마지막 체크 전날까지의 연속 위험 일수 (같은 날 추가 체크로 위험일이 될 때 사용) */
+    @Column(name = "PREV_RISK_STREAK", nullable = false)
+    private Integer prevRiskStreak;
+
+    /** 마지막 체크 날짜까지의 연속 위험 일수 (체크 날짜가 하루라도 비면 끊김) */
+    @Column(name = "RISK_STREAK", nullable = false)
+    private Integer riskStreak;
+
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+}
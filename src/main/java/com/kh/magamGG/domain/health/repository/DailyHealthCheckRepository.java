@@ -2,6 +2,7 @@ package com.kh.magamGG.domain.health.repository;
 
 import com.kh.magamGG.domain.health.entity.DailyHealthCheck;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,4 +31,12 @@ public interface DailyHealthCheckRepository extends JpaRepository<DailyHealthChe
      * 회원의 최근 30건 건강 체크 조회 (담당자 AI 일일 건강 분석용, 최신순)
      */
     List<DailyHealthCheck> findTop30ByMember_MemberNoOrderByHealthCheckCreatedAtDesc(Long memberNo);
+
+    /**
+     * 전체 건강 체크 위험 판정 값 [회원번호, 등록일시, 컨디션, 수면시간, 불편도] (회원·등록일시 순, 연속 위험 일수 백필용)
+     */
+    @Query("SELECT d.member.memberNo, d.healthCheckCreatedAt, d.healthCondition, d.sleepHours, d.discomfortLevel " +
+           "FROM DailyHealthCheck d WHERE d.healthCheckCreatedAt IS NOT NULL " +
+           "ORDER BY d.member.memberNo, d.healthCheckCreatedAt")
+    List<Object[]> findAllRiskFieldsOrderByMemberAndCreatedAt();
 }
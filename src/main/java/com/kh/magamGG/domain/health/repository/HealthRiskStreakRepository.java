@@ -0,0 +1,43 @@
+package com.kh.magamGG.domain.health.repository;
+
+import com.kh.magamGG.domain.health.entity.HealthRiskStreak;
+import com.kh.magamGG.domain.member.entity.Member;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface HealthRiskStreakRepository extends JpaRepository<HealthRiskStreak, Long> {
+
+    /**
+     * 에이전시 소속 회원 중 연속 위험 일수가 minStreak 이상인 회원 (에이전시 관리자 제외)
+     */
+    @Query("SELECT m FROM HealthRiskStreak s JOIN Member m ON m.memberNo = s.memberNo " +
+           "WHERE m.agency.agencyNo = :agencyNo AND s.riskStreak >= :minStreak " +
+           "AND m.memberRole <> '에이전시 관리자' " +
+           "ORDER BY m.memberNo")
+    List<Member> findAtRiskMembersByAgencyNo(@Param("agencyNo") Long agencyNo,
+                                             @Param("minStreak") int minStreak);
+
+    /**
+     * 회원 행이 없으면 빈 행 생성, 있으면 변경 없음 (첫 체크가 동시에 들어와도 중복 키 오류 없음).
+     * seedDate는 첫 체크 날짜보다 이틀 전으로 넘겨, 이어지는 advance가 "새로 시작"으로 처리되게 함
+     */
+    @Modifying
+    @Query(value = "INSERT INTO health_risk_streak " +
+           "(member_no, last_check_date, last_day_risk, prev_risk_streak, risk_streak, updated_at) " +
+           "VALUES (:memberNo, :seedDate, 'N', 0, 0, NOW()) " +
+           "ON DUPLICATE KEY UPDATE member_no = member_no", nativeQuery = true)
+    int insertIfAbsent(@Param("memberNo") Long memberNo, @Param("seedDate") LocalDate seedDate);
+
+    /** 회원 행 조회 (행 잠금, 같은 회원의 동시 체크 반영을 순서대로 처리) */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM HealthRiskStreak s WHERE s.memberNo = :memberNo")
+    Optional<HealthRiskStreak> findByIdForUpdate(@Param("memberNo") Long memberNo);
+}
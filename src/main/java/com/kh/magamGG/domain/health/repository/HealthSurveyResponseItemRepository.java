@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,5 +47,31 @@ public interface HealthSurveyResponseItemRepository extends JpaRepository<Health
         @Param("type") String type,
         @Param("minOrder") int minOrder,
         @Param("maxOrder") int maxOrder);
-}
 
+    /**
+     * 여러 회원의 최신 설문 응답 점수 일괄 조회 (AI 프롬프트용)
+     * 회원·설문 유형별 가장 최근 응답 시각의 문항만 반환 (응답 이력이 쌓여도 회원당 설문 1회분)
+     * 행: [memberNo, questionType, questionOrder, answerScore, createdAt]
+     */
+    @Query("SELECT i.member.memberNo, q.healthSurveyQuestionType, q.healthSurveyOrder, " +
+           "i.healthSurveyQuestionItemAnswerScore, i.healthSurveyQuestionItemCreatedAt " +
+           "FROM HealthSurveyResponseItem i " +
+           "JOIN i.healthSurveyQuestion q " +
+           "WHERE i.member.memberNo IN :memberNos " +
+           "AND q.healthSurveyQuestionType IN :types " +
+           "AND i.healthSurveyQuestionItemCreatedAt = (" +
+           "  SELECT MAX(i2.healthSurveyQuestionItemCreatedAt) FROM HealthSurveyResponseItem i2 " +
+           "  JOIN i2.healthSurveyQuestion q2 " +
+           "  WHERE i2.member.memberNo = i.member.memberNo " +
+           "  AND q2.healthSurveyQuestionType = q.healthSurveyQuestionType)")
+    List<Object[]> findScoreRowsByMemberNos(
+        @Param("memberNos") Collection<Long> memberNos,
+        @Param("types") Collection<String> types);
+
+    /**
+     * 에이전시 소속 회원 중 설문 응답 이력이 있는 회원 번호
+     */
+    @Query("SELECT DISTINCT i.member.memberNo FROM HealthSurveyResponseItem i " +
+           "WHERE i.member.agency.agencyNo = :agencyNo")
+    List<Long> findDistinctMemberNosByAgencyNo(@Param("agencyNo") Long agencyNo);
+}
@@ -23,6 +23,7 @@ public class DailyHealthCheckService {
 
     private final DailyHealthCheckRepository dailyHealthCheckRepository;
     private final MemberRepository memberRepository;
+    private final HealthRiskDetector healthRiskDetector;
     private final HealthRiskNotificationService healthRiskNotificationService;
     
     /**
@@ -49,8 +50,9 @@ public class DailyHealthCheckService {
         // 저장 (DAILY_HEALTH_CHECK 테이블에 INSERT)
         DailyHealthCheck saved = dailyHealthCheckRepository.save(dailyHealthCheck);
 
-        // 3일 연속 위험 조건 충족 시 담당자/에이전시 관리자 알림 (통합 발송)
+        // 연속 위험 일수 갱신(별도 트랜잭션) 후 3일 연속 위험 조건 충족 시 담당자/에이전시 관리자 알림 (통합 발송)
         try {
+            healthRiskDetector.recordCheck(memberNo, saved);
             healthRiskNotificationService.checkAndNotifyIfRisk(memberNo);
         } catch (Exception e) {
             log.warn("건강 위험 알림 처리 실패: memberNo={}", memberNo, e);
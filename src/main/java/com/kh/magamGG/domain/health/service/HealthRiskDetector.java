@@ -0,0 +1,140 @@
+package com.kh.magamGG.domain.health.service;
+
+import com.kh.magamGG.domain.health.entity.DailyHealthCheck;
+import com.kh.magamGG.domain.health.entity.HealthRiskStreak;
+import com.kh.magamGG.domain.health.repository.DailyHealthCheckRepository;
+import com.kh.magamGG.domain.health.repository.HealthRiskStreakRepository;
+import com.kh.magamGG.domain.member.entity.Member;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 건강 위험 연속 일수 판정 (HEALTH_RISK_STREAK)
+ * - 일일 건강 체크 등록 시 회원 1행만 갱신 (최근 체크 목록 재조회 없이 O(1), 건강 체크 저장과는 별도 트랜잭션)
+ * - 에이전시 위험 회원은 연속 일수 조건 쿼리 1회로 조회
+ * - 테이블이 비어 있으면 기동 시 DAILY_HEALTH_CHECK 전체를 재생해 백필
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HealthRiskDetector {
+
+    /** 알림 기준 연속 위험 일수 */
+    private static final int CONSECUTIVE_DAYS = 3;
+
+    private static final String CONDITION_TIRED = "피곤함";
+    private static final int MAX_SLEEP_HOURS = 4;
+    private static final int MIN_DISCOMFORT_LEVEL = 8;
+
+    private final HealthRiskStreakRepository healthRiskStreakRepository;
+    private final DailyHealthCheckRepository dailyHealthCheckRepository;
+
+    /**
+     * 저장된 건강 체크 반영 후 연속 위험 일수 반환
+     * - 별도 트랜잭션(REQUIRES_NEW): 여기서 실패해도 건강 체크 등록은 롤백되지 않고 알림만 빠짐
+     * - 행이 없으면 upsert로 먼저 만든 뒤 행 잠금으로 읽어 갱신 (첫 체크 동시 등록 시 중복 키 방지)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int recordCheck(Long memberNo, DailyHealthCheck check) {
+        LocalDateTime createdAt = check.getHealthCheckCreatedAt() != null ? check.getHealthCheckCreatedAt() : LocalDateTime.now();
+        LocalDate checkDate = createdAt.toLocalDate();
+        healthRiskStreakRepository.insertIfAbsent(memberNo, checkDate.minusDays(2));
+        HealthRiskStreak streak = healthRiskStreakRepository.findByIdForUpdate(memberNo)
+                .orElseThrow(() -> new IllegalStateException("건강 위험 연속 일수 행을 찾을 수 없습니다: " + memberNo));
+        advance(streak, memberNo, checkDate,
+                isRiskCondition(check.getHealthCondition(), check.getSleepHours(), check.getDiscomfortLevel()));
+        streak.setUpdatedAt(LocalDateTime.now());
+        return streak.getRiskStreak();
+    }
+
+    /** 회원이 연속 위험 기준(3일)을 충족하는지 */
+    @Transactional(readOnly = true)
+    public boolean isAtRisk(Long memberNo) {
+        return healthRiskStreakRepository.findById(memberNo)
+                .map(s -> s.getRiskStreak() >= CONSECUTIVE_DAYS)
+                .orElse(false);
+    }
+
+    /** 에이전시 소속 회원 중 연속 위험 기준 충족자 (에이전시 관리자 제외) */
+    @Transactional(readOnly = true)
+    public List<Member> findAtRiskMembers(Long agencyNo) {
+        return healthRiskStreakRepository.findAtRiskMembersByAgencyNo(agencyNo, CONSECUTIVE_DAYS);
+    }
+
+    /** 피곤함 + 수면≤4h + 불편≥8 */
+    static boolean isRiskCondition(String healthCondition, Integer sleepHours, Integer discomfortLevel) {
+        if (!CONDITION_TIRED.equals(healthCondition)) return false;
+        if (sleepHours == null || sleepHours > MAX_SLEEP_HOURS) return false;
+        int discomfort = discomfortLevel != null ? discomfortLevel : 0;
+        return discomfort >= MIN_DISCOMFORT_LEVEL;
+    }
+
+    /**
+     * 체크 1건 반영
+     * - 같은 날 재체크: 그날이 위험일이 되면 전날까지 연속 일수 + 1
+     * - 다음 날 체크: 전날 연속 일수 이어감 (위험이 아니면 0)
+     * - 하루 이상 비거나 첫 체크: 새로 시작
+     */
+    static HealthRiskStreak advance(HealthRiskStreak streak, Long memberNo, LocalDate date, boolean risky) {
+        if (streak == null) {
+            streak = new HealthRiskStreak();
+            streak.setMemberNo(memberNo);
+            return start(streak, date, risky, 0);
+        }
+        LocalDate last = streak.getLastCheckDate();
+        if (date.equals(last)) {
+            if (risky && !"Y".equals(streak.getLastDayRisk())) {
+                streak.setLastDayRisk("Y");
+                streak.setRiskStreak(streak.getPrevRiskStreak() + 1);
+            }
+            return streak;
+        }
+        if (date.isBefore(last)) {
+            // 등록 시각은 서버 현재 시각이므로 과거 날짜는 들어오지 않음 (들어오면 무시)
+            return streak;
+        }
+        return start(streak, date, risky, last.plusDays(1).equals(date) ? streak.getRiskStreak() : 0);
+    }
+
+    private static HealthRiskStreak start(HealthRiskStreak streak, LocalDate date, boolean risky, int prevStreak) {
+        streak.setLastCheckDate(date);
+        streak.setLastDayRisk(risky ? "Y" : "N");
+        streak.setPrevRiskStreak(prevStreak);
+        streak.setRiskStreak(risky ? prevStreak + 1 : 0);
+        return streak;
+    }
+
+    /**
+     * 기동 시 연속 위험 일수 테이블이 비어 있으면 건강 체크 이력 재생으로 백필 (실패해도 기동은 계속)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (healthRiskStreakRepository.count() > 0) return;
+            Map<Long, HealthRiskStreak> streaks = new LinkedHashMap<>();
+            for (Object[] row : dailyHealthCheckRepository.findAllRiskFieldsOrderByMemberAndCreatedAt()) {
+                Long memberNo = (Long) row[0];
+                LocalDate date = ((LocalDateTime) row[1]).toLocalDate();
+                boolean risky = isRiskCondition((String) row[2], (Integer) row[3], (Integer) row[4]);
+                streaks.put(memberNo, advance(streaks.get(memberNo), memberNo, date, risky));
+            }
+            LocalDateTime now = LocalDateTime.now();
+            streaks.values().forEach(s -> s.setUpdatedAt(now));
+            healthRiskStreakRepository.saveAll(streaks.values());
+            log.info("건강 위험 연속 일수 초기 백필 완료: members={}", streaks.size());
+        } catch (Exception e) {
+            log.warn("건강 위험 연속 일수 초기 백필 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.kh.magamGG.domain.health.service;
 
-import com.kh.magamGG.domain.health.entity.DailyHealthCheck;
-import com.kh.magamGG.domain.health.repository.DailyHealthCheckRepository;
 import com.kh.magamGG.domain.member.entity.ArtistAssignment;
 import com.kh.magamGG.domain.member.entity.Member;
 import com.kh.magamGG.domain.member.repository.ArtistAssignmentRepository;
@@ -12,14 +10,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * 3일 연속 건강 위험 감지 시 담당자/에이전시 관리자에게 알림 발송.
  * 동일 수신자에게 중복 알림 방지: 여러 명이 해당되면 한 건으로 통합.
+ * 위험 판정은 HealthRiskDetector의 회원별 연속 위험 일수 기준.
  */
 @Service
 @RequiredArgsConstructor
@@ -27,43 +24,44 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class HealthRiskNotificationService {
 
-    private static final String CONDITION_TIRED = "피곤함";
-    private static final int MAX_SLEEP_HOURS = 4;
-    private static final int MIN_DISCOMFORT_LEVEL = 8;
-    private static final int CONSECUTIVE_DAYS = 3;
-
-    private final DailyHealthCheckRepository dailyHealthCheckRepository;
+    private final HealthRiskDetector healthRiskDetector;
     private final MemberRepository memberRepository;
     private final ArtistAssignmentRepository artistAssignmentRepository;
     private final NotificationService notificationService;
 
     /**
-     * 건강 체크 저장 후 호출. 3일 연속 위험 조건 충족 시 알림 발송 (동일 수신자 통합)
+     * 건강 체크 저장·연속 위험 일수 반영 후 호출. 3일 연속 위험 조건 충족 시 알림 발송 (동일 수신자 통합)
      *
      * @param memberNo 방금 건강 체크를 등록한 회원 번호
      */
     @Transactional
     public void checkAndNotifyIfRisk(Long memberNo) {
+        if (!healthRiskDetector.isAtRisk(memberNo)) return;
+
         Member member = memberRepository.findByIdWithAgency(memberNo).orElse(null);
         if (member == null || member.getAgency() == null) return;
 
+        // 해당 에이전시 소속 회원 중 3일 연속 위험 조건 충족자 수집 (쿼리 1회)
         Long agencyNo = member.getAgency().getAgencyNo();
-        if (!hasThreeConsecutiveRiskDays(memberNo)) return;
-
-        // 해당 에이전시 소속 회원 중 3일 연속 위험 조건 충족자 수집
-        List<Member> agencyMembers = memberRepository.findByAgency_AgencyNo(agencyNo);
-        List<Member> atRiskMembers = agencyMembers.stream()
-                .filter(m -> !"에이전시 관리자".equals(m.getMemberRole()))
-                .filter(m -> hasThreeConsecutiveRiskDays(m.getMemberNo()))
-                .collect(Collectors.toList());
-
+        List<Member> atRiskMembers = healthRiskDetector.findAtRiskMembers(agencyNo);
         if (atRiskMembers.isEmpty()) return;
 
         // 수신자별 회원명 리스트 (중복 알림 방지)
-        Map<Long, List<String>> recipientToNames = new HashMap<>();
+        Map<Long, List<String>> recipientToNames = new LinkedHashMap<>();
+        Map<Long, Long> managerByArtist = findManagersByArtist(atRiskMembers);
+        Long adminNo = null;
+        boolean adminLoaded = false;
 
         for (Member atRisk : atRiskMembers) {
-            Long recipientNo = resolveRecipient(atRisk);
+            // 메인 작가 → 담당자, 없으면 에이전시 관리자 / 어시스트·담당자 → 에이전시 관리자
+            Long recipientNo = managerByArtist.get(atRisk.getMemberNo());
+            if (recipientNo == null) {
+                if (!adminLoaded) {
+                    adminNo = findFirstAdmin(agencyNo);
+                    adminLoaded = true;
+                }
+                recipientNo = adminNo;
+            }
             if (recipientNo == null) continue;
             recipientToNames
                     .computeIfAbsent(recipientNo, k -> new ArrayList<>())
@@ -78,57 +76,24 @@ public class HealthRiskNotificationService {
         }
     }
 
-    /** 메인 작가 → 담당자, 없으면 에이전시 관리자 / 어시스트·담당자 → 에이전시 관리자 */
-    private Long resolveRecipient(Member member) {
-        String role = member.getMemberRole();
-        boolean isMainArtist = "웹툰 작가".equals(role) || "웹소설 작가".equals(role);
-        Long agencyNo = member.getAgency() != null ? member.getAgency().getAgencyNo() : null;
-        if (agencyNo == null) return null;
-
-        if (isMainArtist) {
-            Optional<ArtistAssignment> assignment = artistAssignmentRepository.findByArtistMemberNo(member.getMemberNo());
-            if (assignment.isPresent()) {
-                return assignment.get().getManager().getMember().getMemberNo();
-            }
-        }
-
-        // 담당자가 없거나 어시스트/담당자 역할 → 에이전시 관리자에게 (여러 명일 수 있음)
-        List<Member> admins = memberRepository.findByAgency_AgencyNoAndMemberRoleIn(agencyNo, List.of("에이전시 관리자"));
-        return admins.isEmpty() ? null : admins.get(0).getMemberNo(); // 첫 번째 관리자 (통합 알림은 1명만)
-    }
-
-    /** 최근 3일 연속 피곤함 + 수면≤4h + 불편≥8 조건 충족 여부 */
-    private boolean hasThreeConsecutiveRiskDays(Long memberNo) {
-        List<DailyHealthCheck> recent = dailyHealthCheckRepository
-                .findTop10ByMember_MemberNoOrderByHealthCheckCreatedAtDesc(memberNo);
-        if (recent.size() < CONSECUTIVE_DAYS) return false;
-
-        List<LocalDate> dates = recent.stream()
-                .map(d -> d.getHealthCheckCreatedAt().toLocalDate())
-                .distinct()
-                .sorted(Comparator.reverseOrder())
-                .limit(CONSECUTIVE_DAYS)
+    /** 메인 작가(웹툰/웹소설 작가)의 담당자 회원번호 일괄 조회 (작가 회원번호 → 담당자 회원번호) */
+    private Map<Long, Long> findManagersByArtist(List<Member> members) {
+        List<Long> mainArtistNos = members.stream()
+                .filter(m -> "웹툰 작가".equals(m.getMemberRole()) || "웹소설 작가".equals(m.getMemberRole()))
+                .map(Member::getMemberNo)
                 .collect(Collectors.toList());
-        if (dates.size() < CONSECUTIVE_DAYS) return false;
+        if (mainArtistNos.isEmpty()) return Collections.emptyMap();
 
-        for (int i = 0; i < dates.size() - 1; i++) {
-            if (!dates.get(i).minusDays(1).equals(dates.get(i + 1))) return false;
+        Map<Long, Long> result = new HashMap<>();
+        for (ArtistAssignment assignment : artistAssignmentRepository.findByArtistMemberNoIn(mainArtistNos)) {
+            result.putIfAbsent(assignment.getArtist().getMemberNo(), assignment.getManager().getMember().getMemberNo());
         }
-
-        Set<LocalDate> targetDates = new HashSet<>(dates);
-        long matchCount = recent.stream()
-                .filter(d -> targetDates.contains(d.getHealthCheckCreatedAt().toLocalDate()))
-                .filter(this::meetsRiskCondition)
-                .map(d -> d.getHealthCheckCreatedAt().toLocalDate())
-                .distinct()
-                .count();
-        return matchCount >= CONSECUTIVE_DAYS;
+        return result;
     }
 
-    private boolean meetsRiskCondition(DailyHealthCheck d) {
-        if (!CONDITION_TIRED.equals(d.getHealthCondition())) return false;
-        if (d.getSleepHours() == null || d.getSleepHours() > MAX_SLEEP_HOURS) return false;
-        int discomfort = d.getDiscomfortLevel() != null ? d.getDiscomfortLevel() : 0;
-        return discomfort >= MIN_DISCOMFORT_LEVEL;
+    /** 담당자가 없거나 어시스트/담당자 역할 → 에이전시 관리자에게 (여러 명이면 첫 번째, 통합 알림은 1명만) */
+    private Long findFirstAdmin(Long agencyNo) {
+        List<Member> admins = memberRepository.findByAgency_AgencyNoAndMemberRoleIn(agencyNo, List.of("에이전시 관리자"));
+        return admins.isEmpty() ? null : admins.get(0).getMemberNo();
     }
 }
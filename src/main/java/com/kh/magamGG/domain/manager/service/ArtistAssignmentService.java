@@ -1,5 +1,6 @@
 package com.kh.magamGG.domain.manager.service;
 
+import com.kh.magamGG.domain.attendance.service.AttendancePresenceBoard;
 import com.kh.magamGG.domain.member.entity.ArtistAssignment;
 import com.kh.magamGG.domain.member.entity.Manager;
 import com.kh.magamGG.domain.member.repository.ArtistAssignmentRepository;
@@ -21,7 +22,7 @@ public class ArtistAssignmentService {
     private final ManagerRepository managerRepository;
     private final MemberRepository memberRepository;
     private final com.kh.magamGG.domain.project.repository.ProjectRepository projectRepository;
-    private final com.kh.magamGG.domain.attendance.repository.AttendanceRepository attendanceRepository;
+    private final AttendancePresenceBoard attendancePresenceBoard;
 
     public void assignArtist(Long managerNo, Long artistMemberNo) {
 
@@ -50,17 +51,13 @@ public class ArtistAssignmentService {
 
     public List<com.kh.magamGG.domain.manager.dto.response.AssignedArtistResponse> getWorkingArtistResponses(Long managerNo) {
         List<ArtistAssignment> assignments = assignmentRepository.findWorkingArtistsByManagerNo(managerNo);
-        java.time.LocalDate today = java.time.LocalDate.now();
 
         return assignments.stream()
                 .filter(assignment -> {
-                    // 오늘 날짜의 마지막 근태 기록 확인 (출근 상태인지)
-                    List<com.kh.magamGG.domain.attendance.entity.Attendance> attendances = 
-                        attendanceRepository.findTodayLastAttendanceByMemberNo(assignment.getArtist().getMemberNo(), today);
-                    
-                    // 기록이 없거나, 마지막 기록이 '퇴근'이면 제외
-                    if (attendances.isEmpty()) return false;
-                    return "출근".equals(attendances.get(0).getAttendanceType());
+                    // 금일 근태 현황판에서 마지막 기록이 '출근'인 작가만 (기록 없음·퇴근 제외)
+                    Member artist = assignment.getArtist();
+                    return artist.getAgency() != null
+                            && attendancePresenceBoard.today(artist.getAgency().getAgencyNo()).isCheckedIn(artist.getMemberNo());
                 })
                 .map(assignment -> {
                     Member artist = assignment.getArtist();
@@ -68,10 +65,10 @@ public class ArtistAssignmentService {
                     List<com.kh.magamGG.domain.project.entity.Project> projects = projectRepository.findActiveProjectsByMemberNo(artist.getMemberNo());
                     String projectName = projects.isEmpty() ? "-" : projects.get(0).getProjectName(); // 첫 번째 프로젝트만 표시
 
-                    // 근태 기록 가져오기 (이미 filter에서 존재 여부 확인됨)
-                    List<com.kh.magamGG.domain.attendance.entity.Attendance> attendances = 
-                        attendanceRepository.findTodayLastAttendanceByMemberNo(artist.getMemberNo(), today);
-                    java.time.LocalDateTime clockInTime = attendances.isEmpty() ? null : attendances.get(0).getAttendanceTime();
+                    // 출근 시각 (이미 filter에서 출근 상태 확인됨)
+                    AttendancePresenceBoard.AttendanceMark lastAttendance =
+                        attendancePresenceBoard.today(artist.getAgency().getAgencyNo()).getLastAttendance(artist.getMemberNo());
+                    java.time.LocalDateTime clockInTime = lastAttendance == null ? null : lastAttendance.attendanceTime();
 
                     return new com.kh.magamGG.domain.manager.dto.response.AssignedArtistResponse(
                             artist.getMemberNo(),
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,10 @@ public interface ArtistAssignmentRepository extends JpaRepository<ArtistAssignme
     @Query("SELECT a FROM ArtistAssignment a JOIN FETCH a.manager JOIN FETCH a.artist WHERE a.artist.memberNo = :artistMemberNo")
     Optional<ArtistAssignment> findByArtistMemberNo(@Param("artistMemberNo") Long artistMemberNo);
 
+    /** 여러 작가의 배정 일괄 조회 (담당자 회원까지 함께 조회) */
+    @Query("SELECT a FROM ArtistAssignment a JOIN FETCH a.manager mg JOIN FETCH mg.member WHERE a.artist.memberNo IN :artistMemberNos")
+    List<ArtistAssignment> findByArtistMemberNoIn(@Param("artistMemberNos") Collection<Long> artistMemberNos);
+
     /** 특정 담당자(MANAGER_NO)에게 배정된 작가 목록 — ARTIST_ASSIGNMENT.MANAGER_NO = :managerNo 인 행의 작가들 */
     @Query("SELECT a FROM ArtistAssignment a JOIN FETCH a.artist WHERE a.manager.managerNo = :managerNo")
     List<ArtistAssignment> findByManagerNo(@Param("managerNo") Long managerNo);
@@ -365,7 +365,8 @@ public class MemberServiceImpl implements MemberService {
      * 출근만 있으면 근무중, 퇴근이 마지막이면 작업 종료, 기록 없으면 작업 시작전.
      */
     private String resolveTodayWorkStatus(Long memberNo, LocalDate today) {
-        List<Attendance> list = attendanceRepository.findTodayLastAttendanceByMemberNo(memberNo, today);
+        List<Attendance> list = attendanceRepository.findTodayLastAttendanceByMemberNo(
+                memberNo, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
         if (list == null || list.isEmpty()) {
             return "작업 시작전";
         }
@@ -792,7 +793,8 @@ public class MemberServiceImpl implements MemberService {
         List<WorkingArtistResponse> result = assignments.stream()
             .map(ArtistAssignment::getArtist)  // ARTIST_MEMBER_NO 해당 회원
             .map(artist -> {
-                List<Attendance> todayAttendances = attendanceRepository.findTodayLastAttendanceByMemberNo(artist.getMemberNo(), today);
+                List<Attendance> todayAttendances = attendanceRepository.findTodayLastAttendanceByMemberNo(
+                    artist.getMemberNo(), today.atStartOfDay(), today.plusDays(1).atStartOfDay());
                 if (todayAttendances.isEmpty()) {
                     log.trace("작가 memberNo={} 오늘 출퇴근 기록 없음", artist.getMemberNo());
                     return null;
@@ -3,6 +3,7 @@ package com.kh.magamGG.domain.notification.controller;
 import com.kh.magamGG.domain.notification.dto.response.NotificationResponse;
 import com.kh.magamGG.domain.notification.entity.Notification;
 import com.kh.magamGG.domain.notification.service.NotificationService;
+import com.kh.magamGG.global.security.JwtPrincipal;
 import com.kh.magamGG.global.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,10 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -43,25 +41,16 @@ public class NotificationController {
         if (token == null || token.isBlank()) {
             throw new IllegalArgumentException("token이 필요합니다.");
         }
-        if (!jwtTokenProvider.validateToken(token)) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
-        Long memberNo = jwtTokenProvider.getMemberNoFromToken(token);
+        Long memberNo = jwtTokenProvider.parseAccessToken(token)
+                .map(JwtPrincipal::getMemberNo)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 토큰입니다."));
 
         // EmitterRepository에 등록된 emitter 사용 (미등록 시 pushToClient에서 대상 없음)
+        // 하트비트는 SseHeartbeatService가 등록된 전체 emitter에 일괄 전송
         SseEmitter emitter = notificationService.subscribe(memberNo, lastEventId);
         emitter.onCompletion(() -> log.debug("SSE 구독 종료: memberNo={}", memberNo));
         emitter.onTimeout(() -> log.debug("SSE 타임아웃: memberNo={}", memberNo));
 
-        Executors.newSingleThreadScheduledExecutor()
-                .scheduleAtFixedRate(() -> {
-                    try {
-                        emitter.send(SseEmitter.event().comment("heartbeat"));
-                    } catch (IOException e) {
-                        emitter.completeWithError(e);
-                    }
-                }, 15, 15, TimeUnit.SECONDS);
-
         return emitter;
     }
 
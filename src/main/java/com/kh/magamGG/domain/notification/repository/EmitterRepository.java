@@ -3,37 +3,63 @@ package com.kh.magamGG.domain.notification.repository;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * SSE Emitter 메모리 저장소.
- * memberNo_timestamp 형태로 다중 기기 접속 지원.
+ * memberNo → (emitterId → Emitter) 2단계 구조로 다중 기기 접속 지원.
+ * emitterId는 memberNo_timestamp 형태.
  */
 @Repository
 public class EmitterRepository {
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
 
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
+    /** 현재 연결 수 (전체 기기 기준) */
+    private final AtomicLong connectionCount = new AtomicLong();
+
+    public SseEmitter save(Long memberNo, String emitterId, SseEmitter sseEmitter) {
+        // 회원 단위 compute 로 기기 맵 생성/삭제와 연결 수 갱신을 원자적으로 처리
+        emitters.compute(memberNo, (key, devices) -> {
+            Map<String, SseEmitter> target = devices != null ? devices : new ConcurrentHashMap<>();
+            if (target.put(emitterId, sseEmitter) == null) {
+                connectionCount.incrementAndGet();
+            }
+            return target;
+        });
         return sseEmitter;
     }
 
-    public void deleteById(String emitterId) {
-        emitters.remove(emitterId);
+    public void deleteById(Long memberNo, String emitterId) {
+        emitters.computeIfPresent(memberNo, (key, devices) -> {
+            if (devices.remove(emitterId) != null) {
+                connectionCount.decrementAndGet();
+            }
+            return devices.isEmpty() ? null : devices;
+        });
     }
 
     /**
-     * memberNo에 해당하는 모든 Emitter 조회 (다중 기기 접속 시)
+     * memberNo에 해당하는 모든 Emitter 조회 (다중 기기 접속 시). 복사 없이 읽기 전용 뷰 반환.
      */
-    public Map<String, SseEmitter> findAllEmitterStartWithByMemberNo(String memberNo) {
-        Map<String, SseEmitter> result = new ConcurrentHashMap<>();
-        emitters.forEach((key, emitter) -> {
-            if (key.startsWith(memberNo + "_")) {
-                result.put(key, emitter);
-            }
-        });
-        return result;
+    public Map<String, SseEmitter> findAllByMemberNo(Long memberNo) {
+        Map<String, SseEmitter> devices = emitters.get(memberNo);
+        return devices != null ? Collections.unmodifiableMap(devices) : Collections.emptyMap();
+    }
+
+    /**
+     * 회원별 Emitter 순회 (하트비트 등 전체 점검용). 순회 중 삭제해도 안전.
+     */
+    public void forEachMember(BiConsumer<Long, Map<String, SseEmitter>> action) {
+        emitters.forEach((memberNo, devices) -> action.accept(memberNo, Collections.unmodifiableMap(devices)));
+    }
+
+    /** 현재 연결 수 (전체 기기) */
+    public long countConnections() {
+        return connectionCount.get();
     }
 }
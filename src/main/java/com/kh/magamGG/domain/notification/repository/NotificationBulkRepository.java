@@ -0,0 +1,67 @@
+package com.kh.magamGG.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다수 회원 대상 알림 일괄 INSERT (JDBC 배치).
+ * 현재 트랜잭션의 커넥션을 그대로 사용하므로 호출 측 트랜잭션과 함께 커밋/롤백된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notification " +
+            "(member_no, notification_name, notification_text, notification_type, notification_status, notification_created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 내용의 알림을 회원별로 한 건씩 일괄 저장
+     * @return 생성된 notificationNo 목록 (memberNos 순서와 동일)
+     */
+    public List<Long> insertAll(List<Long> memberNos, String name, String text, String type,
+                                String status, LocalDateTime createdAt) {
+        if (memberNos.isEmpty()) {
+            return List.of();
+        }
+        Timestamp createdAtTs = Timestamp.valueOf(createdAt);
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Long memberNo : memberNos) {
+                    ps.setLong(1, memberNo);
+                    ps.setString(2, name);
+                    ps.setString(3, text);
+                    ps.setString(4, type);
+                    ps.setString(5, status);
+                    ps.setTimestamp(6, createdAtTs);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> keys = new ArrayList<>(memberNos.size());
+                try (ResultSet rs = ps.getGeneratedKeys()) {
+                    while (rs.next()) {
+                        keys.add(rs.getLong(1));
+                    }
+                }
+                if (keys.size() != memberNos.size()) {
+                    throw new IllegalStateException("알림 일괄 INSERT 생성 키 수 불일치: expected="
+                            + memberNos.size() + ", actual=" + keys.size());
+                }
+                return keys;
+            }
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.kh.magamGG.domain.notification.repository;
+
+import com.kh.magamGG.domain.notification.dto.response.NotificationResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SSE 재연결용 회원별 알림 재전송 버퍼 (최근 N건 링 버퍼).
+ * 이벤트 id = notificationNo 이므로 Last-Event-ID 이후 알림만 골라 재전송한다.
+ * 버퍼가 보장하지 못하는 구간(버퍼 생성 이전, 밀려난 알림)은 empty 반환 → 호출 측에서 DB 조회로 대체.
+ */
+@Repository
+public class NotificationReplayBuffer {
+
+    private final int capacity;
+
+    private final Map<Long, MemberBuffer> buffers = new ConcurrentHashMap<>();
+
+    public NotificationReplayBuffer(@Value("${notification.sse.replay-buffer-size:50}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 알림 적재 (가득 차면 가장 오래된 알림이 밀려남)
+     */
+    public void append(Long memberNo, NotificationResponse response) {
+        buffers.computeIfAbsent(memberNo, k -> new MemberBuffer(response.getNotificationNo() - 1))
+                .append(response, capacity);
+    }
+
+    /**
+     * lastEventId 이후 알림 (오래된 순)
+     * @return 버퍼만으로 누락 없이 재전송할 수 없으면 empty
+     */
+    public Optional<List<NotificationResponse>> findAfter(Long memberNo, long lastEventId) {
+        MemberBuffer buffer = buffers.get(memberNo);
+        if (buffer == null) {
+            return Optional.empty();
+        }
+        return buffer.findAfter(lastEventId);
+    }
+
+    private static final class MemberBuffer {
+
+        private final Deque<NotificationResponse> events = new ArrayDeque<>();
+
+        /** 이 번호 이하 알림은 버퍼에 없을 수 있음 (버퍼 생성 이전 또는 밀려난 알림) */
+        private long coveredAfter;
+
+        private MemberBuffer(long coveredAfter) {
+            this.coveredAfter = coveredAfter;
+        }
+
+        synchronized void append(NotificationResponse response, int capacity) {
+            events.addLast(response);
+            while (events.size() > capacity) {
+                coveredAfter = Math.max(coveredAfter, events.removeFirst().getNotificationNo());
+            }
+        }
+
+        synchronized Optional<List<NotificationResponse>> findAfter(long lastEventId) {
+            if (lastEventId < coveredAfter) {
+                return Optional.empty();
+            }
+            List<NotificationResponse> missed = new ArrayList<>();
+            for (NotificationResponse event : events) {
+                if (event.getNotificationNo() > lastEventId) {
+                    missed.add(event);
+                }
+            }
+            // 동시 생성된 알림은 적재 순서가 뒤바뀔 수 있으므로 번호순 정렬
+            missed.sort(Comparator.comparing(NotificationResponse::getNotificationNo));
+            return Optional.of(missed);
+        }
+    }
+}
@@ -20,6 +20,16 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
            "ORDER BY n.notificationCreatedAt DESC")
     List<Notification> findByMemberNoWithMember(@Param("memberNo") Long memberNo);
     
+    /**
+     * 특정 회원의 notificationNo 이후 알림 조회 (SSE 재연결 시 누락분 재전송용, 오래된 순)
+     */
+    @Query("SELECT n FROM Notification n " +
+           "JOIN FETCH n.member m " +
+           "WHERE m.memberNo = :memberNo AND n.notificationNo > :notificationNo " +
+           "ORDER BY n.notificationNo ASC")
+    List<Notification> findByMemberNoAndNotificationNoAfter(@Param("memberNo") Long memberNo,
+                                                            @Param("notificationNo") Long notificationNo);
+
     /**
      * 특정 회원의 읽지 않은 알림 목록 조회
      */
@@ -24,6 +24,14 @@ public interface NotificationService {
      * @param notification 전송할 알림
      */
     void pushToClient(Long memberNo, Notification notification);
+
+    /**
+     * 저장하지 않는 일회성 이벤트 Push (작업 진행 상황 등, 재연결 시 재전송 없음)
+     * @param memberNo 회원 번호
+     * @param eventName SSE 이벤트 이름
+     * @param data 전송할 데이터
+     */
+    void pushEvent(Long memberNo, String eventName, Object data);
     
     /**
      * 알림 생성
@@ -35,6 +43,16 @@ public interface NotificationService {
      */
     Notification createNotification(Long memberNo, String name, String text, String type);
     
+    /**
+     * 여러 회원에게 같은 알림 일괄 생성 (JDBC 배치 INSERT 1회, 커밋 후 SSE Push)
+     * @param memberNos 알림 받을 회원 번호 목록
+     * @param name 알림 제목
+     * @param text 알림 내용
+     * @param type 알림 타입
+     * @return 생성된 알림 수
+     */
+    int createNotifications(List<Long> memberNos, String name, String text, String type);
+
     /**
      * 에이전시 담당자들에게 알림 생성
      * @param agencyNo 에이전시 번호
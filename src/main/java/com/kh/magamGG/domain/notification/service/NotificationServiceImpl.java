@@ -5,6 +5,8 @@ import com.kh.magamGG.domain.member.repository.MemberRepository;
 import com.kh.magamGG.domain.notification.dto.response.NotificationResponse;
 import com.kh.magamGG.domain.notification.entity.Notification;
 import com.kh.magamGG.domain.notification.repository.EmitterRepository;
+import com.kh.magamGG.domain.notification.repository.NotificationBulkRepository;
+import com.kh.magamGG.domain.notification.repository.NotificationReplayBuffer;
 import com.kh.magamGG.domain.notification.repository.NotificationRepository;
 import com.kh.magamGG.global.exception.MemberNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -12,12 +14,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 알림 서비스 구현체
@@ -31,8 +37,10 @@ public class NotificationServiceImpl implements NotificationService {
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60; // 60분
 
     private final NotificationRepository notificationRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
     private final MemberRepository memberRepository;
     private final EmitterRepository emitterRepository;
+    private final NotificationReplayBuffer notificationReplayBuffer;
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = false)
@@ -75,41 +83,107 @@ public class NotificationServiceImpl implements NotificationService {
     public SseEmitter subscribe(Long memberNo, String lastEventId) {
         String emitterId = memberNo + "_" + System.currentTimeMillis();
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitterRepository.save(emitterId, emitter);
+        emitterRepository.save(memberNo, emitterId, emitter);
 
-        emitter.onCompletion(() -> emitterRepository.deleteById(emitterId));
-        emitter.onTimeout(() -> emitterRepository.deleteById(emitterId));
+        emitter.onCompletion(() -> emitterRepository.deleteById(memberNo, emitterId));
+        emitter.onTimeout(() -> emitterRepository.deleteById(memberNo, emitterId));
+        emitter.onError(e -> emitterRepository.deleteById(memberNo, emitterId));
 
-        // 503 에러 방지용 더미 전송
-        sendToClient(emitter, emitterId, "EventStream Created. [memberNo=" + memberNo + "]");
+        // 503 에러 방지용 더미 전송 (id 미지정: 클라이언트의 Last-Event-ID 를 덮어쓰지 않음)
+        sendToClient(memberNo, emitter, emitterId, "EventStream Created. [memberNo=" + memberNo + "]");
 
-        log.info("SSE 구독: memberNo={}, emitterId={}", memberNo, emitterId);
+        // 재연결이면 Last-Event-ID 이후 누락 알림만 재전송
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            replayMissedEvents(memberNo, emitterId, emitter, lastEventId);
+        }
+
+        log.info("SSE 구독: memberNo={}, emitterId={}, 전체 연결 수={}",
+                memberNo, emitterId, emitterRepository.countConnections());
         return emitter;
     }
 
     @Override
     public void pushToClient(Long memberNo, Notification notification) {
-        Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterStartWithByMemberNo(String.valueOf(memberNo));
-        NotificationResponse response = NotificationResponse.fromEntity(notification);
+        pushResponse(memberNo, NotificationResponse.fromEntity(notification));
+    }
 
-        emitters.forEach((id, emitter) -> {
+    @Override
+    public void pushEvent(Long memberNo, String eventName, Object data) {
+        emitterRepository.findAllByMemberNo(memberNo).forEach((id, emitter) -> {
             try {
-                emitter.send(SseEmitter.event()
-                        .id(id)
-                        .name("sse")
-                        .data(response));
-            } catch (IOException e) {
-                emitterRepository.deleteById(id);
-                log.error("SSE 전송 실패: emitterId={}", id, e);
+                emitter.send(SseEmitter.event().name(eventName).data(data));
+            } catch (IOException | IllegalStateException e) {
+                emitterRepository.deleteById(memberNo, id);
+                log.debug("SSE 이벤트 전송 실패: memberNo={}, emitterId={}, event={}", memberNo, id, eventName);
             }
         });
     }
 
-    private void sendToClient(SseEmitter emitter, String id, Object data) {
+    private void pushResponse(Long memberNo, NotificationResponse response) {
+        // 연결이 없어도 적재: 재연결 시 Last-Event-ID 기준으로 재전송
+        notificationReplayBuffer.append(memberNo, response);
+
+        Map<String, SseEmitter> emitters = emitterRepository.findAllByMemberNo(memberNo);
+        if (emitters.isEmpty()) {
+            return;
+        }
+
+        emitters.forEach((id, emitter) -> {
+            if (!sendNotification(memberNo, id, emitter, response)) {
+                emitterRepository.deleteById(memberNo, id);
+            }
+        });
+    }
+
+    private void replayMissedEvents(Long memberNo, String emitterId, SseEmitter emitter, String lastEventId) {
+        long lastNotificationNo;
+        try {
+            lastNotificationNo = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            // 이전 형식(memberNo_timestamp) id 는 무시
+            log.debug("재전송 생략, 알 수 없는 Last-Event-ID: memberNo={}, lastEventId={}", memberNo, lastEventId);
+            return;
+        }
+
+        List<NotificationResponse> missed = notificationReplayBuffer.findAfter(memberNo, lastNotificationNo)
+                .orElseGet(() -> notificationRepository.findByMemberNoAndNotificationNoAfter(memberNo, lastNotificationNo)
+                        .stream()
+                        .map(NotificationResponse::fromEntity)
+                        .collect(Collectors.toList()));
+
+        for (NotificationResponse response : missed) {
+            if (!sendNotification(memberNo, emitterId, emitter, response)) {
+                emitterRepository.deleteById(memberNo, emitterId);
+                return;
+            }
+        }
+        if (!missed.isEmpty()) {
+            log.info("SSE 누락 알림 재전송: memberNo={}, lastEventId={}, 건수={}", memberNo, lastNotificationNo, missed.size());
+        }
+    }
+
+    /**
+     * 알림 이벤트 전송 (이벤트 id = notificationNo)
+     * @return 전송 실패 시 false
+     */
+    private boolean sendNotification(Long memberNo, String emitterId, SseEmitter emitter, NotificationResponse response) {
         try {
-            emitter.send(SseEmitter.event().id(id).name("sse").data(data));
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(response.getNotificationNo()))
+                    .name("sse")
+                    .data(response));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.error("SSE 전송 실패: memberNo={}, emitterId={}", memberNo, emitterId, e);
+            return false;
+        }
+    }
+
+    private void sendToClient(Long memberNo, SseEmitter emitter, String id, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name("sse").data(data));
         } catch (IOException e) {
-            emitterRepository.deleteById(id);
+            emitterRepository.deleteById(memberNo, id);
             log.error("SSE 연결 오류: emitterId={}", id, e);
         }
     }
@@ -139,14 +213,58 @@ public class NotificationServiceImpl implements NotificationService {
             return;
         }
 
-        // 각 담당자에게 알림 생성
-        for (Member manager : managers) {
-            createNotification(manager.getMemberNo(), name, text, type);
-        }
+        // 담당자 전원 알림을 배치 INSERT 한 번으로 생성
+        List<Long> managerNos = managers.stream()
+                .map(Member::getMemberNo)
+                .collect(Collectors.toList());
+        createNotifications(managerNos, name, text, type);
 
         log.info("에이전시 {} 담당자 {}명에게 알림 전송 완료 (타입: {})", agencyNo, managers.size(), type);
     }
 
+    @Override
+    @Transactional
+    public int createNotifications(List<Long> memberNos, String name, String text, String type) {
+        if (memberNos == null || memberNos.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Long> notificationNos = notificationBulkRepository.insertAll(
+                memberNos, name, text, type, "Y", createdAt); // Y: 읽지 않음
+
+        List<NotificationResponse> responses = new ArrayList<>(memberNos.size());
+        for (int i = 0; i < memberNos.size(); i++) {
+            responses.add(NotificationResponse.builder()
+                    .notificationNo(notificationNos.get(i))
+                    .memberNo(memberNos.get(i))
+                    .notificationName(name)
+                    .notificationText(text)
+                    .notificationType(type)
+                    .notificationStatus("Y")
+                    .notificationCreatedAt(createdAt)
+                    .isRead(false)
+                    .build());
+        }
+        log.info("알림 일괄 INSERT 완료: 대상 {}명, 타입={}", memberNos.size(), type);
+
+        // 커밋된 알림만 Push (롤백 시 전송하지 않음)
+        runAfterCommit(() -> responses.forEach(response -> pushResponse(response.getMemberNo(), response)));
+        return memberNos.size();
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
     @Override
     public List<Notification> getNotificationsByMember(Long memberNo) {
         // JOIN FETCH로 Member 정보를 함께 조회하여 N+1 방지
@@ -0,0 +1,64 @@
+package com.kh.magamGG.domain.notification.service;
+
+import com.kh.magamGG.domain.notification.repository.EmitterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 공용 하트비트
+ * - 구독마다 스레드를 만들지 않고, 스케줄러 한 곳에서 등록된 전체 emitter에 주석(heartbeat) 이벤트 전송
+ * - 전송 실패한 emitter는 저장소에서 제거 후 종료 처리
+ * - 제거가 있었던 주기마다 제거 수·누적 제거 수·현재 연결 수를 로그로 남김 (별도 메트릭 레지스트리 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SseHeartbeatService {
+
+    private final EmitterRepository emitterRepository;
+
+    /** 하트비트 전송 실패로 제거된 emitter 누적 수 */
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    /**
+     * 등록된 전체 emitter에 하트비트 전송 (기본 15초 간격)
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        if (emitterRepository.countConnections() == 0) {
+            return;
+        }
+        long evictedBefore = evictedCount.get();
+        emitterRepository.forEachMember((memberNo, devices) ->
+                devices.forEach((emitterId, emitter) -> {
+                    try {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } catch (IOException | IllegalStateException e) {
+                        // 끊긴 연결(IOException) 또는 이미 완료된 emitter(IllegalStateException)
+                        evict(memberNo, emitterId, emitter);
+                    }
+                }));
+
+        long evicted = evictedCount.get() - evictedBefore;
+        if (evicted > 0) {
+            log.info("SSE 하트비트: 끊긴 연결 {}개 제거 (누적 {}개), 현재 연결 수={}",
+                    evicted, evictedCount.get(), emitterRepository.countConnections());
+        }
+    }
+
+    private void evict(Long memberNo, String emitterId, SseEmitter emitter) {
+        emitterRepository.deleteById(memberNo, emitterId);
+        evictedCount.incrementAndGet();
+        try {
+            emitter.complete();
+        } catch (Exception ignored) {
+            // 이미 종료된 연결
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.kh.magamGG.domain.portfolio.dto.*;
 import com.kh.magamGG.domain.portfolio.entity.Portfolio;
 import com.kh.magamGG.domain.portfolio.repository.PortfolioRepository;
 import com.kh.magamGG.domain.portfolio.service.NotionPortfolioAuthService;
+import com.kh.magamGG.domain.portfolio.service.PortfolioExtractJobService;
 import com.kh.magamGG.domain.portfolio.service.PortfolioExtractService;
 import com.kh.magamGG.domain.portfolio.service.PortfolioService;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +28,7 @@ import java.util.Map;
 public class PortfolioController {
 
     private final PortfolioExtractService portfolioExtractService;
+    private final PortfolioExtractJobService portfolioExtractJobService;
     private final PortfolioService portfolioService;
     private final NotionPortfolioAuthService notionPortfolioAuthService;
     private final PortfolioRepository portfolioRepository;
@@ -50,6 +53,40 @@ public class PortfolioController {
         return ResponseEntity.ok(Map.of("success", true, "data", extracted != null ? extracted : Map.of()));
     }
 
+    // ---- 비동기 추출 (작업 제출 → SSE portfolio-extract 이벤트로 진행 상황 → 결과 조회) ----
+    @PostMapping(value = "/extract/jobs/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PortfolioExtractJobResponse> submitImageExtractJob(
+            @RequestHeader("X-Member-No") Long memberNo,
+            @RequestParam("image") MultipartFile image) throws IOException {
+        if (image == null || image.isEmpty()) {
+            throw new IllegalArgumentException("포트폴리오 이미지 파일이 필요합니다.");
+        }
+        String mediaType = image.getContentType() != null && !image.getContentType().isBlank()
+                ? image.getContentType() : MediaType.IMAGE_JPEG_VALUE;
+        // 업로드 임시 파일은 요청 종료 시 삭제되므로 바이트를 먼저 읽어 작업에 전달
+        PortfolioExtractJobResponse job = portfolioExtractJobService.submitImage(memberNo, image.getBytes(), mediaType);
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @PostMapping(value = "/extract/jobs/from-page-screenshot", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PortfolioExtractJobResponse> submitPageScreenshotExtractJob(
+            @RequestHeader("X-Member-No") Long memberNo,
+            @RequestBody Map<String, Object> body) {
+        String pageUrl = body != null && body.get("pageUrl") != null ? body.get("pageUrl").toString() : null;
+        if (pageUrl == null || pageUrl.isBlank()) {
+            throw new IllegalArgumentException("pageUrl이 필요합니다.");
+        }
+        PortfolioExtractJobResponse job = portfolioExtractJobService.submitPageScreenshot(memberNo, pageUrl.trim());
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @GetMapping("/extract/jobs/{jobId}")
+    public ResponseEntity<PortfolioExtractJobResponse> getExtractJob(
+            @RequestHeader("X-Member-No") Long memberNo,
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(portfolioExtractJobService.getJob(memberNo, jobId));
+    }
+
     // ---- 저장 (추출 결과 → 규격 저장) ----
     @PostMapping(value = "/from-extract", consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<PortfolioResponse> saveFromExtract(
@@ -7,6 +7,7 @@ import java.util.List;
 
 /**
  * 포트폴리오 이미지/URL에서 AI가 추출한 구조화 데이터
+ * failedChunks: 스크린샷 청크 추출에서 실패·시간 초과로 빠진 청크 수 (0 또는 null이면 전체 반영)
  */
 public record PortfolioExtractDto(
         @JsonProperty("name") String name,
@@ -17,5 +18,12 @@ public record PortfolioExtractDto(
         @JsonProperty("careerItems") @JsonAlias({"career_items", "careerItems"}) List<String> careerItems,
         @JsonProperty("career") String career,
         @JsonProperty("workStyle") @JsonAlias({"work_style", "workStyle"}) List<String> workStyle,
-        @JsonProperty("skills") List<String> skills
-) {}
+        @JsonProperty("skills") List<String> skills,
+        @JsonProperty("failedChunks") Integer failedChunks
+) {
+
+    /** 빠진 청크 없이 전체가 반영된 결과인지 */
+    public boolean isComplete() {
+        return failedChunks == null || failedChunks == 0;
+    }
+}
@@ -0,0 +1,32 @@
+package com.kh.magamGG.domain.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포트폴리오 비동기 추출 작업 상태 (SSE portfolio-extract 이벤트 / 작업 조회 응답)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PortfolioExtractJobResponse {
+
+    private String jobId;
+    /** QUEUED, RUNNING, DONE, FAILED */
+    private String status;
+    /** 마지막 진행 단계 (CAPTURED, CACHED, TEXT_EXTRACTED, CHUNK_EXTRACTED, MERGED) */
+    private String stage;
+    private int current;
+    private int total;
+    /** 추출 결과 (DONE일 때만, SSE 이벤트에는 포함하지 않음) */
+    private PortfolioExtractDto data;
+    /** 실패 사유 (FAILED일 때만) */
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,271 @@
+package com.kh.magamGG.domain.portfolio.service;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.LoadState;
+import com.microsoft.playwright.options.WaitUntilState;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 포트폴리오 페이지 캡처용 Playwright 브라우저 풀
+ * - Playwright + Chromium을 띄워 두고 재사용 (요청마다 브라우저 기동하던 비용 제거), 요청마다 BrowserContext만 새로 생성
+ * - 슬롯 하나는 한 번에 한 스레드만 사용 (Playwright 객체는 스레드 안전하지 않음) → 동시 캡처 수 = pool-size
+ * - max-uses 회 사용한 브라우저·연결이 끊긴 브라우저는 폐기 후 새로 기동, 오래 쓰지 않은 브라우저는 1분 주기 점검에서 종료
+ * - 첫 사용 시 기동하므로 Chromium 미설치 서버도 애플리케이션 기동에는 영향 없음
+ */
+@Component
+@Slf4j
+public class PlaywrightBrowserPool {
+
+    private static final int NAVIGATION_TIMEOUT_MS = 30_000;
+    private static final int DEFAULT_TIMEOUT_MS = 20_000;
+    /** 네트워크 유휴 대기 상한 (롱폴링 페이지는 유휴 상태가 오지 않으므로 넘기면 진행) */
+    private static final int NETWORK_IDLE_TIMEOUT_MS = 5_000;
+    /** DOM 안정(본문 길이·높이 변화 없음) 대기 상한 */
+    private static final int DOM_STABLE_TIMEOUT_MS = 8_000;
+
+    /**
+     * 본문 길이·페이지 높이·완료된 리소스 수가 연속 3회(200ms 간격) 같으면 안정으로 판단
+     * (리소스 수를 넣어 스크롤 후 lazy load 이미지·요청이 끝날 때까지 안정으로 보지 않음)
+     */
+    private static final String DOM_STABLE_SCRIPT = """
+        () => {
+          const body = document.body;
+          const snapshot = (body ? body.innerText.length + ':' + body.scrollHeight : '')
+              + ':' + performance.getEntriesByType('resource').length;
+          if (window.__captureLast === snapshot) {
+            window.__captureStable = (window.__captureStable || 0) + 1;
+            return window.__captureStable >= 3;
+          }
+          window.__captureLast = snapshot;
+          window.__captureStable = 0;
+          return false;
+        }
+        """;
+
+    /** 대기마다 안정 판단 상태를 초기화 (이전 대기에서 남은 값으로 바로 통과하지 않도록) */
+    private static final String DOM_STABLE_RESET_SCRIPT = """
+        () => {
+          window.__captureLast = undefined;
+          window.__captureStable = 0;
+        }
+        """;
+
+    /**
+     * 화면 높이 단위로 끝까지 스크롤 (lazy load 트리거). 프레임 렌더링마다 한 칸씩 내린 뒤 맨 위로 복귀
+     */
+    private static final String SCROLL_THROUGH_SCRIPT = """
+        async () => {
+          const step = Math.max(window.innerHeight, 800);
+          for (let y = 0; y < document.body.scrollHeight; y += step) {
+            window.scrollTo(0, y);
+            await new Promise(resolve => requestAnimationFrame(() => setTimeout(resolve, 50)));
+          }
+          window.scrollTo(0, 0);
+        }
+        """;
+
+    private final int maxUses;
+    private final long idleTimeoutMillis;
+    private final long acquireTimeoutSeconds;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<BrowserSlot> idleSlots = new LinkedBlockingDeque<>();
+    /** 기동된 모든 슬롯 (사용 중 포함, 종료 시 함께 정리) */
+    private final Set<BrowserSlot> allSlots = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    public PlaywrightBrowserPool(@Value("${portfolio.browser.pool-size:2}") int poolSize,
+                                 @Value("${portfolio.browser.max-uses:50}") int maxUses,
+                                 @Value("${portfolio.browser.idle-timeout-minutes:10}") long idleTimeoutMinutes,
+                                 @Value("${portfolio.browser.acquire-timeout-seconds:30}") long acquireTimeoutSeconds) {
+        this.maxUses = maxUses;
+        this.idleTimeoutMillis = idleTimeoutMinutes * 60_000L;
+        this.acquireTimeoutSeconds = acquireTimeoutSeconds;
+        this.permits = new Semaphore(Math.max(1, poolSize), true);
+    }
+
+    /**
+     * 새 BrowserContext에서 페이지를 열어 로딩이 끝날 때까지 기다린 뒤 action 실행
+     * (로드 → 네트워크 유휴 → DOM 안정 → 스크롤로 lazy load → DOM 안정 재확인)
+     */
+    public <T> T withLoadedPage(String pageUrl, Function<Page, T> action) {
+        BrowserSlot slot = acquire();
+        boolean healthy = true;
+        try (BrowserContext context = slot.browser.newContext()) {
+            Page page = context.newPage();
+            page.setDefaultNavigationTimeout(NAVIGATION_TIMEOUT_MS);
+            page.setDefaultTimeout(DEFAULT_TIMEOUT_MS);
+            page.navigate(pageUrl, new Page.NavigateOptions().setWaitUntil(WaitUntilState.LOAD));
+            waitForNetworkIdle(page);
+            waitForDomStable(page);
+            try {
+                page.evaluate(SCROLL_THROUGH_SCRIPT);
+                // 로드 상태는 이미 NETWORKIDLE이라 다시 기다려도 즉시 반환 → 스크롤 이후의 새 안정 구간만 확인
+                waitForDomStable(page);
+            } catch (PlaywrightException e) {
+                log.debug("스크롤 스킵: {}", e.getMessage());
+            }
+            return action.apply(page);
+        } catch (RuntimeException e) {
+            healthy = slot.browser.isConnected();
+            throw e;
+        } finally {
+            release(slot, healthy);
+        }
+    }
+
+    private void waitForNetworkIdle(Page page) {
+        try {
+            page.waitForLoadState(LoadState.NETWORKIDLE,
+                    new Page.WaitForLoadStateOptions().setTimeout(NETWORK_IDLE_TIMEOUT_MS));
+        } catch (TimeoutError e) {
+            log.debug("네트워크 유휴 대기 시간 초과, DOM 안정 여부로 판단");
+        }
+    }
+
+    /** 상태 초기화 후 첫 폴링에서 기준값을 잡고, 이후 연속 3회 변화가 없어야 통과 (최소 약 600ms) */
+    private void waitForDomStable(Page page) {
+        try {
+            page.evaluate(DOM_STABLE_RESET_SCRIPT);
+            page.waitForFunction(DOM_STABLE_SCRIPT, null,
+                    new Page.WaitForFunctionOptions().setPollingInterval(200).setTimeout(DOM_STABLE_TIMEOUT_MS));
+        } catch (TimeoutError e) {
+            log.debug("DOM 안정 대기 시간 초과, 현재 상태로 진행");
+        }
+    }
+
+    private BrowserSlot acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutSeconds, TimeUnit.SECONDS)) {
+                throw new RuntimeException("페이지 캡처 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("페이지 캡처 대기가 중단되었습니다.", e);
+        }
+        try {
+            if (closed) {
+                throw new RuntimeException("페이지 캡처를 사용할 수 없습니다. (서버 종료 중)");
+            }
+            BrowserSlot slot;
+            while ((slot = idleSlots.pollFirst()) != null) {
+                if (slot.browser.isConnected() && slot.uses < maxUses) {
+                    slot.uses++;
+                    return slot;
+                }
+                closeSlot(slot);
+            }
+            slot = BrowserSlot.launch();
+            allSlots.add(slot);
+            slot.uses++;
+            return slot;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(BrowserSlot slot, boolean healthy) {
+        try {
+            if (!closed && healthy && slot.browser.isConnected() && slot.uses < maxUses) {
+                slot.lastUsedAt = System.currentTimeMillis();
+                // 최근 사용 슬롯을 앞에 두어 자주 쓰는 브라우저만 따뜻하게 유지
+                idleSlots.offerFirst(slot);
+            } else {
+                log.info("Playwright 브라우저 재기동 대상: uses={}, connected={}", slot.uses, slot.browser.isConnected());
+                closeSlot(slot);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 유휴 브라우저 점검 (1분 주기): 연결 끊김·장시간 미사용 브라우저 종료
+     * 유휴 목록을 비우지 않고 대상만 제자리에서 제거 (점검 중 acquire가 빈 목록을 보고 브라우저를 더 띄우지 않도록).
+     * remove가 true인 슬롯만 닫으므로 그 사이 acquire가 가져간 슬롯은 건드리지 않음
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void checkIdleBrowsers() {
+        long now = System.currentTimeMillis();
+        for (BrowserSlot slot : idleSlots) {
+            if ((!slot.browser.isConnected() || now - slot.lastUsedAt > idleTimeoutMillis) && idleSlots.remove(slot)) {
+                closeSlot(slot);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 사용 중인 슬롯까지 모두 닫음 (Chromium 프로세스가 남지 않도록)
+     */
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        idleSlots.clear();
+        for (BrowserSlot slot : allSlots) {
+            closeSlot(slot);
+        }
+    }
+
+    private void closeSlot(BrowserSlot slot) {
+        allSlots.remove(slot);
+        slot.close();
+    }
+
+    /** Playwright 인스턴스 + Chromium 한 쌍 (한 번에 한 스레드만 사용) */
+    private static final class BrowserSlot {
+
+        private final Playwright playwright;
+        private final Browser browser;
+        private int uses;
+        private long lastUsedAt = System.currentTimeMillis();
+
+        private BrowserSlot(Playwright playwright, Browser browser) {
+            this.playwright = playwright;
+            this.browser = browser;
+        }
+
+        static BrowserSlot launch() {
+            Playwright playwright = Playwright.create();
+            try {
+                Browser browser = playwright.chromium().launch(
+                        new BrowserType.LaunchOptions().setArgs(List.of("--disable-http2")));
+                log.info("Playwright 브라우저 기동");
+                return new BrowserSlot(playwright, browser);
+            } catch (RuntimeException e) {
+                playwright.close();
+                throw e;
+            }
+        }
+
+        void close() {
+            try {
+                browser.close();
+            } catch (Exception e) {
+                log.debug("브라우저 종료 실패: {}", e.getMessage());
+            }
+            try {
+                playwright.close();
+            } catch (Exception e) {
+                log.debug("Playwright 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.kh.magamGG.domain.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kh.magamGG.domain.portfolio.dto.PortfolioExtractDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포트폴리오 추출 결과 캐시 (Valkey, 내용 해시 키)
+ * - 이미지: 업로드 원본 바이트 SHA-256 → 같은 파일 재업로드 시 리사이즈·청크·LLM 생략
+ * - URL: 정규화 URL + 가져온 본문 텍스트 SHA-256 → 페이지 내용이 바뀌면 자동으로 새로 추출
+ * - URL 스크린샷(Vision 폴백): 정규화 URL + 스크린샷 바이트 SHA-256 → 텍스트가 거의 없는 이미지 위주 페이지도 화면이 바뀌면 새로 추출
+ * - 실패·시간 초과 청크가 빠진 부분 결과(isComplete=false)는 저장하지 않음
+ * - TTL: portfolio.extract.cache-ttl-hours (기본 24시간)
+ * 캐시 서버 장애 시 조회는 미스, 저장은 건너뜀 (추출 자체는 계속 동작)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioExtractCache {
+
+    /** 프롬프트·병합 규칙이 바뀌면 버전을 올려 이전 결과 무시 */
+    private static final String KEY_PREFIX = "PE:v1:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${portfolio.extract.cache-ttl-hours:24}")
+    private long ttlHours;
+
+    public String imageKey(byte[] imageBytes) {
+        return KEY_PREFIX + "IMG:" + sha256(imageBytes);
+    }
+
+    public String pageKey(String pageUrl, String pageText) {
+        String content = normalizeUrl(pageUrl) + "\n" + (pageText != null ? pageText.trim() : "");
+        return KEY_PREFIX + "URL:" + sha256(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String screenshotKey(String pageUrl, byte[] screenshot) {
+        byte[] url = (normalizeUrl(pageUrl) + "\n").getBytes(StandardCharsets.UTF_8);
+        byte[] content = new byte[url.length + screenshot.length];
+        System.arraycopy(url, 0, content, 0, url.length);
+        System.arraycopy(screenshot, 0, content, url.length, screenshot.length);
+        return KEY_PREFIX + "SHOT:" + sha256(content);
+    }
+
+    public Optional<PortfolioExtractDto> get(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json == null) {
+                return Optional.empty();
+            }
+            log.info("포트폴리오 추출 캐시 적중: key={}", key);
+            return Optional.of(objectMapper.readValue(json, PortfolioExtractDto.class));
+        } catch (Exception e) {
+            log.warn("포트폴리오 추출 캐시 조회 실패: key={}, error={}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(String key, PortfolioExtractDto dto) {
+        if (dto == null || !dto.isComplete()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(dto), ttlHours, TimeUnit.HOURS);
+        } catch (Exception e) {
+            log.warn("포트폴리오 추출 캐시 저장 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    /** scheme·host 소문자, fragment 제거, 경로 끝 '/' 제거 */
+    private static String normalizeUrl(String pageUrl) {
+        String trimmed = pageUrl.trim();
+        try {
+            URI uri = URI.create(trimmed);
+            String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : "";
+            String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : "";
+            String port = uri.getPort() >= 0 ? ":" + uri.getPort() : "";
+            String path = uri.getRawPath() != null ? uri.getRawPath() : "";
+            if (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            String query = uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "";
+            return scheme + "://" + host + port + path + query;
+        } catch (IllegalArgumentException e) {
+            return trimmed;
+        }
+    }
+
+    private static String sha256(byte[] input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(input));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("포트폴리오 캐시 키 생성 실패", e);
+        }
+    }
+}
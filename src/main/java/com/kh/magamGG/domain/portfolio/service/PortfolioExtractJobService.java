@@ -0,0 +1,185 @@
+package com.kh.magamGG.domain.portfolio.service;
+
+import com.kh.magamGG.domain.notification.service.NotificationService;
+import com.kh.magamGG.domain.portfolio.dto.PortfolioExtractDto;
+import com.kh.magamGG.domain.portfolio.dto.PortfolioExtractJobResponse;
+import com.kh.magamGG.global.exception.LlmBusyException;
+import com.kh.magamGG.global.exception.PortfolioExtractJobNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 포트폴리오 비동기 추출 작업
+ * - 제출 즉시 jobId 반환, 추출은 전용 작업 스레드(job-workers건, 대기 job-queue-capacity건)에서 실행
+ * - 진행 상황은 기존 알림 SSE 채널로 portfolio-extract 이벤트 전송 (저장·재전송 없음)
+ * - 결과는 GET /api/portfolio/extract/jobs/{jobId}로 조회, 끝난 작업은 job-retention-minutes 후 정리
+ */
+@Service
+@Slf4j
+public class PortfolioExtractJobService {
+
+    private static final String SSE_EVENT_NAME = "portfolio-extract";
+
+    private final PortfolioExtractService portfolioExtractService;
+    private final NotificationService notificationService;
+    private final ThreadPoolExecutor executor;
+    private final long retentionMillis;
+
+    private final Map<String, ExtractJob> jobs = new ConcurrentHashMap<>();
+
+    public PortfolioExtractJobService(PortfolioExtractService portfolioExtractService,
+                                      NotificationService notificationService,
+                                      @Value("${portfolio.extract.job-workers:2}") int workers,
+                                      @Value("${portfolio.extract.job-queue-capacity:20}") int queueCapacity,
+                                      @Value("${portfolio.extract.job-retention-minutes:30}") long retentionMinutes) {
+        this.portfolioExtractService = portfolioExtractService;
+        this.notificationService = notificationService;
+        this.retentionMillis = retentionMinutes * 60_000L;
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "portfolio-job-" + threadNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /** 이미지 추출 작업 제출 (요청 스레드에서 읽어 둔 바이트 사용) */
+    public PortfolioExtractJobResponse submitImage(Long memberNo, byte[] imageBytes, String mediaType) {
+        return submit(memberNo, progress -> portfolioExtractService.extractFromImage(imageBytes, mediaType, progress));
+    }
+
+    /** URL 캡처 추출 작업 제출 */
+    public PortfolioExtractJobResponse submitPageScreenshot(Long memberNo, String pageUrl) {
+        return submit(memberNo, progress -> portfolioExtractService.extractFromPageScreenshot(pageUrl, progress));
+    }
+
+    /**
+     * 작업 상태·결과 조회 (본인 작업만, 없거나 정리된 작업·남의 작업은 404)
+     */
+    public PortfolioExtractJobResponse getJob(Long memberNo, String jobId) {
+        ExtractJob job = jobs.get(jobId);
+        if (job == null || !job.memberNo.equals(memberNo)) {
+            throw new PortfolioExtractJobNotFoundException("추출 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return job.toResponse(true);
+    }
+
+    private PortfolioExtractJobResponse submit(Long memberNo, Function<PortfolioExtractProgress, PortfolioExtractDto> work) {
+        ExtractJob job = new ExtractJob(UUID.randomUUID().toString(), memberNo);
+        jobs.put(job.jobId, job);
+        try {
+            executor.execute(() -> run(job, work));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.jobId);
+            throw new LlmBusyException("포트폴리오 추출 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        log.info("포트폴리오 추출 작업 등록: jobId={}, memberNo={}, 대기={}", job.jobId, memberNo, executor.getQueue().size());
+        return job.toResponse(false);
+    }
+
+    /**
+     * 작업 실행. Error(OutOfMemoryError 등)로 끝나도 finally에서 FAILED·finishedAt을 기록해
+     * RUNNING으로 남거나 정리 대상에서 빠지지 않도록 함
+     */
+    private void run(ExtractJob job, Function<PortfolioExtractProgress, PortfolioExtractDto> work) {
+        job.status = "RUNNING";
+        publish(job);
+        try {
+            PortfolioExtractDto result = work.apply((stage, current, total) -> {
+                job.stage = stage;
+                job.current = current;
+                job.total = total;
+                publish(job);
+            });
+            job.result = result;
+            job.status = "DONE";
+        } catch (Exception e) {
+            log.warn("포트폴리오 추출 작업 실패: jobId={}, error={}", job.jobId, e.getMessage());
+            job.error = e.getMessage() != null ? e.getMessage() : "포트폴리오 추출에 실패했습니다.";
+        } catch (Error e) {
+            log.error("포트폴리오 추출 작업 중단: jobId={}", job.jobId, e);
+            job.error = "포트폴리오 추출에 실패했습니다.";
+            throw e;
+        } finally {
+            if (!"DONE".equals(job.status)) {
+                job.status = "FAILED";
+            }
+            job.finishedAt = LocalDateTime.now();
+            publish(job);
+        }
+    }
+
+    private void publish(ExtractJob job) {
+        try {
+            notificationService.pushEvent(job.memberNo, SSE_EVENT_NAME, job.toResponse(false));
+        } catch (Exception e) {
+            log.debug("포트폴리오 추출 진행 상황 전송 실패: jobId={}, error={}", job.jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 끝난 지 오래된 작업 정리 (1분 주기)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(Duration.ofMillis(retentionMillis));
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** 작업 상태 (작업 스레드에서 갱신, 조회 스레드에서 읽음) */
+    private static final class ExtractJob {
+
+        private final String jobId;
+        private final Long memberNo;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile String status = "QUEUED";
+        private volatile String stage;
+        private volatile int current;
+        private volatile int total;
+        private volatile PortfolioExtractDto result;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        private ExtractJob(String jobId, Long memberNo) {
+            this.jobId = jobId;
+            this.memberNo = memberNo;
+        }
+
+        PortfolioExtractJobResponse toResponse(boolean includeResult) {
+            return PortfolioExtractJobResponse.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .stage(stage)
+                    .current(current)
+                    .total(total)
+                    .data(includeResult ? result : null)
+                    .error(error)
+                    .createdAt(createdAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.kh.magamGG.domain.portfolio.service;
+
+/**
+ * 포트폴리오 추출 진행 상황 콜백
+ * stage: CAPTURED(페이지 캡처 완료), CACHED(캐시 결과 사용), TEXT_EXTRACTED(텍스트 기반 추출 완료),
+ *        CHUNK_EXTRACTED(청크 current/total 추출 완료), MERGED(청크 병합 완료)
+ */
+@FunctionalInterface
+public interface PortfolioExtractProgress {
+
+    /** 진행 상황을 받지 않는 동기 호출용 */
+    PortfolioExtractProgress NONE = (stage, current, total) -> { };
+
+    void report(String stage, int current, int total);
+}
@@ -12,7 +12,13 @@ public interface PortfolioExtractService {
 
     PortfolioExtractDto extractFromImage(MultipartFile imageFile);
 
+    /** 이미지 바이트로 추출 (비동기 작업용, 진행 상황 콜백) */
+    PortfolioExtractDto extractFromImage(byte[] imageBytes, String mediaType, PortfolioExtractProgress progress);
+
     PortfolioExtractDto extractFromPageUrl(String pageUrl);
 
     PortfolioExtractDto extractFromPageScreenshot(String pageUrl);
+
+    /** URL 캡처 후 추출 (비동기 작업용, 진행 상황 콜백) */
+    PortfolioExtractDto extractFromPageScreenshot(String pageUrl, PortfolioExtractProgress progress);
 }
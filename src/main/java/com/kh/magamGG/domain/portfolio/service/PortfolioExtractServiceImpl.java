@@ -1,19 +1,17 @@
 package com.kh.magamGG.domain.portfolio.service;
 
 import com.kh.magamGG.domain.portfolio.dto.PortfolioExtractDto;
+import com.kh.magamGG.global.exception.LlmBusyException;
+import com.kh.magamGG.global.llm.LlmExecutor;
+import com.kh.magamGG.global.llm.LlmPriority;
 import com.kh.magamGG.global.storage.FileStorageService;
-import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.Page;
-import com.microsoft.playwright.Playwright;
-import com.microsoft.playwright.options.LoadState;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.MimeTypeUtils;
@@ -36,6 +34,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 포트폴리오 이미지 → Spring AI Vision → 구조화 추출 (명함 서비스와 동일 패턴)
@@ -194,15 +194,32 @@ public class PortfolioExtractServiceImpl implements PortfolioExtractService {
 
     private final Optional<ChatClient.Builder> chatClientBuilder;
     private final FileStorageService fileStorageService;
+    private final LlmExecutor llmExecutor;
+    private final PlaywrightBrowserPool browserPool;
+    private final PortfolioExtractCache extractCache;
 
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
 
+    /** 요청 하나에서 동시에 Vision 호출하는 청크 수 */
+    @Value("${portfolio.extract.chunk-parallelism:4}")
+    private int chunkParallelism;
+
+    /** 청크 하나의 Vision 응답 대기 제한 (초) */
+    @Value("${portfolio.extract.chunk-timeout-seconds:45}")
+    private long chunkTimeoutSeconds;
+
     public PortfolioExtractServiceImpl(
             @org.springframework.beans.factory.annotation.Autowired(required = false) ChatClient.Builder chatClientBuilder,
-            FileStorageService fileStorageService) {
+            FileStorageService fileStorageService,
+            LlmExecutor llmExecutor,
+            PlaywrightBrowserPool browserPool,
+            PortfolioExtractCache extractCache) {
         this.chatClientBuilder = Optional.ofNullable(chatClientBuilder);
         this.fileStorageService = fileStorageService;
+        this.llmExecutor = llmExecutor;
+        this.browserPool = browserPool;
+        this.extractCache = extractCache;
     }
 
     @Override
@@ -216,30 +233,7 @@ public class PortfolioExtractServiceImpl implements PortfolioExtractService {
         Path imagePath = Paths.get(uploadDir).resolve(savedFileName);
         try {
             byte[] imageBytes = Files.readAllBytes(imagePath);
-            byte[] resized = resizeImageIfNeeded(imageBytes, SCREENSHOT_MAX_WIDTH);
-            BufferedImage img = ImageIO.read(new ByteArrayInputStream(resized));
-            if (img != null && img.getHeight() > CHUNK_MAX_HEIGHT) {
-                List<byte[]> chunks = splitImageIntoVerticalChunks(resized, CHUNK_MAX_HEIGHT, CHUNK_OVERLAP);
-                if (!chunks.isEmpty()) {
-                    List<PortfolioExtractDto> partials = new ArrayList<>();
-                    for (int i = 0; i < chunks.size(); i++) {
-                        PortfolioExtractDto dto = extractFromImageResourceQuiet(
-                                new ByteArrayResource(chunks.get(i)), MimeTypeUtils.IMAGE_PNG_VALUE, CHUNK_EXTRACT_PROMPT);
-                        if (dto != null) {
-                            partials.add(dto);
-                            int n = dto.careerItems() != null ? dto.careerItems().size() : 0;
-                            log.info("이미지 업로드 청크 {}/{} 추출됨: careerItems {}개", i + 1, chunks.size(), n);
-                        } else {
-                            log.warn("이미지 업로드 청크 {}/{} 추출 실패 또는 빈 결과", i + 1, chunks.size());
-                        }
-                    }
-                    if (!partials.isEmpty()) {
-                        return mergeExtractResults(partials);
-                    }
-                }
-            }
-            Resource imageResource = new FileSystemResource(imagePath.toFile());
-            return extractFromImageResource(imageResource, mediaType);
+            return extractFromImage(imageBytes, mediaType, PortfolioExtractProgress.NONE);
         } catch (Exception e) {
             if (e instanceof RuntimeException re) throw re;
             throw new RuntimeException("포트폴리오 이미지 처리 중 오류: " + e.getMessage(), e);
@@ -253,6 +247,49 @@ public class PortfolioExtractServiceImpl implements PortfolioExtractService {
         }
     }
 
+    @Override
+    public PortfolioExtractDto extractFromImage(byte[] imageBytes, String mediaType, PortfolioExtractProgress progress) {
+        if (imageBytes == null || imageBytes.length == 0) {
+            throw new IllegalArgumentException("포트폴리오 이미지 파일이 필요합니다.");
+        }
+        String cacheKey = extractCache.imageKey(imageBytes);
+        Optional<PortfolioExtractDto> cached = extractCache.get(cacheKey);
+        if (cached.isPresent()) {
+            progress.report("CACHED", 1, 1);
+            return cached.get();
+        }
+        try {
+            PortfolioExtractDto result = extractFromImageBytes(imageBytes, mediaType, progress);
+            // 빠진 청크가 있는 부분 결과는 저장하지 않음 (PortfolioExtractCache.put에서 확인)
+            extractCache.put(cacheKey, result);
+            return result;
+        } catch (Exception e) {
+            if (e instanceof RuntimeException re) throw re;
+            throw new RuntimeException("포트폴리오 이미지 처리 중 오류: " + e.getMessage(), e);
+        }
+    }
+
+    /** 업로드 이미지 추출 (긴 이미지는 청크 분할 후 병렬 추출·병합) */
+    private PortfolioExtractDto extractFromImageBytes(byte[] imageBytes, String mediaType,
+                                                      PortfolioExtractProgress progress) throws Exception {
+        byte[] resized = resizeImageIfNeeded(imageBytes, SCREENSHOT_MAX_WIDTH);
+        BufferedImage img = ImageIO.read(new ByteArrayInputStream(resized));
+        if (img != null && img.getHeight() > CHUNK_MAX_HEIGHT) {
+            List<byte[]> chunks = splitImageIntoVerticalChunks(resized, CHUNK_MAX_HEIGHT, CHUNK_OVERLAP);
+            if (!chunks.isEmpty()) {
+                ChunkResults results = extractChunksInParallel(chunks, "이미지 업로드 청크", progress);
+                if (!results.partials().isEmpty()) {
+                    PortfolioExtractDto merged = mergeExtractResults(results.partials(), results.failed());
+                    progress.report("MERGED", results.partials().size(), chunks.size());
+                    return merged;
+                }
+            }
+        }
+        PortfolioExtractDto result = extractFromImageResource(new ByteArrayResource(imageBytes), mediaType);
+        progress.report("CHUNK_EXTRACTED", 1, 1);
+        return result;
+    }
+
     @Override
     public PortfolioExtractDto extractFromPageUrl(String pageUrl) {
         if (pageUrl == null || pageUrl.isBlank()) {
@@ -265,11 +302,23 @@ public class PortfolioExtractServiceImpl implements PortfolioExtractService {
                     "페이지에서 추출한 텍스트가 없거나 너무 짧습니다. " +
                     "JavaScript로 렌더링되는 페이지는 스크린샷 이미지를 업로드해 주세요.");
         }
-        return extractFromTextWithLlm(bodyText);
+        String cacheKey = extractCache.pageKey(pageUrl, bodyText);
+        Optional<PortfolioExtractDto> cached = extractCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        PortfolioExtractDto result = extractFromTextWithLlm(bodyText);
+        extractCache.put(cacheKey, result);
+        return result;
     }
 
     @Override
     public PortfolioExtractDto extractFromPageScreenshot(String pageUrl) {
+        return extractFromPageScreenshot(pageUrl, PortfolioExtractProgress.NONE);
+    }
+
+    @Override
+    public PortfolioExtractDto extractFromPageScreenshot(String pageUrl, PortfolioExtractProgress progress) {
         if (pageUrl == null || pageUrl.isBlank()) {
             throw new IllegalArgumentException("페이지 URL이 필요합니다.");
         }
@@ -278,135 +327,90 @@ public class PortfolioExtractServiceImpl implements PortfolioExtractService {
             throw new IllegalArgumentException("http 또는 https URL만 지원합니다.");
         }
         String url = pageUrl.trim();
-        // 1) Playwright로 페이지 열고 스크롤 후 DOM 텍스트 추출. 충분하면 텍스트 기반 LLM으로 추출 (경력 전체 안정적)
-        String pageText = fetchPageTextWithPlaywright(url);
-        if (pageText != null && pageText.trim().length() >= MIN_TEXT_FOR_LLM) {
+        // 페이지는 한 번만 열어 스크롤 후 DOM 텍스트·전체 스크린샷을 함께 확보
+        PageCapture capture = capturePageWithPlaywright(url);
+        String pageText = capture.text();
+        log.info("페이지 캡처 완료: title={}, finalUrl={}, 높이={}px, 텍스트 {}자",
+                capture.title(), capture.finalUrl(), capture.scrollHeight(), pageText.length());
+        progress.report("CAPTURED", 0, 0);
+        return extractFromCapture(url, capture, progress);
+    }
+
+    /**
+     * 캡처 결과로 추출: 텍스트가 충분하면 텍스트 LLM, 아니면(또는 실패 시) 스크린샷 Vision.
+     * 캐시 키는 실제로 추출에 쓴 입력 기준 (텍스트 경로 = URL + 본문, Vision 경로 = URL + 스크린샷 바이트)
+     */
+    private PortfolioExtractDto extractFromCapture(String url, PageCapture capture, PortfolioExtractProgress progress) {
+        String pageText = capture.text();
+        // 1) 텍스트가 충분하면 텍스트 기반 LLM으로 추출 (경력 전체 안정적)
+        if (pageText.length() >= MIN_TEXT_FOR_LLM) {
+            String textKey = extractCache.pageKey(url, pageText);
+            Optional<PortfolioExtractDto> cached = extractCache.get(textKey);
+            if (cached.isPresent()) {
+                progress.report("CACHED", 1, 1);
+                return cached.get();
+            }
             try {
-                log.info("페이지 텍스트 추출 성공 ({}자), 텍스트 기반 LLM 추출 사용", pageText.trim().length());
-                return extractFromTextWithLlm(pageText.trim());
+                log.info("페이지 텍스트 추출 성공 ({}자), 텍스트 기반 LLM 추출 사용", pageText.length());
+                PortfolioExtractDto extracted = extractFromTextWithLlm(pageText);
+                progress.report("TEXT_EXTRACTED", 1, 1);
+                extractCache.put(textKey, extracted);
+                return extracted;
+            } catch (LlmBusyException e) {
+                throw e;
             } catch (Exception e) {
                 log.warn("텍스트 기반 추출 실패, 스크린샷 폴백: {}", e.getMessage());
             }
         }
-        // 2) 텍스트 부족 또는 LLM 실패 시 스크린샷 촬영 → 청크 분할 → Vision 추출 후 병합
-        log.info("스크린샷+Vision 폴백 (텍스트 {}자)", pageText != null ? pageText.length() : 0);
-        byte[] screenshotBytes = captureFullPageScreenshot(url);
+        // 2) 텍스트 부족 또는 LLM 실패 시 같은 캡처의 스크린샷 → 청크 분할 → Vision 추출 후 병합
+        log.info("스크린샷+Vision 폴백 (텍스트 {}자)", pageText.length());
+        byte[] screenshotBytes = capture.screenshot();
         if (screenshotBytes == null || screenshotBytes.length == 0) {
             throw new RuntimeException("페이지 스크린샷을 찍지 못했습니다.");
         }
+        String screenshotKey = extractCache.screenshotKey(url, screenshotBytes);
+        Optional<PortfolioExtractDto> cached = extractCache.get(screenshotKey);
+        if (cached.isPresent()) {
+            progress.report("CACHED", 1, 1);
+            return cached.get();
+        }
         byte[] imageBytes = resizeImageIfNeeded(screenshotBytes, SCREENSHOT_MAX_WIDTH);
         List<byte[]> chunks = splitImageIntoVerticalChunks(imageBytes, CHUNK_MAX_HEIGHT, CHUNK_OVERLAP);
         if (chunks.isEmpty()) {
             throw new RuntimeException("스크린샷을 처리할 수 없습니다.");
         }
-        List<PortfolioExtractDto> partials = new ArrayList<>();
-        for (int i = 0; i < chunks.size(); i++) {
-            PortfolioExtractDto dto = extractFromImageResourceQuiet(new ByteArrayResource(chunks.get(i)), MimeTypeUtils.IMAGE_PNG_VALUE, CHUNK_EXTRACT_PROMPT);
-            if (dto != null) {
-                partials.add(dto);
-                int n = dto.careerItems() != null ? dto.careerItems().size() : 0;
-                log.info("청크 {}/{} 추출됨: careerItems {}개", i + 1, chunks.size(), n);
-            } else {
-                log.warn("청크 {}/{} 추출 실패 또는 빈 결과", i + 1, chunks.size());
-            }
-        }
-        if (partials.isEmpty()) {
+        ChunkResults results = extractChunksInParallel(chunks, "청크", progress);
+        if (results.partials().isEmpty()) {
             throw new RuntimeException("이미지에서 포트폴리오 정보를 추출하지 못했습니다.");
         }
-        return mergeExtractResults(partials);
+        PortfolioExtractDto merged = mergeExtractResults(results.partials(), results.failed());
+        progress.report("MERGED", results.partials().size(), chunks.size());
+        // 빠진 청크가 있으면 저장하지 않음 (다음 요청에서 다시 추출)
+        extractCache.put(screenshotKey, merged);
+        return merged;
     }
 
-    /** Playwright로 페이지 로드·스크롤 후 화면에 보이는 텍스트 전체 추출 (SPA 대응). 실패 시 null. */
-    private String fetchPageTextWithPlaywright(String pageUrl) {
-        try (Playwright playwright = Playwright.create()) {
-            Browser browser = playwright.chromium().launch(
-                    new com.microsoft.playwright.BrowserType.LaunchOptions().setArgs(List.of("--disable-http2")));
-            try (BrowserContext context = browser.newContext()) {
-                Page page = context.newPage();
-                page.setDefaultNavigationTimeout(30_000);
-                page.setDefaultTimeout(20_000);
-                page.navigate(pageUrl);
-                page.waitForLoadState(LoadState.LOAD);
-                try {
-                    Thread.sleep(4_000);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    return null;
-                }
-                // 스크롤로 lazy-loaded 콘텐츠 DOM 로드
-                try {
-                    Object heightObj = page.evaluate("() => document.body.scrollHeight");
-                    long totalHeight = heightObj instanceof Number ? ((Number) heightObj).longValue() : 0L;
-                    if (totalHeight > 0) {
-                        long step = 800;
-                        for (long y = 0; y < totalHeight; y += step) {
-                            page.evaluate("(y) => window.scrollTo(0, y)", y);
-                            Thread.sleep(150);
-                        }
-                        page.evaluate("() => window.scrollTo(0, 0)");
-                        Thread.sleep(1_000);
-                    }
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    return null;
-                } catch (Exception e) {
-                    log.debug("스크롤 스킵: {}", e.getMessage());
-                }
+    /** 한 번의 페이지 로드로 얻은 캡처 결과 (DOM 텍스트, 전체 페이지 스크린샷, 메타데이터) */
+    private record PageCapture(String text, byte[] screenshot, String title, String finalUrl, long scrollHeight) {
+    }
+
+    /**
+     * Playwright로 URL을 한 번 열어 스크롤(lazy load) 후 본문 텍스트와 전체 페이지 스크린샷을 함께 캡처 (SPA/Notion 등 대응).
+     * 텍스트가 부족해 스크린샷으로 폴백해도 페이지를 다시 열지 않음.
+     */
+    private PageCapture capturePageWithPlaywright(String pageUrl) {
+        try {
+            return browserPool.withLoadedPage(pageUrl, page -> {
                 // 본문(main/article) 우선, 없으면 body의 innerText
                 Object textObj = page.evaluate("() => { const el = document.querySelector('main') || document.querySelector('article') || document.querySelector('[role=\"main\"]') || document.body; return el ? el.innerText : ''; }");
                 String text = textObj != null ? textObj.toString().trim() : "";
-                return text.isEmpty() ? null : text;
-            } finally {
-                browser.close();
-            }
+                Object heightObj = page.evaluate("() => document.body ? document.body.scrollHeight : 0");
+                long scrollHeight = heightObj instanceof Number ? ((Number) heightObj).longValue() : 0L;
+                byte[] screenshot = page.screenshot(new Page.ScreenshotOptions().setFullPage(true));
+                return new PageCapture(text, screenshot, page.title(), page.url(), scrollHeight);
+            });
         } catch (Exception e) {
-            log.warn("Playwright 텍스트 추출 실패: {} - {}", pageUrl, e.getMessage());
-            return null;
-        }
-    }
-
-    /** Playwright로 URL 전체 페이지 스크린샷 (SPA/Notion 등 대응). 스크롤로 lazy load 트리거 후 캡처. */
-    private byte[] captureFullPageScreenshot(String pageUrl) {
-        try (Playwright playwright = Playwright.create()) {
-            Browser browser = playwright.chromium().launch(
-                    new com.microsoft.playwright.BrowserType.LaunchOptions().setArgs(List.of("--disable-http2")));
-            try (BrowserContext context = browser.newContext()) {
-                Page page = context.newPage();
-                page.setDefaultNavigationTimeout(30_000);
-                page.setDefaultTimeout(20_000);
-                page.navigate(pageUrl);
-                page.waitForLoadState(LoadState.LOAD);
-                try {
-                    Thread.sleep(4_000);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("스크린샷 대기가 중단되었습니다.", ie);
-                }
-                // 스크롤을 내려서 lazy-loaded 콘텐츠가 DOM에 올라오게 함 (SPA/Notion 등)
-                try {
-                    Object heightObj = page.evaluate("() => document.body.scrollHeight");
-                    long totalHeight = heightObj instanceof Number ? ((Number) heightObj).longValue() : 0L;
-                    if (totalHeight > 0) {
-                        long step = 800;
-                        for (long y = 0; y < totalHeight; y += step) {
-                            page.evaluate("(y) => window.scrollTo(0, y)", y);
-                            Thread.sleep(150);
-                        }
-                        page.evaluate("() => window.scrollTo(0, 0)");
-                        Thread.sleep(1_000);
-                    }
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("스크롤 대기가 중단되었습니다.", ie);
-                } catch (Exception e) {
-                    log.debug("스크롤 트리거 스킵: {}", e.getMessage());
-                }
-                return page.screenshot(new Page.ScreenshotOptions().setFullPage(true));
-            } finally {
-                browser.close();
-            }
-        } catch (Exception e) {
-            log.warn("Playwright 스크린샷 실패: {} - {}", pageUrl, e.getMessage());
+            log.warn("Playwright 페이지 캡처 실패: {} - {}", pageUrl, e.getMessage());
             String msg = e.getMessage() != null ? e.getMessage() : "";
             if (msg.contains("Executable") || msg.contains("doesn't exist") || msg.contains("Browser executable") || msg.contains("not found")) {
                 throw new RuntimeException(
@@ -416,7 +420,7 @@ public class PortfolioExtractServiceImpl implements PortfolioExtractService {
                 throw new RuntimeException(
                         "이 URL은 서버에서 접근을 제한하고 있습니다. 이미지 파일을 직접 업로드해 주세요. (파일 선택 → 이미지 업로드)");
             }
-            throw new RuntimeException("페이지 스크린샷에 실패했습니다: " + msg, e);
+            throw new RuntimeException("페이지 캡처에 실패했습니다: " + msg, e);
         }
     }
 
@@ -454,8 +458,11 @@ public class PortfolioExtractServiceImpl implements PortfolioExtractService {
         return result;
     }
 
-    /** 여러 청크 추출 결과를 하나의 DTO로 병합 (이름/직무는 첫 번째, careerItems·projects는 순서 유지·중복 제거) */
-    private PortfolioExtractDto mergeExtractResults(List<PortfolioExtractDto> partials) {
+    /**
+     * 여러 청크 추출 결과를 하나의 DTO로 병합 (이름/직무는 첫 번째, careerItems·projects는 순서 유지·중복 제거)
+     * @param failedChunks 실패·시간 초과로 빠진 청크 수 (결과 failedChunks로 전달)
+     */
+    private PortfolioExtractDto mergeExtractResults(List<PortfolioExtractDto> partials, int failedChunks) {
         if (partials == null || partials.isEmpty()) return null;
         String name = null, role = null, email = null, phone = null, career = "";
         LinkedHashSet<String> careerSet = new LinkedHashSet<>();
@@ -484,7 +491,69 @@ public class PortfolioExtractServiceImpl implements PortfolioExtractService {
         if (partials.size() > 1 && careerItems.size() <= 2) {
             log.warn("병합 후 경력 항목이 {}개뿐입니다. 청크 {}개 중 추출 품질이 낮을 수 있습니다.", careerItems.size(), partials.size());
         }
-        return new PortfolioExtractDto(name, role, email, phone, projects, careerItems, career, workStyle, skills);
+        if (failedChunks > 0) {
+            log.warn("청크 {}개 중 {}개 추출 실패·시간 초과, 일부 항목이 빠진 결과로 반환", partials.size() + failedChunks, failedChunks);
+        }
+        return new PortfolioExtractDto(name, role, email, phone, projects, careerItems, career, workStyle, skills, failedChunks);
+    }
+
+    /** 청크 추출 결과: 성공한 청크 결과(청크 순서), 실패·시간 초과 청크 수 */
+    private record ChunkResults(List<PortfolioExtractDto> partials, int failed) {
+    }
+
+    /**
+     * 청크별 Vision 추출을 병렬 실행 (요청당 동시 chunkParallelism건, 청크별 제한 시간 chunkTimeoutSeconds).
+     * 제한 시간은 LLM 대기열에서 실행을 시작한 시점부터 계산 (대기열 대기는 LlmExecutor 기본 제한 시간까지).
+     * 결과는 청크 순서대로 반환하며 실패·시간 초과 청크는 제외하고 개수로 알림. 전체 소요 시간 ≈ 가장 느린 청크.
+     */
+    private ChunkResults extractChunksInParallel(List<byte[]> chunks, String logLabel,
+                                                 PortfolioExtractProgress progress) {
+        int total = chunks.size();
+        int window = Math.max(1, chunkParallelism);
+        List<Future<PortfolioExtractDto>> futures = new ArrayList<>(total);
+        PortfolioExtractDto[] results = new PortfolioExtractDto[total];
+        try {
+            for (int i = 0; i < total; i++) {
+                // 동시 실행 수가 window를 넘지 않도록 가장 먼저 보낸 청크 완료를 기다린 뒤 다음 청크 등록
+                if (i >= window) {
+                    results[i - window] = awaitChunk(futures.get(i - window), i - window, total, logLabel);
+                    progress.report("CHUNK_EXTRACTED", i - window + 1, total);
+                }
+                byte[] chunk = chunks.get(i);
+                futures.add(llmExecutor.submit(LlmPriority.BATCH, () -> extractFromImageResourceQuiet(
+                        new ByteArrayResource(chunk), MimeTypeUtils.IMAGE_PNG_VALUE, CHUNK_EXTRACT_PROMPT)));
+            }
+            for (int i = Math.max(0, total - window); i < total; i++) {
+                results[i] = awaitChunk(futures.get(i), i, total, logLabel);
+                progress.report("CHUNK_EXTRACTED", i + 1, total);
+            }
+        } catch (LlmBusyException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw e;
+        }
+
+        List<PortfolioExtractDto> partials = new ArrayList<>();
+        for (PortfolioExtractDto dto : results) {
+            if (dto != null) partials.add(dto);
+        }
+        return new ChunkResults(partials, total - partials.size());
+    }
+
+    /** 청크 결과 대기 (실행 시작부터 chunkTimeoutSeconds). 시간 초과·실패 시 null (해당 청크만 제외하고 병합) */
+    private PortfolioExtractDto awaitChunk(Future<PortfolioExtractDto> future, int index, int total, String logLabel) {
+        try {
+            PortfolioExtractDto dto = llmExecutor.awaitFromStart(future, chunkTimeoutSeconds, TimeUnit.SECONDS);
+            if (dto != null) {
+                int n = dto.careerItems() != null ? dto.careerItems().size() : 0;
+                log.info("{} {}/{} 추출됨: careerItems {}개", logLabel, index + 1, total, n);
+            } else {
+                log.warn("{} {}/{} 추출 실패 또는 빈 결과", logLabel, index + 1, total);
+            }
+            return dto;
+        } catch (RuntimeException e) {
+            log.warn("{} {}/{} 추출 실패: {}", logLabel, index + 1, total, e.getMessage());
+            return null;
+        }
     }
 
     /** 이미지에서 추출 시도. 실패 또는 빈 결과면 null 반환 (예외 없음). promptText로 청크용/전체용 프롬프트 지정. */
@@ -588,10 +657,10 @@ public class PortfolioExtractServiceImpl implements PortfolioExtractService {
             }
             var chatClient = chatClientBuilder.get().build();
             String prompt = EXTRACT_FROM_PAGE_PROMPT + "\n\n---\n" + truncateForPrompt(text);
-            String response = chatClient.prompt()
-                    .user(u -> u.text(prompt))
-                    .call()
-                    .content();
+            String response = llmExecutor.call(LlmPriority.BATCH, () -> chatClient.prompt()
+                            .user(u -> u.text(prompt))
+                            .call()
+                            .content());
             PortfolioExtractDto parsed = parseExtractResponse(response);
             if (parsed == null || isEmpty(parsed)) {
                 throw new RuntimeException(parsed == null
@@ -599,6 +668,8 @@ public class PortfolioExtractServiceImpl implements PortfolioExtractService {
                         : "추출된 내용이 없습니다. 페이지에서 포트폴리오 정보를 찾지 못했을 수 있습니다.");
             }
             return parsed;
+        } catch (LlmBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.warn("Spring AI 텍스트 구조화 실패: {}", e.getMessage());
             throw new RuntimeException("포트폴리오 텍스트 구조화에 실패했습니다: " + e.getMessage());
@@ -627,12 +698,15 @@ public class PortfolioExtractServiceImpl implements PortfolioExtractService {
     private PortfolioExtractDto callSectionLlm(ChatClient chatClient, String promptTemplate, String sectionText, String logLabel) {
         try {
             String prompt = promptTemplate + "\n\n---\n" + sectionText;
-            String response = chatClient.prompt().user(u -> u.text(prompt)).call().content();
+            String response = llmExecutor.call(LlmPriority.BATCH,
+                    () -> chatClient.prompt().user(u -> u.text(prompt)).call().content());
             PortfolioExtractDto dto = parseExtractResponse(response);
             if (dto != null && logLabel.equals("career") && dto.careerItems() != null) {
                 log.info("섹션 추출 {}: careerItems {}개", logLabel, dto.careerItems().size());
             }
             return dto;
+        } catch (LlmBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.warn("섹션 추출 실패 ({}): {}", logLabel, e.getMessage());
             return null;
@@ -653,7 +727,7 @@ public class PortfolioExtractServiceImpl implements PortfolioExtractService {
         if (role == null) role = "";
         if (email == null) email = "";
         if (phone == null) phone = "";
-        return new PortfolioExtractDto(name, role, email, phone, projects, careerItems, "", workStyle, skills);
+        return new PortfolioExtractDto(name, role, email, phone, projects, careerItems, "", workStyle, skills, 0);
     }
 
     private static String firstNonBlank(String a, String b) {
@@ -689,11 +763,11 @@ public class PortfolioExtractServiceImpl implements PortfolioExtractService {
         try {
             var chatClient = chatClientBuilder.get().build();
             org.springframework.util.MimeType mimeType = org.springframework.util.MimeTypeUtils.parseMimeType(mediaType);
-            String response = chatClient.prompt()
-                    .system(s -> s.text("You are a data extraction assistant. Convert portfolio/resume image to JSON only. careerItems = employment only (company, period, job title, duties); projects = project/work list only (work name, period). Use headings: 경력/경력 사항/근무 이력 → careerItems; 참여 프로젝트/프로젝트/참여 작품/작품 → projects. One element per line; date/period at BEGINNING. Do not mix."))
-                    .user(u -> u.text(EXTRACT_PROMPT).media(mimeType, imageResource))
-                    .call()
-                    .content();
+            String response = llmExecutor.call(LlmPriority.BATCH, () -> chatClient.prompt()
+                            .system(s -> s.text("You are a data extraction assistant. Convert portfolio/resume image to JSON only. careerItems = employment only (company, period, job title, duties); projects = project/work list only (work name, period). Use headings: 경력/경력 사항/근무 이력 → careerItems; 참여 프로젝트/프로젝트/참여 작품/작품 → projects. One element per line; date/period at BEGINNING. Do not mix."))
+                            .user(u -> u.text(EXTRACT_PROMPT).media(mimeType, imageResource))
+                            .call()
+                            .content());
             PortfolioExtractDto parsed = parseExtractResponse(response);
             if (parsed == null || isEmpty(parsed)) {
                 throw new RuntimeException(parsed == null
@@ -701,6 +775,8 @@ public class PortfolioExtractServiceImpl implements PortfolioExtractService {
                         : "추출된 내용이 없습니다. 이미지에 포트폴리오/이력 정보가 보이는지 확인해 주세요.");
             }
             return parsed;
+        } catch (LlmBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.warn("Spring AI Vision 포트폴리오 추출 실패: {}", e.getMessage());
             String msg = e.getMessage() != null ? e.getMessage().toLowerCase() : "";
@@ -10,7 +10,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "kanban_card")
+@Table(name = "kanban_card", indexes = {
+		@Index(name = "IDX_KANBAN_CARD_BOARD_ENDED", columnList = "BOARD_NO, KANBAN_CARD_ENDED_AT"),
+		@Index(name = "IDX_KANBAN_CARD_PROJECT_MEMBER_STATUS_ENDED", columnList = "PROJECT_MEMBER_NO, KANBAN_CARD_STATUS, KANBAN_CARD_ENDED_AT")
+})
 @Getter
 @NoArgsConstructor
 public class KanbanCard {
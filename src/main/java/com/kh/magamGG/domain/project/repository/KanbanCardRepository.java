@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -148,6 +149,73 @@ public interface KanbanCardRepository extends JpaRepository<KanbanCard, Long> {
            "WHERE kb.project.projectNo = :projectNo")
     List<KanbanCard> findByProjectNoWithBoardAndMember(@Param("projectNo") Long projectNo);
 
+    /**
+     * 에이전시 프로젝트의 마감일이 지난 카드 수를 상태별로 집계 (대시보드 평균 마감 준수율용).
+     * 행: [kanbanCardStatus, count]
+     */
+    @Query("SELECT kc.kanbanCardStatus, COUNT(kc) FROM KanbanCard kc " +
+           "JOIN kc.kanbanBoard kb " +
+           "WHERE kb.project.projectNo IN (" +
+           "SELECT pm.project.projectNo FROM ProjectMember pm WHERE pm.member.agency.agencyNo = :agencyNo) " +
+           "AND kc.kanbanCardEndedAt IS NOT NULL AND kc.kanbanCardEndedAt <= :today " +
+           "GROUP BY kc.kanbanCardStatus")
+    List<Object[]> countPastDeadlineCardsByAgencyNoGroupByStatus(
+            @Param("agencyNo") Long agencyNo,
+            @Param("today") LocalDate today);
+
+    /**
+     * 에이전시 프로젝트의 마감일이 지난 카드 수를 마감 월별로 집계 (전월 대비·월별 추이용).
+     * 행: [year, month, totalCount, completedCount(status='Y')]
+     */
+    @Query("SELECT YEAR(kc.kanbanCardEndedAt), MONTH(kc.kanbanCardEndedAt), COUNT(kc), " +
+           "SUM(CASE WHEN kc.kanbanCardStatus = 'Y' THEN 1 ELSE 0 END) FROM KanbanCard kc " +
+           "JOIN kc.kanbanBoard kb " +
+           "WHERE kb.project.projectNo IN (" +
+           "SELECT pm.project.projectNo FROM ProjectMember pm WHERE pm.member.agency.agencyNo = :agencyNo) " +
+           "AND kc.kanbanCardEndedAt >= :fromDate AND kc.kanbanCardEndedAt <= :today " +
+           "GROUP BY YEAR(kc.kanbanCardEndedAt), MONTH(kc.kanbanCardEndedAt)")
+    List<Object[]> countPastDeadlineCardsByAgencyNoGroupByMonth(
+            @Param("agencyNo") Long agencyNo,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("today") LocalDate today);
+
+    /**
+     * 여러 회원의 업무 지표 일괄 집계 (AI 프롬프트용, 회원별 1행).
+     * 행: [memberNo, 마감 지난(today 이전) 완료(Y), 마감 지난 미완료(N), 미완료(N), 미완료 중 today~in7 마감, 완료(Y) 누적]
+     */
+    @Query("SELECT m.memberNo, " +
+           "SUM(CASE WHEN kc.kanbanCardEndedAt < :today AND kc.kanbanCardStatus = 'Y' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN kc.kanbanCardEndedAt < :today AND kc.kanbanCardStatus = 'N' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN kc.kanbanCardStatus = 'N' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN kc.kanbanCardStatus = 'N' AND kc.kanbanCardEndedAt >= :today " +
+           "AND kc.kanbanCardEndedAt <= :dueUntil THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN kc.kanbanCardStatus = 'Y' THEN 1 ELSE 0 END) " +
+           "FROM KanbanCard kc " +
+           "JOIN kc.projectMember pm " +
+           "JOIN pm.member m " +
+           "WHERE m.memberNo IN :memberNos " +
+           "GROUP BY m.memberNo")
+    List<Object[]> countWorkloadStatsByMemberNos(
+            @Param("memberNos") Collection<Long> memberNos,
+            @Param("today") LocalDate today,
+            @Param("dueUntil") LocalDate dueUntil);
+
+    /**
+     * 여러 프로젝트의 마감 지난 카드 수 일괄 집계 (프로젝트별 마감 준수율용).
+     * 행: [projectNo, 완료(Y), 미완료(N)]
+     */
+    @Query("SELECT kb.project.projectNo, " +
+           "SUM(CASE WHEN kc.kanbanCardStatus = 'Y' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN kc.kanbanCardStatus = 'N' THEN 1 ELSE 0 END) " +
+           "FROM KanbanCard kc " +
+           "JOIN kc.kanbanBoard kb " +
+           "WHERE kb.project.projectNo IN :projectNos " +
+           "AND kc.kanbanCardEndedAt IS NOT NULL AND kc.kanbanCardEndedAt <= :today " +
+           "GROUP BY kb.project.projectNo")
+    List<Object[]> countPastDeadlineCardsByProjectNos(
+            @Param("projectNos") Collection<Long> projectNos,
+            @Param("today") LocalDate today);
+
     /** 응답 DTO 변환용: 카드 + 보드 + 담당자(멤버) 한 번에 로드 (lazy 연쇄 호출로 인한 JDBC 상태 오류 완화) */
     @Query("SELECT kc FROM KanbanCard kc " +
            "LEFT JOIN FETCH kc.kanbanBoard " +
@@ -25,6 +25,11 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     @Query("SELECT DISTINCT pm.project.projectNo FROM ProjectMember pm WHERE pm.member.agency.agencyNo = :agencyNo")
     List<Long> findDistinctProjectNosByMember_Agency_AgencyNo(@Param("agencyNo") Long agencyNo);
 
+    /** 프로젝트에 참여한 회원들의 소속 에이전시 번호 목록 (중복 제거, 마감 준수율 월별 집계 갱신용) */
+    @Query("SELECT DISTINCT pm.member.agency.agencyNo FROM ProjectMember pm " +
+           "WHERE pm.project.projectNo = :projectNo AND pm.member.agency IS NOT NULL")
+    List<Long> findDistinctAgencyNosByProjectNo(@Param("projectNo") Long projectNo);
+
     /** 에이전시 소속 담당자들이 관리하는 프로젝트 번호 목록 (PROJECT_MEMBER_ROLE = '담당자') */
     @Query("SELECT DISTINCT pm.project.projectNo FROM ProjectMember pm " +
            "WHERE pm.projectMemberRole = '담당자' AND pm.member.agency.agencyNo = :agencyNo")
@@ -19,6 +19,15 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
            "AND p.projectStatus = '연재'")
     List<Project> findActiveProjectsByAgencyNo(@Param("agencyNo") Long agencyNo);
 
+    /**
+     * 에이전시 소속 회원이 참여한 진행 중(연재) 프로젝트 수 (대시보드 메트릭용, 엔티티 로드 없이 집계)
+     */
+    @Query("SELECT COUNT(DISTINCT p) FROM Project p " +
+           "JOIN p.projectMembers pm " +
+           "WHERE pm.member.agency.agencyNo = :agencyNo " +
+           "AND p.projectStatus = '연재'")
+    long countActiveProjectsByAgencyNo(@Param("agencyNo") Long agencyNo);
+
     /**
      * 에이전시 소속 회원이 참여한 모든 프로젝트 (마감 준수율 계산용)
      */
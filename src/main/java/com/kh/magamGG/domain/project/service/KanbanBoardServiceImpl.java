@@ -1,5 +1,6 @@
 package com.kh.magamGG.domain.project.service;
 
+import com.kh.magamGG.domain.agency.service.ComplianceRollupService;
 import com.kh.magamGG.domain.member.dto.MemberKanbanStatsResponseDto;
 import com.kh.magamGG.domain.project.dto.request.KanbanBoardCreateRequest;
 import com.kh.magamGG.domain.project.dto.request.KanbanBoardUpdateRequest;
@@ -40,6 +41,7 @@ public class KanbanBoardServiceImpl implements KanbanBoardService {
     private final KanbanCardRepository kanbanCardRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final NotionSyncService notionSyncService;
+    private final ComplianceRollupService complianceRollupService;
 
     private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ISO_LOCAL_DATE;
 
@@ -293,6 +295,8 @@ public class KanbanBoardServiceImpl implements KanbanBoardService {
             card.setKanbanCardEndedAt(LocalDate.parse(request.getDueDate(), DATE_FMT));
         }
         KanbanCard saved = kanbanCardRepository.save(card);
+        complianceRollupService.applyCardChange(projectNo, null, null,
+            saved.getKanbanCardStatus(), saved.getKanbanCardEndedAt());
         notionSyncService.syncCardCreate(saved, project);
         try {
             KanbanCard forResponse = kanbanCardRepository.findByIdWithBoardAndMember(saved.getKanbanCardNo())
@@ -314,9 +318,14 @@ public class KanbanBoardServiceImpl implements KanbanBoardService {
         if (currentProject != null && !currentProject.getProjectNo().equals(projectNo)) {
             throw new IllegalArgumentException("해당 프로젝트의 카드가 아닙니다.");
         }
+        // 월별 마감 준수 집계 증분 반영용 변경 전 상태
+        String previousStatus = card.getKanbanCardStatus();
+        LocalDate previousEndedAt = card.getKanbanCardEndedAt();
         if (request.getStatus() != null && "D".equalsIgnoreCase(request.getStatus())) {
             card.setKanbanCardStatus("D");
             kanbanCardRepository.save(card);
+            complianceRollupService.applyCardChange(projectNo, previousStatus, previousEndedAt,
+                card.getKanbanCardStatus(), card.getKanbanCardEndedAt());
             Project archiveProject = card.getKanbanBoard() != null ? card.getKanbanBoard().getProject() : null;
             notionSyncService.syncCardArchive(card, archiveProject);
             try {
@@ -351,6 +360,8 @@ public class KanbanBoardServiceImpl implements KanbanBoardService {
             card.setKanbanCardEndedAt(LocalDate.parse(request.getDueDate(), DATE_FMT));
         }
         KanbanCard saved = kanbanCardRepository.save(card);
+        complianceRollupService.applyCardChange(projectNo, previousStatus, previousEndedAt,
+            saved.getKanbanCardStatus(), saved.getKanbanCardEndedAt());
         Project syncProject = saved.getKanbanBoard() != null ? saved.getKanbanBoard().getProject() : null;
         notionSyncService.syncCardUpdate(saved, syncProject);
         // 응답용으로 보드/담당자까지 한 번에 로드 (실패 시 saved로 fallback 해 500 방지)
@@ -704,7 +704,8 @@ public class ProjectServiceImpl implements ProjectService {
     /** 오늘 ATTENDANCE 마지막 기록 기준: 출근→작업중, 퇴근→작업 종료, 없음→작업 시작 전 */
     private String resolveTodayAttendanceStatus(Long memberNo, LocalDate today) {
         List<com.kh.magamGG.domain.attendance.entity.Attendance> list =
-            attendanceRepository.findTodayLastAttendanceByMemberNo(memberNo, today);
+            attendanceRepository.findTodayLastAttendanceByMemberNo(
+                memberNo, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
         if (list == null || list.isEmpty()) return "작업 시작 전";
         String lastType = list.get(0).getAttendanceType();
         if ("출근".equals(lastType)) return "작업중";
@@ -50,7 +50,7 @@ public class CorsConfig {
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                         .allowedHeaders("*")
                         .allowCredentials(true)
-                        .exposedHeaders("Authorization", "Set-Cookie", "Content-Type", "Last-Event-ID")
+                        .exposedHeaders("Authorization", "Set-Cookie", "Content-Type", "Last-Event-ID", "X-Insight-Generated-At")
                         .maxAge(3600L);
                 registry.addMapping("/ws-stomp/**")
                         .allowedOrigins(ALLOWED_ORIGINS.toArray(new String[0]))
@@ -70,7 +70,7 @@ public class CorsConfig {
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
         configuration.setAllowCredentials(true); // 쿠키/Authorization 토큰 주고받기 필수
-        configuration.setExposedHeaders(Arrays.asList("Authorization", "Set-Cookie", "Content-Type", "Last-Event-ID"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "Set-Cookie", "Content-Type", "Last-Event-ID", "X-Insight-Generated-At"));
         configuration.setMaxAge(3600L);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
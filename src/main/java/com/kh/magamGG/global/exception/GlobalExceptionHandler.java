@@ -1,6 +1,7 @@
 package com.kh.magamGG.global.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -190,6 +191,35 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
     }
 
+    /** LLM 대기열 포화 → 503 + Retry-After (클라이언트 재시도 유도) */
+    @ExceptionHandler(LlmBusyException.class)
+    public ResponseEntity<ErrorResponse> handleLlmBusyException(
+            LlmBusyException ex, WebRequest request) {
+        log.warn("LLM 요청 거절: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "SERVICE_UNAVAILABLE",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(PortfolioExtractJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handlePortfolioExtractJobNotFoundException(
+            PortfolioExtractJobNotFoundException ex, WebRequest request) {
+        log.warn("포트폴리오 추출 작업을 찾을 수 없음: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                "NOT_FOUND",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<ErrorResponse> handleNoResourceFound(
             NoResourceFoundException ex, WebRequest request) {
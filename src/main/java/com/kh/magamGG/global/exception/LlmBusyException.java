@@ -0,0 +1,10 @@
+package com.kh.magamGG.global.exception;
+
+/**
+ * LLM 호출 대기열이 가득 차 요청을 받을 수 없는 경우 (잠시 후 재시도)
+ */
+public class LlmBusyException extends RuntimeException {
+    public LlmBusyException(String message) {
+        super(message);
+    }
+}
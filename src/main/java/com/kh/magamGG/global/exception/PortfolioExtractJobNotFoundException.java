@@ -0,0 +1,7 @@
+package com.kh.magamGG.global.exception;
+
+public class PortfolioExtractJobNotFoundException extends RuntimeException {
+    public PortfolioExtractJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,291 @@
+package com.kh.magamGG.global.llm;
+
+import com.kh.magamGG.global.exception.LlmBusyException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * LLM 호출 전용 실행기 (동시 실행 상한 + 우선순위 대기열)
+ * - 동시에 외부 LLM으로 나가는 호출을 max-concurrency 건으로 제한 (제공사 rate limit 초과·연쇄 타임아웃 방지)
+ * - 대기열은 INTERACTIVE 우선, 레인별 대기 상한 초과 시 즉시 LlmBusyException (→ 503)
+ * - 대기 시간 포함 timeout-seconds 안에 끝나지 않으면 작업 취소 후 예외
+ * - 레인별 대기열 깊이·대기/실행 시간·거절 수는 1분 주기 로그로 확인 (별도 메트릭 레지스트리 없음)
+ */
+@Component
+@Slf4j
+public class LlmExecutor {
+
+    private static final String BUSY_MESSAGE = "AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Map<LlmPriority, Lane> lanes = new EnumMap<>(LlmPriority.class);
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+
+    public LlmExecutor(@Value("${ai.llm.max-concurrency:4}") int maxConcurrency,
+                       @Value("${ai.llm.queue-capacity.interactive:20}") int interactiveQueueCapacity,
+                       @Value("${ai.llm.queue-capacity.batch:40}") int batchQueueCapacity,
+                       @Value("${ai.llm.timeout-seconds:60}") long timeoutSeconds) {
+        this.timeoutMillis = timeoutSeconds * 1000L;
+        lanes.put(LlmPriority.INTERACTIVE, new Lane(interactiveQueueCapacity));
+        lanes.put(LlmPriority.BATCH, new Lane(batchQueueCapacity));
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "llm-" + threadNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 대기열에 등록 (비동기). 결과는 await로 기다림
+     * @throws LlmBusyException 해당 레인 대기열이 가득 찬 경우
+     */
+    public <T> Future<T> submit(LlmPriority priority, Callable<T> task) {
+        Lane lane = lanes.get(priority);
+        if (!lane.tryEnqueue()) {
+            lane.rejectedCount.incrementAndGet();
+            log.warn("LLM 대기열 포화로 요청 거절: lane={}, queued={}", priority, lane.queued.get());
+            throw new LlmBusyException(BUSY_MESSAGE);
+        }
+        LlmTask<T> llmTask = new LlmTask<>(task, priority, sequence.incrementAndGet(), lane);
+        try {
+            executor.execute(llmTask);
+        } catch (RejectedExecutionException e) {
+            lane.queued.decrementAndGet();
+            throw new LlmBusyException(BUSY_MESSAGE);
+        }
+        return llmTask;
+    }
+
+    /**
+     * 대기열 등록 후 결과까지 대기 (동기)
+     */
+    public <T> T call(LlmPriority priority, Callable<T> task) {
+        return await(submit(priority, task));
+    }
+
+    /**
+     * submit 결과 대기. 제한 시간 초과·중단 시 작업 취소
+     */
+    public <T> T await(Future<T> future) {
+        return await(future, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * submit 결과 대기 (제한 시간 지정). 작업별로 기본값보다 짧은 제한이 필요할 때 사용
+     */
+    public <T> T await(Future<T> future, long timeout, TimeUnit unit) {
+        try {
+            return future.get(timeout, unit);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCount.incrementAndGet();
+            throw new RuntimeException("AI 응답 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("AI 요청이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new RuntimeException("AI 호출 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * submit 결과 대기. 제한 시간(timeout)은 대기열에서 꺼내져 실행을 시작한 시점부터 계산.
+     * 실행 시작까지는 기본 제한 시간(timeout-seconds)까지 기다리며, 그 안에 시작하지 못해도 작업 취소 후 예외.
+     * BATCH 작업처럼 대기열에서 오래 기다릴 수 있는 작업에 실행 시간만 제한할 때 사용
+     */
+    public <T> T awaitFromStart(Future<T> future, long timeout, TimeUnit unit) {
+        if (!(future instanceof LlmTask<?> task)) {
+            return await(future, timeout, unit);
+        }
+        try {
+            if (!task.started.await(timeoutMillis, TimeUnit.MILLISECONDS) && !future.isDone()) {
+                future.cancel(true);
+                timeoutCount.incrementAndGet();
+                throw new RuntimeException("AI 요청 대기 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("AI 요청이 중단되었습니다.", e);
+        }
+        long elapsedNanos = task.startedAtNanos != 0 ? System.nanoTime() - task.startedAtNanos : 0L;
+        return await(future, Math.max(0L, unit.toNanos(timeout) - elapsedNanos), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 스트리밍 호출. 스트림이 끝날 때까지 실행 슬롯 하나를 점유하므로 동기 호출과 같은 상한을 공유.
+     * 구독 해제(클라이언트 종료) 시 작업 취소, 조각 사이 간격이 제한 시간을 넘으면 타임아웃 에러.
+     * 대기열 포화 시 LlmBusyException으로 에러 종료
+     */
+    public <T> Flux<T> stream(LlmPriority priority, Supplier<Flux<T>> source) {
+        return Flux.create(sink -> {
+            Future<Void> future;
+            try {
+                future = submit(priority, () -> {
+                    try {
+                        source.get()
+                                .timeout(Duration.ofMillis(timeoutMillis))
+                                .doOnNext(sink::next)
+                                .blockLast();
+                        sink.complete();
+                    } catch (RuntimeException e) {
+                        if (e.getCause() instanceof TimeoutException) {
+                            timeoutCount.incrementAndGet();
+                        }
+                        sink.error(e);
+                    }
+                    return null;
+                });
+            } catch (LlmBusyException e) {
+                sink.error(e);
+                return;
+            }
+            sink.onDispose(() -> future.cancel(true));
+        });
+    }
+
+    /**
+     * 1분 주기 지표 로그 (처리 이력이 있을 때만)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void logStats() {
+        for (Map.Entry<LlmPriority, Lane> entry : lanes.entrySet()) {
+            Lane lane = entry.getValue();
+            long completed = lane.completedCount.get();
+            if (completed == lane.lastLoggedCompleted && lane.queued.get() == 0) {
+                continue;
+            }
+            lane.lastLoggedCompleted = completed;
+            log.info("LLM 실행 지표: lane={}, active={}, queued={}, completed={}, rejected={}, avgWait={}ms, maxWait={}ms, avgExec={}ms, timeouts={}",
+                    entry.getKey(), executor.getActiveCount(), lane.queued.get(), completed, lane.rejectedCount.get(),
+                    lane.averageWaitMillis(), TimeUnit.NANOSECONDS.toMillis(lane.maxWaitNanos.get()),
+                    lane.averageExecMillis(), timeoutCount.get());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** 레인별 대기열 상한과 지표 */
+    private static final class Lane {
+
+        private final int capacity;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicLong rejectedCount = new AtomicLong();
+        private final AtomicLong startedCount = new AtomicLong();
+        private final AtomicLong completedCount = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final AtomicLong totalExecNanos = new AtomicLong();
+        private volatile long lastLoggedCompleted;
+
+        private Lane(int capacity) {
+            this.capacity = capacity;
+        }
+
+        boolean tryEnqueue() {
+            while (true) {
+                int current = queued.get();
+                if (current >= capacity) {
+                    return false;
+                }
+                if (queued.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /** 대기열에서 실행 시작까지 평균 대기 시간 (ms) */
+        long averageWaitMillis() {
+            long started = startedCount.get();
+            return started == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / started);
+        }
+
+        /** LLM 호출 평균 실행 시간 (ms) */
+        long averageExecMillis() {
+            long completed = completedCount.get();
+            return completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalExecNanos.get() / completed);
+        }
+    }
+
+    /** 우선순위(레인 → 등록 순서)로 정렬되는 작업 */
+    private static final class LlmTask<T> extends FutureTask<T> implements Comparable<LlmTask<?>> {
+
+        private final LlmPriority priority;
+        private final long sequence;
+        private final Lane lane;
+        private final long enqueuedAt = System.nanoTime();
+        /** 실행 시작(또는 취소로 건너뜀) 시 해제 */
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile long startedAtNanos;
+
+        private LlmTask(Callable<T> callable, LlmPriority priority, long sequence, Lane lane) {
+            super(callable);
+            this.priority = priority;
+            this.sequence = sequence;
+            this.lane = lane;
+        }
+
+        @Override
+        public void run() {
+            lane.queued.decrementAndGet();
+            if (isCancelled()) {
+                started.countDown();
+                return;
+            }
+            long startedAt = System.nanoTime();
+            startedAtNanos = startedAt;
+            started.countDown();
+            long waitNanos = startedAt - enqueuedAt;
+            lane.startedCount.incrementAndGet();
+            lane.totalWaitNanos.addAndGet(waitNanos);
+            lane.maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+            try {
+                super.run();
+            } finally {
+                lane.completedCount.incrementAndGet();
+                lane.totalExecNanos.addAndGet(System.nanoTime() - startedAt);
+            }
+        }
+
+        @Override
+        public int compareTo(LlmTask<?> other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.kh.magamGG.global.llm;
+
+/**
+ * LLM 호출 우선순위 레인
+ * - INTERACTIVE: 사용자가 화면에서 기다리는 AI 응답 (대시보드 AI 카드 등)
+ * - BATCH: 포트폴리오 추출처럼 여러 번 나눠 호출하는 작업
+ * 대기열에서는 INTERACTIVE가 항상 먼저 실행되고, 같은 레인 안에서는 들어온 순서대로 실행
+ */
+public enum LlmPriority {
+    INTERACTIVE,
+    BATCH
+}
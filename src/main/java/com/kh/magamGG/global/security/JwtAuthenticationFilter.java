@@ -16,13 +16,14 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(
@@ -40,13 +41,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 2. 토큰이 있는 경우 처리
         if (StringUtils.hasText(token)) {
             try {
-                // 2-1. Access Token 유효성 검증 (type 검증 포함)
-                boolean isValid = jwtTokenProvider.validateAccessToken(token);
-                log.info("토큰 검증 결과: {}", isValid);
+                // 2-1. Access Token 검증 + 회원번호 추출 (type 검증 포함, 검증된 토큰은 캐시 조회)
+                Optional<JwtPrincipal> principal = verifiedTokenCache.verify(token);
+                log.info("토큰 검증 결과: {}", principal.isPresent());
                 
-                if (isValid) {
-                    // 2-2. 토큰에서 회원번호 추출
-                    Long memberNo = jwtTokenProvider.getMemberIdFromAccessToken(token);
+                if (principal.isPresent()) {
+                    // 2-2. 검증된 토큰의 회원번호
+                    Long memberNo = principal.get().getMemberNo();
                     log.info("추출된 회원번호: {}", memberNo);
 
                     // 2-3. SecurityContext에 인증 정보 저장
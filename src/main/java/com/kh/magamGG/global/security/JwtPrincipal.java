@@ -0,0 +1,19 @@
+package com.kh.magamGG.global.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * 서명·만료·type 검증을 마친 Access Token 정보
+ * 토큰을 한 번만 파싱하고 필요한 값을 꺼내 쓰기 위함
+ */
+@Getter
+@RequiredArgsConstructor
+public class JwtPrincipal {
+
+    private final Long memberNo;
+    private final String email;
+    private final Date expiration;
+}
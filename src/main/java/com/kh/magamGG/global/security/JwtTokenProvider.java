@@ -2,6 +2,7 @@ package com.kh.magamGG.global.security;
 
 import com.kh.magamGG.global.exception.InvalidTokenException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -14,6 +15,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
@@ -30,8 +32,14 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration}")
     private Long refreshExpiration;
 
+    // 서명 키와 파서는 기동 시 한 번만 생성 (thread-safe, 요청마다 재생성하지 않음)
+    private SecretKey accessSigningKey;
+    private SecretKey refreshSigningKey;
+    private JwtParser accessParser;
+    private JwtParser refreshParser;
+
     /**
-     * 애플리케이션 시작 시 Secret Key 검증
+     * 애플리케이션 시작 시 Secret Key 검증 후 서명 키·파서 생성
      * 환경변수가 없거나 빈 값이면 IllegalStateException 발생
      */
     @PostConstruct
@@ -71,22 +79,11 @@ public class JwtTokenProvider {
                 "JWT Access Secret과 Refresh Secret은 서로 달라야 합니다."
             );
         }
-    }
 
-    /**
-     * Access Token용 서명 키 생성
-     */
-    private SecretKey getAccessSigningKey() {
-        byte[] keyBytes = accessSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
-    /**
-     * Refresh Token용 서명 키 생성
-     */
-    private SecretKey getRefreshSigningKey() {
-        byte[] keyBytes = refreshSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        accessSigningKey = Keys.hmacShaKeyFor(accessSecret.getBytes(StandardCharsets.UTF_8));
+        refreshSigningKey = Keys.hmacShaKeyFor(refreshSecret.getBytes(StandardCharsets.UTF_8));
+        accessParser = Jwts.parser().verifyWith(accessSigningKey).build();
+        refreshParser = Jwts.parser().verifyWith(refreshSigningKey).build();
     }
 
     /**
@@ -102,7 +99,7 @@ public class JwtTokenProvider {
                 .claim("type", "access")
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getAccessSigningKey())
+                .signWith(accessSigningKey)
                 .compact();
     }
 
@@ -118,42 +115,52 @@ public class JwtTokenProvider {
                 .claim("type", "refresh")
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getRefreshSigningKey())
+                .signWith(refreshSigningKey)
                 .compact();
     }
 
     /**
-     * Access Token에서 회원번호 추출
+     * Access Token 검증 + 정보 추출 (파싱 1회)
+     * 서명·만료·type("access") 검증을 모두 통과하면 JwtPrincipal, 아니면 empty
      */
-    public Long getMemberIdFromAccessToken(String token) {
+    public Optional<JwtPrincipal> parseAccessToken(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return Optional.empty();
+        }
+
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getAccessSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = accessParser.parseSignedClaims(token).getPayload();
 
-            String tokenType = claims.get("type", String.class);
-            if (!"access".equals(tokenType)) {
-                throw new InvalidTokenException("Access Token이 아닙니다.");
+            // type 클레임 검증: access 토큰인지 확인
+            if (!"access".equals(claims.get("type", String.class))) {
+                return Optional.empty();
             }
 
-            return Long.parseLong(claims.getSubject());
+            return Optional.of(new JwtPrincipal(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.getExpiration()));
         } catch (Exception e) {
-            throw new InvalidTokenException("유효하지 않은 Access Token입니다.");
+            // 만료, 형식 오류, 서명 검증 실패, subject 형식 오류 등
+            return Optional.empty();
         }
     }
 
+    /**
+     * Access Token에서 회원번호 추출
+     */
+    public Long getMemberIdFromAccessToken(String token) {
+        return parseAccessToken(token)
+                .map(JwtPrincipal::getMemberNo)
+                .orElseThrow(() -> new InvalidTokenException("유효하지 않은 Access Token입니다."));
+    }
+
     /**
      * Refresh Token에서 회원번호 추출
      */
     public Long getMemberIdFromRefreshToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getRefreshSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = refreshParser.parseSignedClaims(token).getPayload();
 
             String tokenType = claims.get("type", String.class);
             if (!"refresh".equals(tokenType)) {
@@ -172,43 +179,7 @@ public class JwtTokenProvider {
      * 모든 JWT 예외를 처리하여 false 반환
      */
     public boolean validateAccessToken(String token) {
-        if (token == null || token.trim().isEmpty()) {
-            return false;
-        }
-        
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getAccessSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            
-            // type 클레임 검증: access 토큰인지 확인
-            String tokenType = claims.get("type", String.class);
-            if (!"access".equals(tokenType)) {
-                return false; // access 타입이 아니면 false
-            }
-            
-            return true;
-        } catch (io.jsonwebtoken.ExpiredJwtException e) {
-            // 만료된 토큰
-            return false;
-        } catch (io.jsonwebtoken.MalformedJwtException e) {
-            // 잘못된 형식의 토큰
-            return false;
-        } catch (io.jsonwebtoken.UnsupportedJwtException e) {
-            // 지원하지 않는 토큰
-            return false;
-        } catch (io.jsonwebtoken.security.SignatureException e) {
-            // 서명 검증 실패
-            return false;
-        } catch (IllegalArgumentException e) {
-            // 빈 문자열 또는 null
-            return false;
-        } catch (Exception e) {
-            // 기타 예외
-            return false;
-        }
+        return parseAccessToken(token).isPresent();
     }
 
     /**
@@ -221,10 +192,7 @@ public class JwtTokenProvider {
         }
         
         try {
-            Jwts.parser()
-                    .verifyWith(getRefreshSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            refreshParser.parseSignedClaims(token);
             return true;
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
             // 만료된 토큰
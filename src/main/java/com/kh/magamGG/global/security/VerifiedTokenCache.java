@@ -0,0 +1,104 @@
+package com.kh.magamGG.global.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증 완료된 Access Token 캐시 (최대 maxSize건)
+ * - 키: 토큰 SHA-256 해시 (원문 토큰은 보관하지 않음), 스레드별 MessageDigest 재사용
+ * - ConcurrentHashMap이라 조회에 전역 잠금 없음
+ * - 토큰 exp 시각이 지나면 제거(조회 시 + 1분 주기 정리) → 만료 토큰은 다시 서명 검증을 거쳐 거부됨
+ * - 가득 차면 새 토큰은 캐시하지 않고 서명 검증만 수행 (만료 정리 후 다시 캐시)
+ * - 같은 토큰으로 반복 호출(대시보드 폴링 등) 시 서명 검증 대신 해시 조회
+ * - 적중률·항목 수는 만료 정리 로그로만 확인 (별도 메트릭 레지스트리 없음)
+ * Access Token은 원래 서버 측 폐기 없이 exp까지 유효하므로 캐시로 인한 인증 범위 변화는 없음
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final int maxSize;
+    private final ConcurrentHashMap<String, JwtPrincipal> cache = new ConcurrentHashMap<>(256);
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              @Value("${jwt.verified-cache-size:10000}") int maxSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 캐시 조회 후 없으면 서명 검증 (유효한 토큰만 캐시)
+     * @return 유효하면 JwtPrincipal, 아니면 empty
+     */
+    public Optional<JwtPrincipal> verify(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        String tokenHash = hash(token);
+
+        JwtPrincipal cached = cache.get(tokenHash);
+        if (cached != null) {
+            if (cached.getExpiration().getTime() > System.currentTimeMillis()) {
+                hitCount.incrementAndGet();
+                return Optional.of(cached);
+            }
+            cache.remove(tokenHash, cached);
+        }
+
+        missCount.incrementAndGet();
+        Optional<JwtPrincipal> principal = jwtTokenProvider.parseAccessToken(token);
+        principal.filter(p -> p.getExpiration() != null)
+                .filter(p -> cache.size() < maxSize)
+                .ifPresent(p -> cache.put(tokenHash, p));
+        return principal;
+    }
+
+    /**
+     * 다시 조회되지 않은 만료 항목 정리 (1분 간격)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        int before = cache.size();
+        cache.values().removeIf(p -> p.getExpiration().getTime() <= now);
+        int removed = before - cache.size();
+        if (removed > 0) {
+            log.debug("검증 토큰 캐시 만료 정리: {}건, 남은 항목={}, 적중률={}",
+                    removed, cache.size(), String.format("%.2f", hitRate()));
+        }
+    }
+
+    /** 캐시 적중률 (0.0 ~ 1.0, 조회 이력 없으면 0) */
+    private double hitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private static String hash(String token) {
+        byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+}
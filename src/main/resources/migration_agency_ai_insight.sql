@@ -0,0 +1,13 @@
+-- 에이전시 대시보드 AI 인사이트 사전 계산 테이블 (기존 DB 적용용)
+-- 건강 현황·리스크 요약·휴가 겹침·배정 균형 카드는 야간 배치 결과를 조회 (새로고침 시에만 즉시 재생성)
+-- 새 DB는 JPA ddl-auto 로 생성되며, 비어 있는 항목은 첫 조회 시 생성됨
+
+CREATE TABLE IF NOT EXISTS `AGENCY_AI_INSIGHT` (
+	`AGENCY_AI_INSIGHT_NO`	BIGINT	NOT NULL	AUTO_INCREMENT,
+	`AGENCY_NO`	BIGINT	NOT NULL,
+	`INSIGHT_TYPE`	VARCHAR(50)	NOT NULL	COMMENT 'AI API 경로 (예: agency/health-overview)',
+	`INSIGHT_TEXT`	TEXT	NOT NULL,
+	`GENERATED_AT`	DATETIME	NOT NULL,
+	CONSTRAINT `PK_AGENCY_AI_INSIGHT` PRIMARY KEY (`AGENCY_AI_INSIGHT_NO`),
+	CONSTRAINT `UK_AGENCY_AI_INSIGHT` UNIQUE (`AGENCY_NO`, `INSIGHT_TYPE`)
+);
@@ -0,0 +1,32 @@
+-- 에이전시 월별 마감 준수 집계 테이블 (기존 DB 적용용)
+-- 대시보드 평균 마감 준수율 추이(getComplianceTrend)가 KANBAN_CARD 전체 순회 대신 이 테이블을 조회
+-- 새 DB는 JPA ddl-auto 로 생성되며, 애플리케이션 기동 시 테이블이 비어 있으면 자동 백필됨
+
+-- 1) 테이블 생성
+CREATE TABLE IF NOT EXISTS `AGENCY_COMPLIANCE_MONTHLY` (
+	`AGENCY_COMPLIANCE_MONTHLY_NO`	BIGINT	NOT NULL	AUTO_INCREMENT,
+	`AGENCY_NO`	BIGINT	NOT NULL,
+	`ROLLUP_MONTH`	VARCHAR(7)	NOT NULL	COMMENT '마감 월 (yyyy-MM)',
+	`TOTAL_COUNT`	BIGINT	NOT NULL	DEFAULT 0,
+	`COMPLETED_COUNT`	BIGINT	NOT NULL	DEFAULT 0	COMMENT '완료(Y) 카드 수',
+	`LATE_COUNT`	BIGINT	NOT NULL	DEFAULT 0	COMMENT '미완료(N/D) 카드 수',
+	`UPDATED_AT`	DATETIME	NULL,
+	CONSTRAINT `PK_AGENCY_COMPLIANCE_MONTHLY` PRIMARY KEY (`AGENCY_COMPLIANCE_MONTHLY_NO`),
+	CONSTRAINT `UK_AGENCY_COMPLIANCE_MONTHLY` UNIQUE (`AGENCY_NO`, `ROLLUP_MONTH`)
+);
+
+-- 2) 과거 이력 백필 (재실행 시 기존 행 삭제 후 재생성)
+DELETE FROM `AGENCY_COMPLIANCE_MONTHLY`;
+INSERT INTO `AGENCY_COMPLIANCE_MONTHLY` (`AGENCY_NO`, `ROLLUP_MONTH`, `TOTAL_COUNT`, `COMPLETED_COUNT`, `LATE_COUNT`, `UPDATED_AT`)
+SELECT pa.`AGENCY_NO`, DATE_FORMAT(kc.`KANBAN_CARD_ENDED_AT`, '%Y-%m'), COUNT(*),
+       SUM(CASE WHEN kc.`KANBAN_CARD_STATUS` = 'Y' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN kc.`KANBAN_CARD_STATUS` = 'Y' THEN 0 ELSE 1 END),
+       NOW()
+FROM `KANBAN_CARD` kc
+JOIN `KANBAN_BOARD` kb ON kb.`KANBAN_BOARD_NO` = kc.`BOARD_NO`
+JOIN (SELECT DISTINCT pm.`PROJECT_NO`, m.`AGENCY_NO`
+      FROM `PROJECT_MEMBER` pm
+      JOIN `MEMBER` m ON m.`MEMBER_NO` = pm.`MEMBER_NO`
+      WHERE m.`AGENCY_NO` IS NOT NULL) pa ON pa.`PROJECT_NO` = kb.`PROJECT_NO`
+WHERE kc.`KANBAN_CARD_ENDED_AT` IS NOT NULL
+GROUP BY pa.`AGENCY_NO`, DATE_FORMAT(kc.`KANBAN_CARD_ENDED_AT`, '%Y-%m');
@@ -0,0 +1,13 @@
+-- 회원별 건강 위험 연속 일수 테이블 (기존 DB 적용용)
+-- 3일 연속 건강 위험 알림(HealthRiskNotificationService)이 회원별 최근 건강 체크 재조회 대신 이 테이블을 조회
+-- 새 DB는 JPA ddl-auto 로 생성되며, 애플리케이션 기동 시 테이블이 비어 있으면 DAILY_HEALTH_CHECK 이력으로 자동 백필됨
+
+CREATE TABLE IF NOT EXISTS `HEALTH_RISK_STREAK` (
+	`MEMBER_NO`	BIGINT	NOT NULL,
+	`LAST_CHECK_DATE`	DATE	NOT NULL	COMMENT '마지막 건강 체크 날짜',
+	`LAST_DAY_RISK`	CHAR(1)	NOT NULL	DEFAULT 'N'	COMMENT '마지막 체크 날짜 위험일 여부 (Y/N)',
+	`PREV_RISK_STREAK`	INT	NOT NULL	DEFAULT 0	COMMENT '마지막 체크 전날까지 연속 위험 일수',
+	`RISK_STREAK`	INT	NOT NULL	DEFAULT 0	COMMENT '마지막 체크 날짜까지 연속 위험 일수',
+	`UPDATED_AT`	DATETIME	NULL,
+	CONSTRAINT `PK_HEALTH_RISK_STREAK` PRIMARY KEY (`MEMBER_NO`)
+);
@@ -0,0 +1,37 @@
+-- 회원·연도별 연차 원장 테이블 (기존 DB 적용용)
+-- 직원 연차 관리 목록(getLeaveBalancesByAgency)이 회원별 LEAVE_BALANCE 조회 대신 이 테이블을 1회 조회
+-- 새 DB는 JPA ddl-auto 로 생성되며, 애플리케이션 기동 시 테이블이 비어 있으면 자동 백필됨
+
+-- 1) 테이블 생성
+CREATE TABLE IF NOT EXISTS `MEMBER_LEAVE_LEDGER` (
+	`MEMBER_LEAVE_LEDGER_NO`	BIGINT	NOT NULL	AUTO_INCREMENT,
+	`MEMBER_NO`	BIGINT	NOT NULL,
+	`LEDGER_YEAR`	VARCHAR(4)	NOT NULL	COMMENT '연도 (yyyy)',
+	`LEAVE_BALANCE_NO`	BIGINT	NULL	COMMENT '해당 연도 LEAVE_BALANCE (조정 이력만 있으면 NULL)',
+	`TOTAL_DAYS`	INT	NOT NULL	DEFAULT 0,
+	`USED_DAYS`	INT	NOT NULL	DEFAULT 0,
+	`REMAIN_DAYS`	DOUBLE	NOT NULL	DEFAULT 0,
+	`ADJUSTED_DAYS`	INT	NOT NULL	DEFAULT 0	COMMENT '해당 연도 LEAVE_HISTORY 조정 합계',
+	`UPDATED_AT`	DATETIME	NULL,
+	CONSTRAINT `PK_MEMBER_LEAVE_LEDGER` PRIMARY KEY (`MEMBER_LEAVE_LEDGER_NO`),
+	CONSTRAINT `UK_MEMBER_LEAVE_LEDGER` UNIQUE (`MEMBER_NO`, `LEDGER_YEAR`)
+);
+
+-- 2) 과거 이력 백필 (재실행 시 기존 행 삭제 후 재생성)
+DELETE FROM `MEMBER_LEAVE_LEDGER`;
+INSERT INTO `MEMBER_LEAVE_LEDGER` (`MEMBER_NO`, `LEDGER_YEAR`, `LEAVE_BALANCE_NO`, `TOTAL_DAYS`, `USED_DAYS`, `REMAIN_DAYS`, `ADJUSTED_DAYS`, `UPDATED_AT`)
+SELECT lb.`MEMBER_NO`, lb.`LEAVE_BALANCE_YEAR`, lb.`LEAVE_BALANCE_NO`,
+       COALESCE(lb.`LEAVE_BALANCE_TOTAL_DAYS`, 0), COALESCE(lb.`LEAVE_BALANCE_USED_DAYS`, 0),
+       COALESCE(lb.`LEAVE_BALANCE_REMAIN_DAYS`, 0), 0, NOW()
+FROM `LEAVE_BALANCE` lb
+JOIN (SELECT MAX(`LEAVE_BALANCE_NO`) AS `LEAVE_BALANCE_NO`
+      FROM `LEAVE_BALANCE`
+      GROUP BY `MEMBER_NO`, `LEAVE_BALANCE_YEAR`) latest ON latest.`LEAVE_BALANCE_NO` = lb.`LEAVE_BALANCE_NO`;
+
+INSERT INTO `MEMBER_LEAVE_LEDGER` (`MEMBER_NO`, `LEDGER_YEAR`, `LEAVE_BALANCE_NO`, `TOTAL_DAYS`, `USED_DAYS`, `REMAIN_DAYS`, `ADJUSTED_DAYS`, `UPDATED_AT`)
+SELECT lh.`MEMBER_NO`, CAST(YEAR(lh.`LEAVE_HISTORY_DATE`) AS CHAR(4)), NULL, 0, 0, 0,
+       COALESCE(SUM(lh.`LEAVE_HISTORY_AMOUNT`), 0), NOW()
+FROM `LEAVE_HISTORY` lh
+WHERE lh.`LEAVE_HISTORY_DATE` IS NOT NULL
+GROUP BY lh.`MEMBER_NO`, YEAR(lh.`LEAVE_HISTORY_DATE`)
+ON DUPLICATE KEY UPDATE `ADJUSTED_DAYS` = VALUES(`ADJUSTED_DAYS`), `UPDATED_AT` = NOW();
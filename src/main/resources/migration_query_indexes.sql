@@ -0,0 +1,40 @@
+-- 조회 경로 복합 인덱스 (기존 DB 적용용, 재실행 가능)
+-- 근태·근태 신청·칸반 카드·채팅 메시지·연차 이력의 기간 조건을 반열린 구간 [from, to) 비교로 바꾸면서
+-- 회원/에이전시/채팅방 + 시각 컬럼 순서로 인덱스를 둬 범위 스캔이 되도록 함
+-- 새 DB는 schema.sql 및 JPA 엔티티(@Table indexes)로 생성됨
+-- MySQL 8 은 CREATE INDEX IF NOT EXISTS 를 지원하지 않으므로 information_schema 로 존재 여부를 확인한 뒤 생성
+-- 적용 후 확인: EXPLAIN 결과 type 이 ALL 이 아니고 key 에 아래 인덱스가 잡히는지 확인 (QueryIndexExplainTest)
+
+-- 1) ATTENDANCE: 회원별 일/월 기록, 에이전시 금일 기록
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'ATTENDANCE' AND UPPER(index_name) = 'IDX_ATTENDANCE_MEMBER_TIME') = 0,
+    'CREATE INDEX `IDX_ATTENDANCE_MEMBER_TIME` ON `ATTENDANCE` (`MEMBER_NO`, `ATTENDANCE_TIME`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'ATTENDANCE' AND UPPER(index_name) = 'IDX_ATTENDANCE_AGENCY_TIME') = 0,
+    'CREATE INDEX `IDX_ATTENDANCE_AGENCY_TIME` ON `ATTENDANCE` (`AGENCY_NO`, `ATTENDANCE_TIME`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 2) ATTENDANCE_REQUEST: 회원별 승인 신청 기간 겹침 조회·중복 신청 검사
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'ATTENDANCE_REQUEST' AND UPPER(index_name) = 'IDX_ATTENDANCE_REQUEST_MEMBER_STATUS_START') = 0,
+    'CREATE INDEX `IDX_ATTENDANCE_REQUEST_MEMBER_STATUS_START` ON `ATTENDANCE_REQUEST` (`MEMBER_NO`, `ATTENDANCE_REQUEST_STATUS`, `ATTENDANCE_REQUEST_START_DATE`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 3) KANBAN_CARD: 보드(프로젝트)별 마감일 범위, 담당자별 상태·마감일
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'KANBAN_CARD' AND UPPER(index_name) = 'IDX_KANBAN_CARD_BOARD_ENDED') = 0,
+    'CREATE INDEX `IDX_KANBAN_CARD_BOARD_ENDED` ON `KANBAN_CARD` (`BOARD_NO`, `KANBAN_CARD_ENDED_AT`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'KANBAN_CARD' AND UPPER(index_name) = 'IDX_KANBAN_CARD_PROJECT_MEMBER_STATUS_ENDED') = 0,
+    'CREATE INDEX `IDX_KANBAN_CARD_PROJECT_MEMBER_STATUS_ENDED` ON `KANBAN_CARD` (`PROJECT_MEMBER_NO`, `KANBAN_CARD_STATUS`, `KANBAN_CARD_ENDED_AT`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 4) CHAT_MESSAGE: 채팅방별 입장 이후 메시지 목록·최근 메시지
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'CHAT_MESSAGE' AND UPPER(index_name) = 'IDX_CHAT_MESSAGE_ROOM_STATUS_CREATED') = 0,
+    'CREATE INDEX `IDX_CHAT_MESSAGE_ROOM_STATUS_CREATED` ON `CHAT_MESSAGE` (`CHAT_ROOM_NO`, `CHAT_STATUS`, `CHAT_MESSAGE_CREATED_AT`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'CHAT_MESSAGE' AND UPPER(index_name) = 'IDX_CHAT_MESSAGE_ROOM_CREATED') = 0,
+    'CREATE INDEX `IDX_CHAT_MESSAGE_ROOM_CREATED` ON `CHAT_MESSAGE` (`CHAT_ROOM_NO`, `CHAT_MESSAGE_CREATED_AT`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 5) LEAVE_HISTORY: 회원별 연도 조정 합계
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'LEAVE_HISTORY' AND UPPER(index_name) = 'IDX_LEAVE_HISTORY_MEMBER_DATE') = 0,
+    'CREATE INDEX `IDX_LEAVE_HISTORY_MEMBER_DATE` ON `LEAVE_HISTORY` (`MEMBER_NO`, `LEAVE_HISTORY_DATE`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
@@ -423,3 +423,32 @@ ALTER TABLE `PORTFOLIO` ADD COLUMN IF NOT EXISTS `NOTION_PAGE_ID` VARCHAR(36) NU
 ALTER TABLE `PORTFOLIO` ADD COLUMN IF NOT EXISTS `NOTION_PAGE_URL` VARCHAR(500) NULL;
 ALTER TABLE `PORTFOLIO` ADD COLUMN IF NOT EXISTS `NOTION_ACCESS_TOKEN` VARCHAR(500) NULL;
 ALTER TABLE `PORTFOLIO` ADD COLUMN IF NOT EXISTS `NOTION_WORKSPACE_NAME` VARCHAR(100) NULL;
+
+-- ============================================
+-- 조회 경로 복합 인덱스 (기간 조건은 [from, to) 범위 비교, migration_query_indexes.sql 과 동일)
+-- MySQL 8 은 CREATE INDEX IF NOT EXISTS 미지원 → information_schema 확인 후 생성
+-- ============================================
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'ATTENDANCE' AND UPPER(index_name) = 'IDX_ATTENDANCE_MEMBER_TIME') = 0,
+    'CREATE INDEX `IDX_ATTENDANCE_MEMBER_TIME` ON `ATTENDANCE` (`MEMBER_NO`, `ATTENDANCE_TIME`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'ATTENDANCE' AND UPPER(index_name) = 'IDX_ATTENDANCE_AGENCY_TIME') = 0,
+    'CREATE INDEX `IDX_ATTENDANCE_AGENCY_TIME` ON `ATTENDANCE` (`AGENCY_NO`, `ATTENDANCE_TIME`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'ATTENDANCE_REQUEST' AND UPPER(index_name) = 'IDX_ATTENDANCE_REQUEST_MEMBER_STATUS_START') = 0,
+    'CREATE INDEX `IDX_ATTENDANCE_REQUEST_MEMBER_STATUS_START` ON `ATTENDANCE_REQUEST` (`MEMBER_NO`, `ATTENDANCE_REQUEST_STATUS`, `ATTENDANCE_REQUEST_START_DATE`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'KANBAN_CARD' AND UPPER(index_name) = 'IDX_KANBAN_CARD_BOARD_ENDED') = 0,
+    'CREATE INDEX `IDX_KANBAN_CARD_BOARD_ENDED` ON `KANBAN_CARD` (`BOARD_NO`, `KANBAN_CARD_ENDED_AT`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'KANBAN_CARD' AND UPPER(index_name) = 'IDX_KANBAN_CARD_PROJECT_MEMBER_STATUS_ENDED') = 0,
+    'CREATE INDEX `IDX_KANBAN_CARD_PROJECT_MEMBER_STATUS_ENDED` ON `KANBAN_CARD` (`PROJECT_MEMBER_NO`, `KANBAN_CARD_STATUS`, `KANBAN_CARD_ENDED_AT`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'CHAT_MESSAGE' AND UPPER(index_name) = 'IDX_CHAT_MESSAGE_ROOM_STATUS_CREATED') = 0,
+    'CREATE INDEX `IDX_CHAT_MESSAGE_ROOM_STATUS_CREATED` ON `CHAT_MESSAGE` (`CHAT_ROOM_NO`, `CHAT_STATUS`, `CHAT_MESSAGE_CREATED_AT`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'CHAT_MESSAGE' AND UPPER(index_name) = 'IDX_CHAT_MESSAGE_ROOM_CREATED') = 0,
+    'CREATE INDEX `IDX_CHAT_MESSAGE_ROOM_CREATED` ON `CHAT_MESSAGE` (`CHAT_ROOM_NO`, `CHAT_MESSAGE_CREATED_AT`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND UPPER(table_name) = 'LEAVE_HISTORY' AND UPPER(index_name) = 'IDX_LEAVE_HISTORY_MEMBER_DATE') = 0,
+    'CREATE INDEX `IDX_LEAVE_HISTORY_MEMBER_DATE` ON `LEAVE_HISTORY` (`MEMBER_NO`, `LEAVE_HISTORY_DATE`)', 'SELECT 1');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
@@ -0,0 +1,173 @@
+package com.kh.magamGG.domain.attendance.service;
+
+import com.kh.magamGG.domain.attendance.service.AttendanceIntervals.Span;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AttendanceIntervals 회귀 테스트
+ * 대체하기 전의 방식(날짜를 하루씩 돌며 신청 목록에서 처음 걸리는 신청 적용 / 신청 기간의 날짜마다 이벤트 생성)을
+ * 그대로 옮긴 기준 구현과 날짜 단위로 비교
+ */
+class AttendanceIntervalsTest {
+
+    private static final LocalDate MONTH_START = LocalDate.of(2026, 2, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2026, 2, 28);
+
+    @Test
+    void resolve_earlierRequestInListWinsOnOverlap() {
+        List<Span<String>> requests = List.of(
+                span(3, 10, "연차"),
+                span(1, 5, "재택"),
+                span(8, 12, "병가"));
+
+        List<Span<String>> resolved = AttendanceIntervals.resolve(requests, MONTH_START, MONTH_END);
+
+        assertThat(resolved).containsExactly(
+                span(1, 2, "재택"),
+                span(3, 10, "연차"),
+                span(11, 12, "병가"));
+    }
+
+    @Test
+    void resolve_clipsToRangeAndSkipsOutsideRequests() {
+        List<Span<String>> requests = List.of(
+                new Span<>(LocalDate.of(2026, 1, 28), LocalDate.of(2026, 2, 2), "연차"),
+                new Span<>(LocalDate.of(2026, 2, 27), LocalDate.of(2026, 3, 3), "휴재"),
+                new Span<>(LocalDate.of(2026, 3, 5), LocalDate.of(2026, 3, 6), "병가"));
+
+        List<Span<String>> resolved = AttendanceIntervals.resolve(requests, MONTH_START, MONTH_END);
+
+        assertThat(resolved).containsExactly(
+                span(1, 2, "연차"),
+                span(27, 28, "휴재"));
+        assertThat(resolved.get(0).days()).isEqualTo(2);
+    }
+
+    @Test
+    void resolve_emptyInput() {
+        assertThat(AttendanceIntervals.resolve(List.<Span<String>>of(), MONTH_START, MONTH_END)).isEmpty();
+    }
+
+    @Test
+    void resolve_matchesPerDayLoop_randomized() {
+        Random random = new Random(20260218L);
+        for (int round = 0; round < 500; round++) {
+            List<Span<String>> requests = randomRequests(random, 1 + random.nextInt(12));
+
+            List<Span<String>> resolved = AttendanceIntervals.resolve(requests, MONTH_START, MONTH_END);
+
+            assertThat(expand(resolved)).as("round %d: %s", round, requests)
+                    .isEqualTo(perDayFirstMatch(requests));
+            for (int i = 1; i < resolved.size(); i++) {
+                assertThat(resolved.get(i).start()).isAfter(resolved.get(i - 1).end());
+            }
+        }
+    }
+
+    @Test
+    void merge_joinsOverlappingAndAdjacentSpansPerValue() {
+        List<Span<String>> spans = List.of(
+                span(5, 8, "1:연차"),
+                span(1, 3, "1:연차"),
+                span(4, 4, "1:연차"),
+                span(2, 6, "2:연차"),
+                span(10, 12, "1:연차"));
+
+        List<Span<String>> merged = AttendanceIntervals.merge(spans);
+
+        assertThat(merged).containsExactlyInAnyOrder(
+                span(1, 8, "1:연차"),
+                span(10, 12, "1:연차"),
+                span(2, 6, "2:연차"));
+        for (int i = 1; i < merged.size(); i++) {
+            assertThat(merged.get(i).start()).isAfterOrEqualTo(merged.get(i - 1).start());
+        }
+    }
+
+    @Test
+    void merge_coversSameDaysAsPerDayEvents_randomized() {
+        Random random = new Random(20260219L);
+        for (int round = 0; round < 500; round++) {
+            List<Span<String>> requests = randomRequests(random, 1 + random.nextInt(12));
+
+            List<Span<String>> merged = AttendanceIntervals.merge(requests);
+
+            // 기존 캘린더: 신청마다 기간 내 모든 날짜에 이벤트 → (값, 날짜) 중복 제거한 집합과 같아야 함
+            assertThat(daysByValue(merged)).as("round %d: %s", round, requests)
+                    .isEqualTo(daysByValue(requests));
+            assertNoOverlapOrAdjacency(merged);
+        }
+    }
+
+    /** 대체 전 통계 루프: 날짜마다 신청 목록을 순서대로 훑어 처음 걸리는 신청의 값 */
+    private static Map<LocalDate, String> perDayFirstMatch(List<Span<String>> requests) {
+        Map<LocalDate, String> result = new TreeMap<>();
+        for (LocalDate day = MONTH_START; !day.isAfter(MONTH_END); day = day.plusDays(1)) {
+            for (Span<String> req : requests) {
+                if (!day.isBefore(req.start()) && !day.isAfter(req.end())) {
+                    result.put(day, req.value());
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Map<LocalDate, String> expand(List<Span<String>> spans) {
+        Map<LocalDate, String> result = new TreeMap<>();
+        for (Span<String> span : spans) {
+            for (LocalDate day = span.start(); !day.isAfter(span.end()); day = day.plusDays(1)) {
+                assertThat(result.put(day, span.value())).as("겹치는 구간: %s", day).isNull();
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Set<LocalDate>> daysByValue(List<Span<String>> spans) {
+        Map<String, Set<LocalDate>> result = new HashMap<>();
+        for (Span<String> span : spans) {
+            for (LocalDate day = span.start(); !day.isAfter(span.end()); day = day.plusDays(1)) {
+                result.computeIfAbsent(span.value(), k -> new TreeSet<>()).add(day);
+            }
+        }
+        return result;
+    }
+
+    private static void assertNoOverlapOrAdjacency(List<Span<String>> merged) {
+        Map<String, Span<String>> lastByValue = new HashMap<>();
+        for (Span<String> span : merged) {
+            Span<String> last = lastByValue.put(span.value(), span);
+            if (last != null) {
+                assertThat(span.start()).isAfter(last.end().plusDays(1));
+            }
+        }
+    }
+
+    /** 월 경계를 넘는 신청도 섞인 임의 신청 목록 (값은 회원:유형 형태) */
+    private static List<Span<String>> randomRequests(Random random, int count) {
+        String[] values = {"1:연차", "1:재택", "2:연차", "2:병가", "3:휴재"};
+        List<Span<String>> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate start = MONTH_START.minusDays(5).plusDays(random.nextInt(38));
+            LocalDate end = start.plusDays(random.nextInt(10));
+            requests.add(new Span<>(start, end, values[random.nextInt(values.length)]));
+        }
+        return requests;
+    }
+
+    private static Span<String> span(int startDay, int endDay, String value) {
+        return new Span<>(MONTH_START.withDayOfMonth(startDay), MONTH_START.withDayOfMonth(endDay), value);
+    }
+}
@@ -0,0 +1,154 @@
+package com.kh.magamGG.domain.health.service;
+
+import com.kh.magamGG.domain.health.entity.HealthRiskStreak;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HealthRiskDetector.advance 회귀 테스트
+ * 대체하기 전의 판정(최근 체크 10건의 최근 3개 날짜가 연속이고 세 날짜 모두 위험 체크가 있음)을
+ * 그대로 옮긴 기준 구현과 체크 1건마다 비교
+ */
+class HealthRiskDetectorTest {
+
+    private static final Long MEMBER_NO = 7L;
+    private static final LocalDate DAY1 = LocalDate.of(2026, 3, 1);
+
+    private record Check(LocalDate date, boolean risky) {
+    }
+
+    @Test
+    void isRiskCondition_requiresTiredShortSleepAndHighDiscomfort() {
+        assertThat(HealthRiskDetector.isRiskCondition("피곤함", 4, 8)).isTrue();
+        assertThat(HealthRiskDetector.isRiskCondition("피곤함", 5, 10)).isFalse();
+        assertThat(HealthRiskDetector.isRiskCondition("피곤함", 3, 7)).isFalse();
+        assertThat(HealthRiskDetector.isRiskCondition("피곤함", null, 10)).isFalse();
+        assertThat(HealthRiskDetector.isRiskCondition("피곤함", 4, null)).isFalse();
+        assertThat(HealthRiskDetector.isRiskCondition("좋음", 2, 10)).isFalse();
+    }
+
+    @Test
+    void advance_threeConsecutiveRiskyDays() {
+        HealthRiskStreak streak = replay(List.of(
+                new Check(DAY1, true),
+                new Check(DAY1.plusDays(1), true),
+                new Check(DAY1.plusDays(2), true)));
+
+        assertThat(streak.getRiskStreak()).isEqualTo(3);
+    }
+
+    @Test
+    void advance_gapDayRestartsStreak() {
+        HealthRiskStreak streak = replay(List.of(
+                new Check(DAY1, true),
+                new Check(DAY1.plusDays(1), true),
+                new Check(DAY1.plusDays(3), true)));
+
+        assertThat(streak.getRiskStreak()).isEqualTo(1);
+        assertThat(streak.getPrevRiskStreak()).isZero();
+    }
+
+    @Test
+    void advance_sameDayRecheckTurnsDayRiskyButNotBack() {
+        HealthRiskStreak streak = replay(List.of(
+                new Check(DAY1, true),
+                new Check(DAY1.plusDays(1), true),
+                new Check(DAY1.plusDays(2), false)));
+        assertThat(streak.getRiskStreak()).isZero();
+
+        streak = HealthRiskDetector.advance(streak, MEMBER_NO, DAY1.plusDays(2), true);
+        assertThat(streak.getRiskStreak()).isEqualTo(3);
+
+        streak = HealthRiskDetector.advance(streak, MEMBER_NO, DAY1.plusDays(2), false);
+        assertThat(streak.getRiskStreak()).isEqualTo(3);
+        assertThat(streak.getLastDayRisk()).isEqualTo("Y");
+    }
+
+    @Test
+    void advance_ignoresPastDate() {
+        HealthRiskStreak streak = replay(List.of(
+                new Check(DAY1, true),
+                new Check(DAY1.plusDays(1), true)));
+
+        streak = HealthRiskDetector.advance(streak, MEMBER_NO, DAY1, false);
+
+        assertThat(streak.getLastCheckDate()).isEqualTo(DAY1.plusDays(1));
+        assertThat(streak.getRiskStreak()).isEqualTo(2);
+    }
+
+    @Test
+    void advance_matchesFindTop10Logic_randomized() {
+        Random random = new Random(20260301L);
+        for (int round = 0; round < 2_000; round++) {
+            List<Check> history = new ArrayList<>();
+            HealthRiskStreak streak = null;
+            LocalDate date = DAY1;
+            int checks = 1 + random.nextInt(25);
+            for (int i = 0; i < checks; i++) {
+                // 같은 날 재체크(최대 하루 3건) / 다음 날 / 하루 이상 건너뜀
+                int step = random.nextInt(10);
+                LocalDate current = date;
+                long sameDayCount = history.stream().filter(c -> c.date().equals(current)).count();
+                if (!history.isEmpty() && (step >= 2 || sameDayCount >= 3)) {
+                    date = date.plusDays(step < 8 ? 1 : 2 + random.nextInt(3));
+                }
+                Check check = new Check(date, random.nextInt(4) != 0);
+                history.add(check);
+                streak = HealthRiskDetector.advance(streak, MEMBER_NO, check.date(), check.risky());
+
+                assertThat(streak.getRiskStreak() >= 3)
+                        .as("round %d, history %s", round, history)
+                        .isEqualTo(hasThreeConsecutiveRiskDays(history));
+            }
+        }
+    }
+
+    /**
+     * 대체 전 판정: findTop10ByMember_MemberNoOrderByHealthCheckCreatedAtDesc 결과로
+     * 최근 3개 날짜가 연속이고 세 날짜 모두 위험 조건 체크가 있으면 true
+     * (하루 체크가 3건 이하면 최근 10건이 최근 3일을 모두 포함하므로 10건 제한의 영향 없음)
+     */
+    private static boolean hasThreeConsecutiveRiskDays(List<Check> history) {
+        List<Check> recent = new ArrayList<>(history.subList(Math.max(0, history.size() - 10), history.size()));
+        if (recent.size() < 3) return false;
+
+        List<LocalDate> dates = recent.stream()
+                .map(Check::date)
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .limit(3)
+                .collect(Collectors.toList());
+        if (dates.size() < 3) return false;
+
+        for (int i = 0; i < dates.size() - 1; i++) {
+            if (!dates.get(i).minusDays(1).equals(dates.get(i + 1))) return false;
+        }
+
+        Set<LocalDate> targetDates = new HashSet<>(dates);
+        long matchCount = recent.stream()
+                .filter(c -> targetDates.contains(c.date()))
+                .filter(Check::risky)
+                .map(Check::date)
+                .distinct()
+                .count();
+        return matchCount >= 3;
+    }
+
+    private static HealthRiskStreak replay(List<Check> checks) {
+        HealthRiskStreak streak = null;
+        for (Check check : checks) {
+            streak = HealthRiskDetector.advance(streak, MEMBER_NO, check.date(), check.risky());
+        }
+        return streak;
+    }
+}
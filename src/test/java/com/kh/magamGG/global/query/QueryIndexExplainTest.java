@@ -0,0 +1,162 @@
+package com.kh.magamGG.global.query;
+
+import com.kh.magamGG.domain.attendance.repository.AttendanceRepository;
+import com.kh.magamGG.domain.chat.entity.ChatRoom;
+import com.kh.magamGG.domain.chat.repository.ChatMessageRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 경로 인덱스 회귀 테스트 (MySQL 8 EXPLAIN)
+ * 실제 리포지토리가 만든 SQL을 그대로 EXPLAIN 해서 풀 스캔(type = ALL)으로 떨어지지 않고
+ * migration_query_indexes.sql / @Table indexes 의 인덱스를 타는지 확인. Docker가 없으면 건너뜀
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.kh.magamGG.global.query.QueryIndexExplainTest$SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class QueryIndexExplainTest {
+
+    private static final int AGENCIES = 20;
+    private static final int MEMBERS_PER_AGENCY = 10;
+    private static final int DAYS = 30;
+    private static final int CHAT_ROOMS = 20;
+    private static final int MESSAGES_PER_ROOM = 500;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @BeforeEach
+    void seed() {
+        // 부모 행 없이 조회 대상 테이블만 채움 (같은 트랜잭션 커넥션에서 FK 검사 해제)
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
+
+        List<Object[]> attendances = new ArrayList<>();
+        for (int agency = 1; agency <= AGENCIES; agency++) {
+            for (int m = 1; m <= MEMBERS_PER_AGENCY; m++) {
+                long memberNo = (long) (agency - 1) * MEMBERS_PER_AGENCY + m;
+                for (int d = 0; d < DAYS; d++) {
+                    LocalDateTime day = FIRST_DAY.plusDays(d).atStartOfDay();
+                    attendances.add(new Object[]{memberNo, agency, "출근", Timestamp.valueOf(day.plusHours(9))});
+                    attendances.add(new Object[]{memberNo, agency, "퇴근", Timestamp.valueOf(day.plusHours(18))});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO attendance (member_no, agency_no, attendance_type, attendance_time) VALUES (?, ?, ?, ?)",
+                attendances);
+
+        List<Object[]> messages = new ArrayList<>();
+        for (int room = 1; room <= CHAT_ROOMS; room++) {
+            for (int i = 0; i < MESSAGES_PER_ROOM; i++) {
+                LocalDateTime createdAt = FIRST_DAY.atStartOfDay().plusMinutes((long) i * 90);
+                messages.add(new Object[]{1L, room, i % 10 == 0 ? "N" : "Y", "메시지 " + i, Timestamp.valueOf(createdAt), "message"});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO chat_message (member_no, chat_room_no, chat_status, chat_message, chat_message_created_at, chat_message_type) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", messages);
+
+        jdbcTemplate.execute("ANALYZE TABLE attendance, chat_message");
+        SqlCapture.clear();
+    }
+
+    @Test
+    void findByAgencyNoAndRangeUsesAgencyTimeIndex() {
+        LocalDateTime from = FIRST_DAY.plusDays(10).atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+        attendanceRepository.findByAgencyNoAndRange(3L, from, to);
+
+        assertUsesIndex(SqlCapture.lastSelect(), "IDX_ATTENDANCE_AGENCY_TIME", 3L, from, to);
+    }
+
+    @Test
+    void findTodayLastAttendanceByMemberNoUsesMemberTimeIndex() {
+        LocalDateTime dayStart = FIRST_DAY.plusDays(10).atStartOfDay();
+        LocalDateTime nextDayStart = dayStart.plusDays(1);
+        attendanceRepository.findTodayLastAttendanceByMemberNo(42L, dayStart, nextDayStart);
+
+        assertUsesIndex(SqlCapture.lastSelect(), "IDX_ATTENDANCE_MEMBER_TIME", 42L, dayStart, nextDayStart);
+    }
+
+    @Test
+    void chatMessagesSinceJoinUseRoomStatusCreatedIndex() {
+        ChatRoom chatRoom = ChatRoom.builder().chatRoomNo(5L).build();
+        LocalDateTime joinedAt = FIRST_DAY.plusDays(20).atStartOfDay();
+        int pageSize = 30;
+        chatMessageRepository.findAllByChatRoomAndChatStatusAndChatMessageCreatedAtGreaterThanEqualOrderByChatMessageCreatedAtDesc(
+                chatRoom, "Y", joinedAt, PageRequest.of(0, pageSize));
+
+        // Slice 조회는 다음 페이지 확인용으로 pageSize + 1건을 limit 파라미터로 바인딩
+        assertUsesIndex(SqlCapture.lastSelect(), "IDX_CHAT_MESSAGE_ROOM_STATUS_CREATED", 5L, "Y", joinedAt, pageSize + 1);
+    }
+
+    /** 바인딩 순서대로 파라미터를 넣어 EXPLAIN, 모든 행이 풀 스캔이 아니고 기대 인덱스를 사용하는지 확인 */
+    private void assertUsesIndex(String sql, String expectedIndex, Object... params) {
+        assertThat(sql).as("리포지토리 SELECT SQL").isNotNull();
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, params);
+        assertThat(plan).isNotEmpty();
+        for (Map<String, Object> row : plan) {
+            assertThat(String.valueOf(row.get("type"))).as("EXPLAIN type: %s", plan).isNotEqualToIgnoringCase("ALL");
+            assertThat(String.valueOf(row.get("key"))).as("EXPLAIN key: %s", plan).isEqualToIgnoringCase(expectedIndex);
+        }
+    }
+
+    /** Hibernate가 실행하는 SQL 기록 (EXPLAIN 대상) */
+    public static class SqlCapture implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static String lastSelect() {
+            for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+                String sql = STATEMENTS.get(i);
+                if (sql.trim().toLowerCase().startsWith("select")) {
+                    return sql;
+                }
+            }
+            return null;
+        }
+    }
+}